@@ -27,4 +27,20 @@ public interface RestAPILogger extends BasicLogger {
     @LogMessage(level = Logger.Level.WARN)
     void exceptionAccessingRestAPI(@Cause Throwable ex);
 
+    @Message(id = 70501, value = "JBeret Rest API resource methods run on virtual threads, with max concurrency %s")
+    @LogMessage(level = Logger.Level.INFO)
+    void virtualThreadsEnabled(int maxConcurrency);
+
+    @Message(id = 70502, value = "Virtual threads are not available, and JBeret Rest API resource methods run on container threads")
+    @LogMessage(level = Logger.Level.WARN)
+    void virtualThreadsNotAvailable(@Cause Throwable ex);
+
+    @Message(id = 70503, value = "Client error when accessing JBeret Rest API: %s (%s similar messages suppressed)")
+    @LogMessage(level = Logger.Level.DEBUG)
+    void clientErrorAccessingRestAPI(String ex, int suppressed);
+
+    @Message(id = 70504, value = "Failed to query peer JBeret Rest API %s, which is left out of the aggregated result")
+    @LogMessage(level = Logger.Level.DEBUG)
+    void failToQueryPeer(String peer, @Cause Throwable ex);
+
 }
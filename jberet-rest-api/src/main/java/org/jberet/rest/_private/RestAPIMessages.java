@@ -10,10 +10,14 @@
 
 package org.jberet.rest._private;
 
+import java.util.Collection;
 import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.NotSupportedException;
+import jakarta.ws.rs.ServiceUnavailableException;
 
 import org.jboss.logging.Messages;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageBundle;
 import org.jboss.logging.annotations.ValidIdRange;
@@ -32,4 +36,40 @@ public interface RestAPIMessages {
     @Message(id = 70002, value = "The resource identified is not found: %s = %s")
     NotFoundException notFoundException(String key, String value);
 
+    @Message(id = 70003, value = "Either jobName or jobExecutionId must be specified in job schedule config")
+    String missingJobNameAndJobExecutionId();
+
+    @Message(id = 70004, value = "Idempotency key %s has been used for a request with different job parameters or job definition")
+    BadRequestException idempotencyKeyReused(String key);
+
+    @Message(id = 70005, value = "Maximum number of running job executions reached: %d")
+    String maxRunningJobsReached(int maxRunningJobs);
+
+    @Message(id = 70006, value = "Maximum number of running job executions of job %s reached: %d")
+    String maxRunningJobsPerJobReached(String jobName, int maxRunningJobs);
+
+    @Message(id = 70007, value = "Job start rate limit exceeded: %d per second")
+    String startRateExceeded(int startsPerSecond);
+
+    @Message(id = 70008, value = "Job start rate limit of job %s exceeded: %d per second")
+    String startRatePerJobExceeded(String jobName, int startsPerSecond);
+
+    @Message(id = 70009, value = "Job start queue is full: %d")
+    ServiceUnavailableException jobStartQueueFull(int capacity);
+
+    @Message(id = 70010, value = "Invalid job definition %s: %s")
+    BadRequestException invalidJobDefinition(String name, String reason, @Cause Throwable cause);
+
+    @Message(id = 70011, value = "Unsupported job definition media type %s, expecting one of %s")
+    NotSupportedException unsupportedJobDefinitionMediaType(String mediaType, Collection<String> supported);
+
+    @Message(id = 70012, value = "Invalid job definition patch for job execution %d: %s")
+    BadRequestException invalidJobDefinitionPatch(long jobExecutionId, String reason, @Cause Throwable cause);
+
+    @Message(id = 70013, value = "Job definition of job execution %d is not available")
+    NotFoundException jobDefinitionNotAvailable(long jobExecutionId, @Cause Throwable cause);
+
+    @Message(id = 70014, value = "Invalid %s job definition: %s")
+    BadRequestException invalidJobDefinitionContent(String mediaType, String reason, @Cause Throwable cause);
+
 }
@@ -10,18 +10,53 @@
 
 package org.jberet.rest.client;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.ClientRequestFilter;
 import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.client.Invocation;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriBuilder;
 
+import org.jberet.rest.entity.JobDefinitionEntity;
+import org.jberet.rest.entity.JobEntity;
 import org.jberet.rest.entity.JobExecutionEntity;
 import org.jberet.rest.entity.JobInstanceEntity;
+import org.jberet.rest.entity.JobScheduleResultEntity;
+import org.jberet.rest.entity.JobScheduleSummaryEntity;
+import org.jberet.rest.entity.JobValidationEntity;
+import org.jberet.rest.entity.QueuedJobEntity;
 import org.jberet.rest.entity.StepExecutionEntity;
+import org.jberet.rest.resource.JobDefinitionResource;
 import org.jberet.rest.resource.JobExecutionResource;
 import org.jberet.rest.resource.JobInstanceResource;
 import org.jberet.rest.resource.JobResource;
@@ -35,8 +70,59 @@ import org.jberet.schedule.JobScheduleConfig;
  * @since 1.3.0
  */
 public class BatchClient {
+    /**
+     * The default number of elements to fetch per request when streaming
+     * job instances or job executions.
+     *
+     * @since 3.0.1.Final
+     */
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    /**
+     * The request header carrying the idempotency key of job start and submit requests.
+     *
+     * @since 3.0.1.Final
+     */
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    /**
+     * How long a REST URL is left out of load balancing after a failed request
+     * or health check, unless a later health check finds it healthy again.
+     *
+     * @since 3.0.1.Final
+     */
+    public static final long EJECTION_MILLIS = 10000;
+
+    /**
+     * How requests are spread over the REST URLs of a {@code BatchClient}.
+     *
+     * @since 3.0.1.Final
+     */
+    public enum LoadBalancing {
+        /**
+         * Send requests to each REST URL in turn.
+         */
+        ROUND_ROBIN,
+
+        /**
+         * Send each request to the REST URL with the fewest requests in progress
+         * from this {@code BatchClient}, taking them in turn when tied.
+         */
+        LEAST_OUTSTANDING_REQUESTS
+    }
+
     private final Client client;
-    private final String restUrl;
+
+    private final Endpoint[] endpoints;
+
+    private final LoadBalancing loadBalancing;
+
+    private final AtomicInteger nextEndpoint = new AtomicInteger();
+
+    /**
+     * Cache of results that no longer change, or null if caching is not enabled.
+     */
+    private final ResponseCache cache;
 
     /**
      * Constructs {@code BatchClient} with the specified REST URL.
@@ -55,8 +141,70 @@ public class BatchClient {
      * @param restUrl REST URL, for example, http://localhost:8080/app1/api
      */
     public BatchClient(final Client client, final String restUrl) {
+        this(client, Collections.singletonList(restUrl), LoadBalancing.ROUND_ROBIN);
+    }
+
+    /**
+     * Constructs {@code BatchClient} with the REST URLs of several servers sharing
+     * the same job repository, and round-robin load balancing.
+     *
+     * @param restUrls REST URLs, for example, http://host1:8080/app1/api and http://host2:8080/app1/api
+     *
+     * @see #BatchClient(Client, List, LoadBalancing)
+     * @since 3.0.1.Final
+     */
+    public BatchClient(final List<String> restUrls) {
+        this(ClientBuilder.newClient(), restUrls, LoadBalancing.ROUND_ROBIN);
+    }
+
+    /**
+     * Constructs {@code BatchClient} with the specified {@code jakarta.ws.rs.client.Client},
+     * the REST URLs of several servers sharing the same job repository, and load balancing.
+     * <p>
+     * Each request is sent to one REST URL chosen by {@code loadBalancing}. A REST URL is
+     * left out for {@value #EJECTION_MILLIS} milliseconds after a request to it fails to
+     * connect or is answered with status 502, 503 or 504, or after it fails
+     * {@link #checkHealth()}. If all REST URLs are left out, all of them are used again.
+     * Requests that only read data, such as {@link #getJobExecution(long)}, are retried
+     * once on each of the other REST URLs when they fail this way; requests that change
+     * data, such as {@link #startJob(String, Properties)}, are never retried, since
+     * the first attempt may have taken effect, except job start and submit requests with
+     * an idempotency key, such as {@link #startJob(String, Properties, String)}, which the
+     * server answers with the job execution already started by an earlier attempt.
+     * <p>
+     * An ejected REST URL is used again when its ejection expires, or as soon as
+     * {@link #checkHealth()} finds it healthy. {@link Builder#healthCheckInterval(long, TimeUnit)}
+     * runs the health check periodically in the background.
+     * <p>
+     * Registered job definitions, such as {@link #putJobDefinition(String, String)}, are
+     * held in the memory of each server, so requests on them are always sent to the first
+     * REST URL, without load balancing or retry.
+     *
+     * @param client {@code jakarta.ws.rs.client.Client}
+     * @param restUrls REST URLs, for example, http://host1:8080/app1/api and http://host2:8080/app1/api
+     * @param loadBalancing how requests are spread over {@code restUrls}
+     *
+     * @since 3.0.1.Final
+     */
+    public BatchClient(final Client client, final List<String> restUrls, final LoadBalancing loadBalancing) {
+        this(client, restUrls, loadBalancing, null, 0);
+    }
+
+    private BatchClient(final Client client, final List<String> restUrls, final LoadBalancing loadBalancing,
+                        final ResponseCache cache, final long healthCheckIntervalMillis) {
+        if (restUrls.isEmpty()) {
+            throw new IllegalArgumentException("No REST URL");
+        }
         this.client = client;
-        this.restUrl = restUrl;
+        this.loadBalancing = loadBalancing;
+        this.cache = cache;
+        this.endpoints = new Endpoint[restUrls.size()];
+        for (int i = 0; i < endpoints.length; i++) {
+            endpoints[i] = new Endpoint(client, restUrls.get(i));
+        }
+        if (healthCheckIntervalMillis > 0 && endpoints.length > 1) {
+            scheduleHealthChecks(healthCheckIntervalMillis);
+        }
     }
 
     /**
@@ -68,11 +216,81 @@ public class BatchClient {
     }
 
     /**
-     * Gets the REST URL for this {@code BatchClient}.
+     * Gets the REST URL for this {@code BatchClient}. If it has several REST URLs,
+     * the first one is returned.
      * @return REST URL, for example, http://localhost:8080/app1/api
      */
     public String getRestUrl() {
-        return restUrl;
+        return endpoints[0].getRestUrl();
+    }
+
+    /**
+     * Gets all REST URLs of this {@code BatchClient}.
+     *
+     * @return REST URLs, in the order they were specified
+     *
+     * @since 3.0.1.Final
+     */
+    public List<String> getRestUrls() {
+        final List<String> restUrls = new ArrayList<>(endpoints.length);
+        for (final Endpoint endpoint : endpoints) {
+            restUrls.add(endpoint.getRestUrl());
+        }
+        return restUrls;
+    }
+
+    /**
+     * Checks the health of each REST URL with an {@code OPTIONS} request, and
+     * updates which REST URLs are used for load balancing. A REST URL that answers
+     * with a status below 500 is used again right away, even if it was left out
+     * after a failed request; any other REST URL is left out for
+     * {@value #EJECTION_MILLIS} milliseconds.
+     *
+     * @return the healthy REST URLs
+     *
+     * @since 3.0.1.Final
+     */
+    public List<String> checkHealth() {
+        final List<String> healthy = new ArrayList<>(endpoints.length);
+        for (final Endpoint endpoint : endpoints) {
+            boolean ok;
+            try {
+                final Response response = endpoint.target(JobResource.class, null).request().options();
+                response.close();
+                ok = response.getStatus() < 500;
+            } catch (ProcessingException e) {
+                ok = false;
+            }
+            if (ok) {
+                endpoint.restore();
+                healthy.add(endpoint.getRestUrl());
+            } else {
+                endpoint.eject(System.nanoTime(), TimeUnit.MILLISECONDS.toNanos(EJECTION_MILLIS));
+            }
+        }
+        return healthy;
+    }
+
+    /**
+     * Runs {@link #checkHealth()} periodically on a daemon thread, until the
+     * {@code Client} is closed.
+     */
+    private void scheduleHealthChecks(final long intervalMillis) {
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, "BatchClient health check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                checkHealth();
+            } catch (IllegalStateException e) {
+                //the client has been closed
+                scheduler.shutdown();
+            } catch (RuntimeException e) {
+                //keep checking at the next interval
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
     }
 
     /**
@@ -83,9 +301,35 @@ public class BatchClient {
      * @throws Exception if errors occur
      */
     public JobExecutionEntity startJob(final String jobXmlName, final Properties queryParams) throws Exception {
-        final URI uri = getJobUriBuilder("start").resolveTemplate("jobXmlName", jobXmlName).build();
-        WebTarget target = target(uri, queryParams);
-        return target.request().post(Entity.entity(null, MediaType.APPLICATION_JSON_TYPE), JobExecutionEntity.class);
+        return call(false, endpoint -> {
+            final WebTarget target = queryParams(endpoint.target(JobResource.class, "start")
+                    .resolveTemplate("jobXmlName", jobXmlName), queryParams);
+            return target.request().post(Entity.entity(null, MediaType.APPLICATION_JSON_TYPE), JobExecutionEntity.class);
+        });
+    }
+
+    /**
+     * Starts the job specified by the job XML name and job parameters, with an idempotency key.
+     * If a job execution has already been started for the same job and idempotency key,
+     * that job execution is returned instead of starting a new one, so that the call can be
+     * safely retried, for instance, after a timeout. The request is retried on the other
+     * REST URLs if the chosen one is unavailable.
+     *
+     * @param jobXmlName job XML name for the job to start
+     * @param queryParams job parameters
+     * @param idempotencyKey key identifying this start request across retries, e.g., a random UUID
+     * @return the new or previously started job execution entity
+     *
+     * @since 3.0.1.Final
+     */
+    public JobExecutionEntity startJob(final String jobXmlName, final Properties queryParams,
+                                       final String idempotencyKey) {
+        return call(true, endpoint -> {
+            final WebTarget target = queryParams(endpoint.target(JobResource.class, "start")
+                    .resolveTemplate("jobXmlName", jobXmlName), queryParams);
+            return target.request().header(IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                    .post(Entity.entity(null, MediaType.APPLICATION_JSON_TYPE), JobExecutionEntity.class);
+        });
     }
 
     /**
@@ -97,9 +341,254 @@ public class BatchClient {
      * @since 1.3.0.Final
      */
     public JobExecutionEntity submitJob(final String jobDefinition, final Properties queryParams) {
-        final URI uri = getJobUriBuilder("submit").build();
-        WebTarget target = target(uri, queryParams);
-        return target.request().post(Entity.entity(jobDefinition, MediaType.APPLICATION_JSON_TYPE), JobExecutionEntity.class);
+        return call(false, endpoint -> {
+            final WebTarget target = queryParams(endpoint.target(JobResource.class, "submit"), queryParams);
+            return target.request().post(Entity.entity(jobDefinition, MediaType.APPLICATION_JSON_TYPE), JobExecutionEntity.class);
+        });
+    }
+
+    /**
+     * Starts the job with the JSON job definition and job parameters, with an idempotency key.
+     * If a job execution has already been started for the same idempotency key, that job
+     * execution is returned instead of starting a new one, so that the call can be safely
+     * retried, for instance, after a timeout. The request is retried on the other REST URLs
+     * if the chosen one is unavailable.
+     *
+     * @param jobDefinition JSON job definition content
+     * @param queryParams job parameters
+     * @param idempotencyKey key identifying this submit request across retries, e.g., a random UUID
+     * @return the new or previously started job execution entity
+     *
+     * @since 3.0.1.Final
+     */
+    public JobExecutionEntity submitJob(final String jobDefinition, final Properties queryParams,
+                                        final String idempotencyKey) {
+        return call(true, endpoint -> {
+            final WebTarget target = queryParams(endpoint.target(JobResource.class, "submit"), queryParams);
+            return target.request().header(IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                    .post(Entity.entity(jobDefinition, MediaType.APPLICATION_JSON_TYPE), JobExecutionEntity.class);
+        });
+    }
+
+    /**
+     * Starts the job with the job definition and job parameters, where the job definition
+     * may be in any format supported by the server, such as JSON, YAML or job XML.
+     *
+     * @param jobDefinition job definition content
+     * @param mediaType media type of {@code jobDefinition}, such as {@code application/yaml}
+     * @param queryParams job parameters
+     * @return the new job execution entity
+     *
+     * @since 3.0.1.Final
+     */
+    public JobExecutionEntity submitJob(final String jobDefinition, final MediaType mediaType,
+                                        final Properties queryParams) {
+        return call(false, endpoint -> {
+            final WebTarget target = queryParams(endpoint.target(JobResource.class, "submit"), queryParams);
+            return target.request(MediaType.APPLICATION_JSON_TYPE)
+                    .post(Entity.entity(jobDefinition, mediaType), JobExecutionEntity.class);
+        });
+    }
+
+    /**
+     * Validates the structure of the JSON job definition on the server, without starting it.
+     *
+     * @param jobDefinition JSON job definition content
+     * @return the validation result, with all errors found
+     *
+     * @since 3.0.1.Final
+     */
+    public JobValidationEntity validateJob(final String jobDefinition) {
+        return call(true, endpoint -> {
+            final WebTarget target = endpoint.target(JobResource.class, "validate");
+            return target.request(MediaType.APPLICATION_JSON_TYPE)
+                    .post(Entity.entity(jobDefinition, MediaType.APPLICATION_JSON_TYPE), JobValidationEntity.class);
+        });
+    }
+
+    /**
+     * Registers a JSON job definition on the server under the specified name, replacing
+     * any job definition already registered under the name. The registered job definition
+     * can then be started repeatedly with {@link #startJobDefinition(String, Properties)}.
+     * <p>
+     * Job definitions are registered in the memory of one server, so if this {@code BatchClient}
+     * has several REST URLs, this and the other job definition methods only use the first one.
+     *
+     * @param name the name to register the job definition under
+     * @param jobDefinition JSON job definition content
+     * @return the registered job definition
+     *
+     * @since 3.0.1.Final
+     */
+    public JobDefinitionEntity putJobDefinition(final String name, final String jobDefinition) {
+        return callRegistry(endpoint -> {
+            final WebTarget target = endpoint.target(JobDefinitionResource.class, "putJobDefinition")
+                    .resolveTemplate("name", name);
+            return target.request(MediaType.APPLICATION_JSON_TYPE)
+                    .put(Entity.entity(jobDefinition, MediaType.APPLICATION_JSON_TYPE), JobDefinitionEntity.class);
+        });
+    }
+
+    /**
+     * Gets all job definitions registered on the server, ordered by name.
+     *
+     * @return registered job definitions
+     *
+     * @since 3.0.1.Final
+     */
+    public JobDefinitionEntity[] getJobDefinitions() {
+        return callRegistry(endpoint -> {
+            final WebTarget target = endpoint.target(JobDefinitionResource.class, null);
+            return target.request(MediaType.APPLICATION_JSON_TYPE).get(JobDefinitionEntity[].class);
+        });
+    }
+
+    /**
+     * Gets the JSON content of a job definition registered on the server.
+     *
+     * @param name the name of the job definition
+     * @return JSON job definition content
+     *
+     * @since 3.0.1.Final
+     */
+    public String getJobDefinition(final String name) {
+        return callRegistry(endpoint -> {
+            final WebTarget target = endpoint.target(JobDefinitionResource.class, "getJobDefinition")
+                    .resolveTemplate("name", name);
+            return target.request(MediaType.APPLICATION_JSON_TYPE).get(String.class);
+        });
+    }
+
+    /**
+     * Removes a job definition registered on the server.
+     *
+     * @param name the name of the job definition
+     *
+     * @since 3.0.1.Final
+     */
+    public void deleteJobDefinition(final String name) {
+        callRegistry(endpoint -> {
+            final WebTarget target = endpoint.target(JobDefinitionResource.class, "deleteJobDefinition")
+                    .resolveTemplate("name", name);
+            target.request().delete(Void.class);
+            return null;
+        });
+    }
+
+    /**
+     * Starts the job definition registered on the server under the specified name.
+     *
+     * @param name the name of the job definition
+     * @param queryParams job parameters
+     * @return the new job execution entity
+     *
+     * @since 3.0.1.Final
+     */
+    public JobExecutionEntity startJobDefinition(final String name, final Properties queryParams) {
+        return startJobDefinition(name, queryParams, null);
+    }
+
+    /**
+     * Starts the job definition registered on the server under the specified name, with
+     * an idempotency key. If a job execution has already been started for the same job
+     * definition name and idempotency key, that job execution is returned instead of
+     * starting a new one.
+     *
+     * @param name the name of the job definition
+     * @param queryParams job parameters
+     * @param idempotencyKey key identifying this start request across retries, may be null
+     * @return the new or previously started job execution entity
+     *
+     * @since 3.0.1.Final
+     */
+    public JobExecutionEntity startJobDefinition(final String name, final Properties queryParams,
+                                                 final String idempotencyKey) {
+        return callRegistry(endpoint -> {
+            final WebTarget target = endpoint.target(JobDefinitionResource.class, "start")
+                    .resolveTemplate("name", name);
+            return target.request().header(IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                    .post(Entity.json(queryParams == null ? new Properties() : queryParams), JobExecutionEntity.class);
+        });
+    }
+
+    /**
+     * Adds a request to start the job specified by the job XML name and job parameters
+     * to the job start queue of the server. The job start queue must be enabled on the server.
+     *
+     * @param jobXmlName job XML name for the job to start
+     * @param queryParams job parameters
+     * @param priority priority of the request, one of {@code high}, {@code normal} or {@code low}
+     * @return the queued job start request
+     *
+     * @since 3.0.1.Final
+     */
+    public QueuedJobEntity enqueueJob(final String jobXmlName, final Properties queryParams, final String priority) {
+        return call(false, endpoint -> {
+            final WebTarget target = queryParams(endpoint.target(JobResource.class, "start")
+                    .resolveTemplate("jobXmlName", jobXmlName), queryParams)
+                    .queryParam("priority", priority);
+            return target.request().post(Entity.entity(null, MediaType.APPLICATION_JSON_TYPE), QueuedJobEntity.class);
+        });
+    }
+
+    /**
+     * Gets the queued job start requests, in the order they will be dispatched.
+     *
+     * @return queued job start requests
+     *
+     * @since 3.0.1.Final
+     */
+    public QueuedJobEntity[] getQueuedJobs() {
+        return call(true, endpoint -> {
+            final WebTarget target = endpoint.target(JobResource.class, "getQueuedJobs");
+            return target.request().get(QueuedJobEntity[].class);
+        });
+    }
+
+    /**
+     * Gets a queued, or recently dispatched or cancelled job start request.
+     *
+     * @param queuedJobId id of the queued job start request
+     * @return the job start request
+     *
+     * @since 3.0.1.Final
+     */
+    public QueuedJobEntity getQueuedJob(final long queuedJobId) {
+        return call(true, endpoint -> {
+            final WebTarget target = endpoint.target(JobResource.class, "getQueuedJob")
+                    .resolveTemplate("queuedJobId", queuedJobId);
+            return target.request().get(QueuedJobEntity.class);
+        });
+    }
+
+    /**
+     * Cancels a queued job start request.
+     *
+     * @param queuedJobId id of the queued job start request
+     * @return the job start request with its current status
+     *
+     * @since 3.0.1.Final
+     */
+    public QueuedJobEntity cancelQueuedJob(final long queuedJobId) {
+        return call(false, endpoint -> {
+            final WebTarget target = endpoint.target(JobResource.class, "cancelQueuedJob")
+                    .resolveTemplate("queuedJobId", queuedJobId);
+            return target.request().delete(QueuedJobEntity.class);
+        });
+    }
+
+    /**
+     * Cancels all queued job start requests.
+     *
+     * @return the cancelled job start requests
+     *
+     * @since 3.0.1.Final
+     */
+    public QueuedJobEntity[] cancelQueuedJobs() {
+        return call(false, endpoint -> {
+            final WebTarget target = endpoint.target(JobResource.class, "cancelQueuedJobs");
+            return target.request().delete(QueuedJobEntity[].class);
+        });
     }
 
     /**
@@ -111,9 +600,11 @@ public class BatchClient {
      * @throws Exception if errors occur
      */
     public JobExecutionEntity restartJobExecution(final long jobExecutionId, final Properties queryParams) throws Exception {
-        final URI uri = getJobExecutionUriBuilder("restart").resolveTemplate("jobExecutionId", jobExecutionId).build();
-        WebTarget target = target(uri, queryParams);
-        return target.request().post(Entity.entity(null, MediaType.APPLICATION_JSON_TYPE), JobExecutionEntity.class);
+        return call(false, endpoint -> {
+            final WebTarget target = queryParams(endpoint.target(JobExecutionResource.class, "restart")
+                    .resolveTemplate("jobExecutionId", jobExecutionId), queryParams);
+            return target.request().post(Entity.entity(null, MediaType.APPLICATION_JSON_TYPE), JobExecutionEntity.class);
+        });
     }
 
     /**
@@ -136,9 +627,54 @@ public class BatchClient {
     public JobExecutionEntity resubmitJobExecution(final String jobDefinition,
                                                 final long jobExecutionId,
                                                 final Properties queryParams) throws Exception {
-        final URI uri = getJobExecutionUriBuilder("resubmit").resolveTemplate("jobExecutionId", jobExecutionId).build();
-        WebTarget target = target(uri, queryParams);
-        return target.request().post(Entity.entity(jobDefinition, MediaType.APPLICATION_JSON_TYPE), JobExecutionEntity.class);
+        return call(false, endpoint -> {
+            final WebTarget target = queryParams(endpoint.target(JobExecutionResource.class, "resubmit")
+                    .resolveTemplate("jobExecutionId", jobExecutionId), queryParams);
+            return target.request().post(Entity.entity(jobDefinition, MediaType.APPLICATION_JSON_TYPE), JobExecutionEntity.class);
+        });
+    }
+
+    /**
+     * Gets the current JSON job definition of the job instance of a job execution,
+     * which a restart of the job execution would use.
+     *
+     * @param jobExecutionId job execution id
+     * @return JSON job definition content
+     * @throws Exception if errors occur
+     *
+     * @since 3.0.1.Final
+     */
+    public String getJobDefinition(final long jobExecutionId) throws Exception {
+        return call(true, endpoint -> {
+            final WebTarget target = endpoint.target(JobExecutionResource.class, "getJobDefinition")
+                    .resolveTemplate("jobExecutionId", jobExecutionId);
+            return target.request(MediaType.APPLICATION_JSON_TYPE).get(String.class);
+        });
+    }
+
+    /**
+     * Restarts the job execution specified by the job execution id, after applying a
+     * JSON Patch or JSON Merge Patch to the job definition of its job instance.
+     *
+     * @param jobExecutionId job execution id
+     * @param patch the patch document
+     * @param mediaType {@code application/json-patch+json} or {@code application/merge-patch+json}
+     * @param queryParams job parameters
+     * @return the new job execution entity
+     * @throws Exception if errors occur
+     *
+     * @see org.jberet.rest.commons.util.JsonJobPatcher
+     * @since 3.0.1.Final
+     */
+    public JobExecutionEntity patchJobDefinition(final long jobExecutionId,
+                                                 final String patch,
+                                                 final MediaType mediaType,
+                                                 final Properties queryParams) throws Exception {
+        return call(false, endpoint -> {
+            final WebTarget target = queryParams(endpoint.target(JobExecutionResource.class, "patchJobDefinition")
+                    .resolveTemplate("jobExecutionId", jobExecutionId), queryParams);
+            return target.request().method("PATCH", Entity.entity(patch, mediaType), JobExecutionEntity.class);
+        });
     }
 
     /**
@@ -148,9 +684,12 @@ public class BatchClient {
      * @throws Exception if errors occur
      */
     public void stopJobExecution(final long jobExecutionId) throws Exception {
-        final URI uri = getJobExecutionUriBuilder("stop").resolveTemplate("jobExecutionId", jobExecutionId).build();
-        WebTarget target = target(uri, null);
-        target.request().post(Entity.entity(null, MediaType.APPLICATION_JSON_TYPE));
+        call(false, endpoint -> {
+            final WebTarget target = endpoint.target(JobExecutionResource.class, "stop")
+                    .resolveTemplate("jobExecutionId", jobExecutionId);
+            target.request().post(Entity.entity(null, MediaType.APPLICATION_JSON_TYPE));
+            return null;
+        });
     }
 
     /**
@@ -166,9 +705,11 @@ public class BatchClient {
      * @throws Exception if errors occur
      */
     public JobExecutionEntity restartJobExecution(final String jobXmlName, final Properties queryParams) throws Exception {
-        final URI uri = getJobUriBuilder("restart").resolveTemplate("jobXmlName", jobXmlName).build();
-        WebTarget target = target(uri, queryParams);
-        return target.request().post(Entity.entity(null, MediaType.APPLICATION_JSON_TYPE), JobExecutionEntity.class);
+        return call(false, endpoint -> {
+            final WebTarget target = queryParams(endpoint.target(JobResource.class, "restart")
+                    .resolveTemplate("jobXmlName", jobXmlName), queryParams);
+            return target.request().post(Entity.entity(null, MediaType.APPLICATION_JSON_TYPE), JobExecutionEntity.class);
+        });
     }
 
     /**
@@ -185,12 +726,110 @@ public class BatchClient {
      */
     public JobInstanceEntity[] getJobInstances(final String jobName, final int start, final int count)
             throws Exception {
-        final URI uri = getJobInstanceUriBuilder(null).build();
-        final WebTarget target = target(uri)
+        return call(true, endpoint -> {
+            final WebTarget target = endpoint.target(JobInstanceResource.class, null)
+                    .queryParam("jobName", jobName)
+                    .queryParam("start", start)
+                    .queryParam("count", count);
+            return target.request().get(JobInstanceEntity[].class);
+        });
+    }
+
+    /**
+     * Gets an iterator over all job instances belonging to the specified job name,
+     * in reverse chronological order. Job instances are fetched lazily in pages of
+     * {@code pageSize}, following the continuation link of each page. Each page is
+     * requested from a REST URL chosen by load balancing, with retry.
+     *
+     * @param jobName the job name
+     * @param pageSize the number of job instances to fetch per request
+     * @return iterator over matching job instances
+     *
+     * @since 3.0.1.Final
+     */
+    public Iterator<JobInstanceEntity> iterateJobInstances(final String jobName, final int pageSize) {
+        final URI uri = getJobInstanceUriBuilder(null)
                 .queryParam("jobName", jobName)
-                .queryParam("start", start)
-                .queryParam("count", count);
-        return target.request().get(JobInstanceEntity[].class);
+                .queryParam("count", pageSize)
+                .build();
+        return pages(JobInstanceResource.class, uri, JobInstanceEntity[].class, false);
+    }
+
+    /**
+     * Gets a stream of all job instances belonging to the specified job name,
+     * in reverse chronological order. Job instances are fetched in pages of
+     * {@link #DEFAULT_PAGE_SIZE} on demand, and the next page is fetched in the
+     * background while the current page is being consumed.
+     * The returned stream should be closed if it is not fully consumed.
+     *
+     * @param jobName the job name
+     * @return stream of matching job instances
+     *
+     * @since 3.0.1.Final
+     */
+    public Stream<JobInstanceEntity> streamJobInstances(final String jobName) {
+        return streamJobInstances(jobName, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Gets a stream of all job instances belonging to the specified job name,
+     * in reverse chronological order. Job instances are fetched in pages of
+     * {@code pageSize} on demand, and the next page is fetched in the background
+     * while the current page is being consumed.
+     * The returned stream should be closed if it is not fully consumed.
+     *
+     * @param jobName the job name
+     * @param pageSize the number of job instances to fetch per request
+     * @return stream of matching job instances
+     *
+     * @since 3.0.1.Final
+     */
+    public Stream<JobInstanceEntity> streamJobInstances(final String jobName, final int pageSize) {
+        final URI uri = getJobInstanceUriBuilder(null)
+                .queryParam("jobName", jobName)
+                .queryParam("count", pageSize)
+                .build();
+        return stream(pages(JobInstanceResource.class, uri, JobInstanceEntity[].class, true));
+    }
+
+    /**
+     * Gets a stream of job executions matching the filter, in reverse chronological order.
+     * Job executions are fetched in pages of {@link #DEFAULT_PAGE_SIZE} on demand, and the
+     * next page is fetched in the background while the current page is being consumed.
+     * The returned stream should be closed if it is not fully consumed.
+     *
+     * @param filter query parameters of {@link JobExecutionResource#getJobExecutions}
+     *               (for example, {@code jobExecutionId1}) to filter job executions; may be null
+     * @return stream of matching job executions
+     *
+     * @since 3.0.1.Final
+     */
+    public Stream<JobExecutionEntity> streamJobExecutions(final Properties filter) {
+        return streamJobExecutions(filter, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Gets a stream of job executions matching the filter, in reverse chronological order.
+     * Job executions are fetched in pages of {@code pageSize} on demand, and the next
+     * page is fetched in the background while the current page is being consumed.
+     * The returned stream should be closed if it is not fully consumed.
+     *
+     * @param filter query parameters of {@link JobExecutionResource#getJobExecutions}
+     *               (for example, {@code jobExecutionId1}) to filter job executions; may be null
+     * @param pageSize the number of job executions to fetch per request
+     * @return stream of matching job executions
+     *
+     * @since 3.0.1.Final
+     */
+    public Stream<JobExecutionEntity> streamJobExecutions(final Properties filter, final int pageSize) {
+        final UriBuilder uriBuilder = getJobExecutionUriBuilder(null);
+        if (filter != null) {
+            for (final String k : filter.stringPropertyNames()) {
+                uriBuilder.queryParam(k, filter.getProperty(k));
+            }
+        }
+        final URI uri = uriBuilder.replaceQueryParam("count", pageSize).build();
+        return stream(pages(JobExecutionResource.class, uri, JobExecutionEntity[].class, true));
     }
 
     /**
@@ -212,16 +851,7 @@ public class BatchClient {
      * @return {@code jakarta.ws.rs.client.WebTarget}
      */
     public WebTarget target(final URI uri, final Properties props) {
-        WebTarget result = client.target(uri);
-
-        if (props == null) {
-            return result;
-        } else {
-            for (final String k : props.stringPropertyNames()) {
-                result = result.queryParam(k, props.getProperty(k));
-            }
-        }
-        return result;
+        return queryParams(client.target(uri), props);
     }
 
     /**
@@ -230,21 +860,85 @@ public class BatchClient {
      * @return job execution entity
      */
     public JobExecutionEntity getJobExecution(final long jobExecutionId) {
-        final URI uri = getJobExecutionUriBuilder(null).path(String.valueOf(jobExecutionId)).build();
-        final WebTarget target = client.target(uri);
-        return target.request().get(JobExecutionEntity.class);
+        return get("jobexecutions/" + jobExecutionId, JobExecutionEntity.class,
+                jobExecution -> isFinished(jobExecution.getBatchStatus()),
+                endpoint -> endpoint.target(JobExecutionResource.class, null)
+                        .path(String.valueOf(jobExecutionId)).request());
+    }
+
+    /**
+     * Gets all jobs known to the batch runtime, asynchronously.
+     *
+     * @return {@code java.util.concurrent.CompletionStage} completed with the jobs
+     *
+     * @since 3.0.1.Final
+     */
+    public CompletionStage<JobEntity[]> getJobsAsync() {
+        return callAsync(endpoint -> {
+            final WebTarget target = endpoint.target(JobResource.class, null);
+            return target.request(MediaType.APPLICATION_JSON_TYPE).rx().get(JobEntity[].class);
+        });
+    }
+
+    /**
+     * Gets the running job executions of the specified job, asynchronously.
+     *
+     * @param jobName the job name, or null for running job executions of all jobs
+     * @return {@code java.util.concurrent.CompletionStage} completed with the running job executions
+     *
+     * @since 3.0.1.Final
+     */
+    public CompletionStage<JobExecutionEntity[]> getRunningExecutionsAsync(final String jobName) {
+        return callAsync(endpoint -> {
+            WebTarget target = endpoint.target(JobExecutionResource.class, "getRunningExecutions");
+            if (jobName != null) {
+                target = target.queryParam("jobName", jobName);
+            }
+            return target.request(MediaType.APPLICATION_JSON_TYPE).rx().get(JobExecutionEntity[].class);
+        });
+    }
+
+    /**
+     * Gets the job executions matching the filter, asynchronously.
+     *
+     * @param filter query parameters, such as {@code count} and {@code jobExecutionId1}
+     * @return {@code java.util.concurrent.CompletionStage} completed with the job executions
+     *
+     * @since 3.0.1.Final
+     */
+    public CompletionStage<JobExecutionEntity[]> getJobExecutionsAsync(final Properties filter) {
+        return callAsync(endpoint -> {
+            final WebTarget target = queryParams(endpoint.target(JobExecutionResource.class, null), filter);
+            return target.request(MediaType.APPLICATION_JSON_TYPE).rx().get(JobExecutionEntity[].class);
+        });
     }
 
     /**
      * Gets all step execution entities for the specified job execution id.
+     * <p>
+     * If the response cache is enabled, the step executions are only cached once the job
+     * execution has finished, which is checked before getting the step executions, since
+     * a running job execution may still start more steps.
+     *
      * @param jobExecutionId job execution id
      * @return all step execution entities
      */
     public StepExecutionEntity[] getStepExecutions(final long jobExecutionId) {
-        final URI uri = getJobExecutionUriBuilder("getStepExecutions")
-                .resolveTemplate("jobExecutionId", jobExecutionId).build();
-        WebTarget target = target(uri);
-        return target.request().get(StepExecutionEntity[].class);
+        final boolean jobExecutionFinished = cache != null && isFinished(getJobExecution(jobExecutionId).getBatchStatus());
+        return get("jobexecutions/" + jobExecutionId + "/stepexecutions", StepExecutionEntity[].class,
+                stepExecutions -> {
+                    if (!jobExecutionFinished) {
+                        return false;
+                    }
+                    for (final StepExecutionEntity e : stepExecutions) {
+                        if (!isFinished(e.getBatchStatus())) {
+                            return false;
+                        }
+                    }
+                    return stepExecutions.length > 0;
+                },
+                endpoint -> endpoint.target(JobExecutionResource.class, "getStepExecutions")
+                        .resolveTemplate("jobExecutionId", jobExecutionId).request());
     }
 
     /**
@@ -253,10 +947,11 @@ public class BatchClient {
      * @return job schedule
      */
     public JobSchedule getJobSchedule(final String scheduleId) {
-        final URI uri = getJobScheduleUriBuilder("getJobSchedule")
-                .resolveTemplate("scheduleId", scheduleId).build();
-        WebTarget target = target(uri);
-        return target.request().accept(MediaType.APPLICATION_JSON_TYPE).get(JobSchedule.class);
+        return call(true, endpoint -> {
+            final WebTarget target = endpoint.target(JobScheduleResource.class, "getJobSchedule")
+                    .resolveTemplate("scheduleId", scheduleId);
+            return target.request().accept(MediaType.APPLICATION_JSON_TYPE).get(JobSchedule.class);
+        });
     }
 
     /**
@@ -264,9 +959,45 @@ public class BatchClient {
      * @return all job schedules
      */
     public JobSchedule[] getJobSchedules() {
-        final URI uri = getJobScheduleUriBuilder("getJobSchedules").build();
-        final WebTarget target = target(uri);
-        return target.request().accept(MediaType.APPLICATION_JSON_TYPE).get(JobSchedule[].class);
+        return call(true, endpoint -> {
+            final WebTarget target = endpoint.target(JobScheduleResource.class, "getJobSchedules");
+            return target.request().accept(MediaType.APPLICATION_JSON_TYPE).get(JobSchedule[].class);
+        });
+    }
+
+    /**
+     * Gets job schedules matching the filter.
+     *
+     * @param filter query parameters of {@link JobScheduleResource#getJobSchedules} to filter
+     *               and page job schedules: {@code jobName}, {@code status}, {@code nextRunBefore},
+     *               {@code start} and {@code count}; may be null
+     * @return matching job schedules
+     *
+     * @since 3.0.1.Final
+     */
+    public JobSchedule[] getJobSchedules(final Properties filter) {
+        return call(true, endpoint -> {
+            final WebTarget target = queryParams(endpoint.target(JobScheduleResource.class, "getJobSchedules"), filter);
+            return target.request().accept(MediaType.APPLICATION_JSON_TYPE).get(JobSchedule[].class);
+        });
+    }
+
+    /**
+     * Gets the summaries of job schedules matching the filter. A job schedule summary
+     * leaves out the job schedule config, and includes the time of the next run if known.
+     *
+     * @param filter query parameters of {@link JobScheduleResource#getJobScheduleSummaries} to filter
+     *               and page job schedules: {@code jobName}, {@code status}, {@code nextRunBefore},
+     *               {@code start} and {@code count}; may be null
+     * @return summaries of matching job schedules
+     *
+     * @since 3.0.1.Final
+     */
+    public JobScheduleSummaryEntity[] getJobScheduleSummaries(final Properties filter) {
+        return call(true, endpoint -> {
+            final WebTarget target = queryParams(endpoint.target(JobScheduleResource.class, "getJobScheduleSummaries"), filter);
+            return target.request().accept(MediaType.APPLICATION_JSON_TYPE).get(JobScheduleSummaryEntity[].class);
+        });
     }
 
     /**
@@ -274,9 +1005,35 @@ public class BatchClient {
      * @return all feature names as a string array
      */
     public String[] getJobScheduleFeatures() {
-        final URI uri = getJobScheduleUriBuilder("getFeatures").build();
-        final WebTarget target = target(uri);
-        return target.request().accept(MediaType.APPLICATION_JSON_TYPE).get(String[].class);
+        return get("schedules/features", String[].class, features -> true,
+                endpoint -> endpoint.target(JobScheduleResource.class, "getFeatures")
+                        .request().accept(MediaType.APPLICATION_JSON_TYPE));
+    }
+
+    /**
+     * Gets all available timezone ids, and the first element of the result is the default
+     * timezone id of the server.
+     *
+     * @return all timezone ids as a string array
+     *
+     * @since 3.0.1.Final
+     */
+    public String[] getTimezoneIds() {
+        return get("schedules/timezones", String[].class, timezoneIds -> true,
+                endpoint -> endpoint.target(JobScheduleResource.class, "getTimezoneIds")
+                        .request().accept(MediaType.APPLICATION_JSON_TYPE));
+    }
+
+    /**
+     * Gets the statistics of the response cache of this {@code BatchClient}.
+     *
+     * @return cache statistics, all zeros if caching is not enabled
+     *
+     * @see Builder#cache(int)
+     * @since 3.0.1.Final
+     */
+    public CacheStatistics getCacheStatistics() {
+        return cache == null ? new CacheStatistics(0, 0, 0, 0, 0, 0) : cache.getStatistics();
     }
 
     /**
@@ -285,11 +1042,28 @@ public class BatchClient {
      * @return true if successfully cancelled; false otherwise
      */
     public boolean cancelJobSchedule(final String scheduleId) {
-        final URI uri = getJobScheduleUriBuilder("cancel")
-                .resolveTemplate("scheduleId", scheduleId).build();
-        WebTarget target = target(uri);
-        return target.request().accept(MediaType.APPLICATION_JSON_TYPE)
-                .post(Entity.entity(null, MediaType.APPLICATION_JSON_TYPE), boolean.class);
+        return call(false, endpoint -> {
+            final WebTarget target = endpoint.target(JobScheduleResource.class, "cancel")
+                    .resolveTemplate("scheduleId", scheduleId);
+            return target.request().accept(MediaType.APPLICATION_JSON_TYPE)
+                    .post(Entity.entity(null, MediaType.APPLICATION_JSON_TYPE), boolean.class);
+        });
+    }
+
+    /**
+     * Cancels the job schedules specified by the job schedule ids in one request.
+     *
+     * @param scheduleIds job schedule ids
+     * @return result of cancelling each job schedule, in the same order as {@code scheduleIds}
+     *
+     * @since 3.0.1.Final
+     */
+    public JobScheduleResultEntity[] cancelJobSchedules(final List<String> scheduleIds) {
+        return call(false, endpoint -> {
+            final WebTarget target = endpoint.target(JobScheduleResource.class, "cancelAll");
+            return target.request().accept(MediaType.APPLICATION_JSON_TYPE)
+                    .post(Entity.json(scheduleIds.toArray(new String[0])), JobScheduleResultEntity[].class);
+        });
     }
 
     /**
@@ -299,10 +1073,12 @@ public class BatchClient {
      * @since 1.3.0.Beta7
      */
     public void deleteJobSchedule(final String scheduleId) {
-        final URI uri = getJobScheduleUriBuilder("delete")
-                .resolveTemplate("scheduleId", scheduleId).build();
-        WebTarget target = target(uri);
-        target.request().delete();
+        call(false, endpoint -> {
+            final WebTarget target = endpoint.target(JobScheduleResource.class, "delete")
+                    .resolveTemplate("scheduleId", scheduleId);
+            target.request().delete();
+            return null;
+        });
     }
 
     /**
@@ -311,31 +1087,306 @@ public class BatchClient {
      * @return the new job schedule from the submission
      */
     public JobSchedule schedule(final JobScheduleConfig scheduleConfig) {
-        final URI uri;
-        if (scheduleConfig.getJobName() != null) {
-            uri = getJobUriBuilder("schedule").resolveTemplate("jobXmlName", scheduleConfig.getJobName()).build();
-        } else {
-            uri = getJobExecutionUriBuilder("schedule")
-                    .resolveTemplate("jobExecutionId", scheduleConfig.getJobExecutionId()).build();
+        return call(false, endpoint -> {
+            final WebTarget target;
+            if (scheduleConfig.getJobName() != null) {
+                target = endpoint.target(JobResource.class, "schedule")
+                        .resolveTemplate("jobXmlName", scheduleConfig.getJobName());
+            } else {
+                target = endpoint.target(JobExecutionResource.class, "schedule")
+                        .resolveTemplate("jobExecutionId", scheduleConfig.getJobExecutionId());
+            }
+            return target.request().post(Entity.json(scheduleConfig), JobSchedule.class);
+        });
+    }
+
+    /**
+     * Submits multiple job schedules in one request. Each job schedule config must
+     * specify either job name or job execution id.
+     *
+     * @param scheduleConfigs job schedule configs
+     * @return result of each submission, in the same order as {@code scheduleConfigs}
+     *
+     * @since 3.0.1.Final
+     */
+    public JobScheduleResultEntity[] schedule(final List<JobScheduleConfig> scheduleConfigs) {
+        return call(false, endpoint -> {
+            final WebTarget target = endpoint.target(JobScheduleResource.class, "scheduleAll");
+            return target.request().accept(MediaType.APPLICATION_JSON_TYPE)
+                    .post(Entity.json(scheduleConfigs.toArray(new JobScheduleConfig[0])), JobScheduleResultEntity[].class);
+        });
+    }
+
+    /**
+     * Sends a request to a REST URL chosen by load balancing, and keeps track of
+     * the requests in progress and the failures of each REST URL.
+     *
+     * @param retry whether to retry the request on other REST URLs if it fails to connect,
+     *              or is answered with status 502, 503 or 504; only safe for requests that
+     *              do not change data
+     * @param request sends the request to the specified REST URL and returns the result
+     * @param <T> the type of the result
+     * @return the result of the request
+     */
+    private <T> T call(final boolean retry, final Function<Endpoint, T> request) {
+        final boolean[] tried = retry && endpoints.length > 1 ? new boolean[endpoints.length] : null;
+        while (true) {
+            final Endpoint endpoint = select(tried);
+            endpoint.outstanding.incrementAndGet();
+            try {
+                final T result = request.apply(endpoint);
+                endpoint.restore();
+                return result;
+            } catch (ProcessingException | WebApplicationException e) {
+                if (!isNodeFailure(e)) {
+                    throw e;
+                }
+                endpoint.eject(System.nanoTime(), TimeUnit.MILLISECONDS.toNanos(EJECTION_MILLIS));
+                if (tried == null || !markTried(tried, endpoint)) {
+                    throw e;
+                }
+            } finally {
+                endpoint.outstanding.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Sends a request on the job definition registry to the first REST URL, without
+     * load balancing or retry, since each server has its own registry in memory.
+     *
+     * @param request sends the request to the specified REST URL and returns the result
+     * @param <T> the type of the result
+     * @return the result of the request
+     */
+    private <T> T callRegistry(final Function<Endpoint, T> request) {
+        final Endpoint endpoint = endpoints[0];
+        endpoint.outstanding.incrementAndGet();
+        try {
+            return request.apply(endpoint);
+        } finally {
+            endpoint.outstanding.decrementAndGet();
         }
-        WebTarget target = target(uri);
-        return target.request().post(Entity.json(scheduleConfig), JobSchedule.class);
+    }
+
+    /**
+     * Sends a GET request whose result may be served from, and stored in, the response
+     * cache, if enabled. A cached result that needs revalidation is requested with
+     * its entity tag in the {@code If-None-Match} header.
+     *
+     * @param key the cache key
+     * @param type the type of the result
+     * @param cacheable checks if the result no longer changes, and so may be cached
+     * @param request builds the request for the specified REST URL
+     * @param <T> the type of the result
+     * @return the result, which may be shared with other callers if taken from the cache
+     */
+    private <T> T get(final String key, final Class<T> type, final Predicate<T> cacheable,
+                      final Function<Endpoint, Invocation.Builder> request) {
+        if (cache == null) {
+            return call(true, endpoint -> request.apply(endpoint).get(type));
+        }
+        final ResponseCache.Entry cached = cache.get(key, System.nanoTime());
+        if (cached != null && cached.isFresh(System.nanoTime())) {
+            return copy(type.cast(cached.value));
+        }
+        return call(true, endpoint -> {
+            Invocation.Builder builder = request.apply(endpoint);
+            if (cached != null && cached.entityTag != null) {
+                builder = builder.header(HttpHeaders.IF_NONE_MATCH, cached.entityTag);
+            }
+            final Response response = builder.get();
+            try {
+                if (cached != null && response.getStatus() == Response.Status.NOT_MODIFIED.getStatusCode()) {
+                    cache.revalidated(key, cached, response, System.nanoTime());
+                    return copy(type.cast(cached.value));
+                }
+                if (response.getStatusInfo().getFamily() != Response.Status.Family.SUCCESSFUL) {
+                    response.bufferEntity();
+                    throw new WebApplicationException(response);
+                }
+                final T result = response.readEntity(type);
+                if (cacheable.test(result)) {
+                    cache.put(key, result, response, System.nanoTime());
+                    return copy(result);
+                }
+                return result;
+            } finally {
+                response.close();
+            }
+        });
+    }
+
+    /**
+     * Copies an array result taken from the cache, so that callers cannot change the
+     * cached array. Other results are returned as is.
+     */
+    private static <T> T copy(final T result) {
+        if (result instanceof Object[]) {
+            @SuppressWarnings("unchecked")
+            final T copy = (T) ((Object[]) result).clone();
+            return copy;
+        }
+        return result;
+    }
+
+    private static boolean isFinished(final BatchStatus status) {
+        return status == BatchStatus.COMPLETED || status == BatchStatus.FAILED
+                || status == BatchStatus.STOPPED || status == BatchStatus.ABANDONED;
+    }
+
+    /**
+     * Sends an asynchronous request to a REST URL chosen by load balancing, without retry.
+     *
+     * @param request sends the request to the specified REST URL
+     * @param <T> the type of the result
+     * @return {@code java.util.concurrent.CompletionStage} of the request
+     */
+    private <T> CompletionStage<T> callAsync(final Function<Endpoint, CompletionStage<T>> request) {
+        final Endpoint endpoint = select(null);
+        endpoint.outstanding.incrementAndGet();
+        final CompletionStage<T> stage;
+        try {
+            stage = request.apply(endpoint);
+        } catch (RuntimeException e) {
+            endpoint.outstanding.decrementAndGet();
+            throw e;
+        }
+        return stage.whenComplete((result, e) -> {
+            endpoint.outstanding.decrementAndGet();
+            final Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause == null) {
+                endpoint.restore();
+            } else if (isNodeFailure(cause)) {
+                endpoint.eject(System.nanoTime(), TimeUnit.MILLISECONDS.toNanos(EJECTION_MILLIS));
+            }
+        });
+    }
+
+    /**
+     * Chooses the REST URL for the next request. REST URLs that are left out after
+     * failures, or have already been tried for this request, are skipped, unless
+     * there is no other REST URL.
+     *
+     * @param tried REST URLs already tried for this request, by index; may be null
+     * @return the chosen REST URL
+     */
+    private Endpoint select(final boolean[] tried) {
+        if (endpoints.length == 1) {
+            return endpoints[0];
+        }
+        final long now = System.nanoTime();
+        final int first = Math.floorMod(nextEndpoint.getAndIncrement(), endpoints.length);
+        Endpoint selected = null;
+        Endpoint fallback = null;
+        for (int i = 0; i < endpoints.length; i++) {
+            final int index = (first + i) % endpoints.length;
+            if (tried != null && tried[index]) {
+                continue;
+            }
+            final Endpoint endpoint = endpoints[index];
+            if (fallback == null) {
+                fallback = endpoint;
+            }
+            if (endpoint.isEjected(now)) {
+                continue;
+            }
+            if (loadBalancing == LoadBalancing.ROUND_ROBIN) {
+                return endpoint;
+            }
+            if (selected == null || endpoint.outstanding.get() < selected.outstanding.get()) {
+                selected = endpoint;
+            }
+        }
+        if (selected != null) {
+            return selected;
+        }
+        return fallback != null ? fallback : endpoints[first];
+    }
+
+    /**
+     * Marks the REST URL as tried for the current request.
+     *
+     * @return true if there is any REST URL not tried yet; false otherwise
+     */
+    private boolean markTried(final boolean[] tried, final Endpoint endpoint) {
+        boolean remaining = false;
+        for (int i = 0; i < endpoints.length; i++) {
+            if (endpoints[i] == endpoint) {
+                tried[i] = true;
+            } else if (!tried[i]) {
+                remaining = true;
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * Checks if the failure of a request is caused by the server being unreachable
+     * or unavailable, rather than by the request itself.
+     */
+    static boolean isNodeFailure(final Throwable e) {
+        if (e instanceof ProcessingException) {
+            return true;
+        }
+        if (e instanceof WebApplicationException) {
+            final int status = ((WebApplicationException) e).getResponse().getStatus();
+            return status == Response.Status.BAD_GATEWAY.getStatusCode()
+                    || status == Response.Status.SERVICE_UNAVAILABLE.getStatusCode()
+                    || status == Response.Status.GATEWAY_TIMEOUT.getStatusCode();
+        }
+        return false;
+    }
+
+    private static WebTarget queryParams(WebTarget target, final Properties props) {
+        if (props != null) {
+            for (final String k : props.stringPropertyNames()) {
+                target = target.queryParam(k, props.getProperty(k));
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Gets an iterator over the pages of a paged REST resource. Each page is requested
+     * with the query of its uri from a REST URL chosen by load balancing, like other
+     * requests that only read data, so that a continuation link returned by one server
+     * can be followed on another. A page prefetched in the background is not retried
+     * right away, but fetched again with retry when needed.
+     *
+     * @param cls the paged REST resource class
+     * @param firstPage uri of the first page
+     * @param pageType array type of a page of elements
+     * @param prefetch whether to fetch the next page in the background
+     * @param <T> the type of elements
+     * @return iterator over the elements of all pages
+     */
+    private <T> PagingIterator<T> pages(final Class<?> cls, final URI firstPage, final Class<T[]> pageType,
+                                        final boolean prefetch) {
+        return new PagingIterator<>(firstPage,
+                uri -> call(true, endpoint -> PagingIterator.toPage(endpoint.target(cls, null, uri)
+                        .request(MediaType.APPLICATION_JSON_TYPE).get(), pageType)),
+                !prefetch ? null : uri -> callAsync(endpoint -> endpoint.target(cls, null, uri)
+                        .request(MediaType.APPLICATION_JSON_TYPE).rx().get()
+                        .thenApply(response -> PagingIterator.toPage(response, pageType))));
+    }
+
+    private static <T> Stream<T> stream(final PagingIterator<T> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(iterator::close);
     }
 
     /**
      * Gets the {@code jakarta.ws.rs.core.UriBuilder} for the specified
-     * REST resource class and method.
+     * REST resource class and method. If this {@code BatchClient} has several
+     * REST URLs, the first one is used.
      *
      * @param cls REST resource class name
      * @param methodName name of the resource method in the above REST resource class
      * @return {@code jakarta.ws.rs.core.UriBuilder}
      */
     public UriBuilder getUriBuilder(final Class<?> cls, final String methodName) {
-        UriBuilder uriBuilder = UriBuilder.fromPath(restUrl).path(cls);
-        if (methodName != null) {
-            uriBuilder = uriBuilder.path(cls, methodName);
-        }
-        return uriBuilder;
+        return UriBuilder.fromPath(endpoints[0].pathTemplate(cls, methodName));
     }
 
     /**
@@ -382,4 +1433,266 @@ public class BatchClient {
         return getUriBuilder(JobScheduleResource.class, methodName);
     }
 
+    /**
+     * Gets a new {@link Builder} to configure the connections of a {@code BatchClient}.
+     *
+     * @return a new {@code Builder}
+     *
+     * @since 3.0.1.Final
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builds a {@code BatchClient} together with its {@code jakarta.ws.rs.client.Client},
+     * configuring connection pooling, keep-alive, timeouts and the executor for
+     * asynchronous requests.
+     * <p>
+     * Timeouts, the executor and properties apply to any JAX-RS client implementation.
+     * Connection pool settings are applied to the RESTEasy client, and ignored by other
+     * implementations. Without a connection pool, the RESTEasy client keeps a single
+     * connection, so concurrent requests from several threads should use a pool sized
+     * to the number of threads. Other settings specific to a JAX-RS client implementation,
+     * such as enabling HTTP/2 if supported, can be passed with {@link #property(String, Object)}.
+     * <p>
+     * The {@code Client} is owned by the built {@code BatchClient}, and should be closed
+     * with {@code batchClient.getClient().close()} when no longer needed.
+     *
+     * @since 3.0.1.Final
+     */
+    public static final class Builder {
+        private final List<String> restUrls = new ArrayList<>();
+        private final Map<String, Object> properties = new LinkedHashMap<>();
+        private LoadBalancing loadBalancing = LoadBalancing.ROUND_ROBIN;
+        private int connectionPoolSize;
+        private int maxConnectionsPerHost;
+        private long keepAliveMillis = -1;
+        private boolean keepAlive = true;
+        private long connectTimeoutMillis = -1;
+        private long readTimeoutMillis = -1;
+        private ExecutorService executorService;
+        private int cacheSize;
+        private long healthCheckIntervalMillis;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a REST URL.
+         *
+         * @param restUrl REST URL, for example, http://localhost:8080/app1/api
+         * @return this {@code Builder}
+         */
+        public Builder restUrl(final String restUrl) {
+            restUrls.add(restUrl);
+            return this;
+        }
+
+        /**
+         * Sets how requests are spread over several REST URLs.
+         *
+         * @param loadBalancing load balancing of requests, default {@link LoadBalancing#ROUND_ROBIN}
+         * @return this {@code Builder}
+         *
+         * @see BatchClient#BatchClient(Client, List, LoadBalancing)
+         */
+        public Builder loadBalancing(final LoadBalancing loadBalancing) {
+            this.loadBalancing = loadBalancing;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of pooled connections to all REST URLs.
+         *
+         * @param connectionPoolSize maximum number of pooled connections; 0 for no pool
+         * @return this {@code Builder}
+         */
+        public Builder connectionPoolSize(final int connectionPoolSize) {
+            this.connectionPoolSize = connectionPoolSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of pooled connections to each REST URL.
+         *
+         * @param maxConnectionsPerHost maximum number of pooled connections to each host;
+         *                              0 to use the connection pool size
+         * @return this {@code Builder}
+         */
+        public Builder maxConnectionsPerHost(final int maxConnectionsPerHost) {
+            this.maxConnectionsPerHost = maxConnectionsPerHost;
+            return this;
+        }
+
+        /**
+         * Sets whether connections are kept open to be reused by subsequent requests.
+         * If disabled, each request asks the server to close the connection after the
+         * response, with the {@code Connection: close} header.
+         *
+         * @param keepAlive whether to keep connections open, default true
+         * @return this {@code Builder}
+         */
+        public Builder keepAlive(final boolean keepAlive) {
+            this.keepAlive = keepAlive;
+            return this;
+        }
+
+        /**
+         * Sets how long a pooled connection may be reused, after which it is closed
+         * and replaced by a new connection.
+         *
+         * @param timeout the maximum lifetime of pooled connections
+         * @param unit the time unit of {@code timeout}
+         * @return this {@code Builder}
+         */
+        public Builder keepAliveTimeout(final long timeout, final TimeUnit unit) {
+            this.keepAliveMillis = unit.toMillis(timeout);
+            return this;
+        }
+
+        /**
+         * Sets the connect timeout.
+         *
+         * @param timeout the connect timeout; 0 for no timeout
+         * @param unit the time unit of {@code timeout}
+         * @return this {@code Builder}
+         */
+        public Builder connectTimeout(final long timeout, final TimeUnit unit) {
+            this.connectTimeoutMillis = unit.toMillis(timeout);
+            return this;
+        }
+
+        /**
+         * Sets the read timeout.
+         *
+         * @param timeout the read timeout; 0 for no timeout
+         * @param unit the time unit of {@code timeout}
+         * @return this {@code Builder}
+         */
+        public Builder readTimeout(final long timeout, final TimeUnit unit) {
+            this.readTimeoutMillis = unit.toMillis(timeout);
+            return this;
+        }
+
+        /**
+         * Sets the executor for asynchronous requests, such as {@link BatchClient#getJobsAsync()}.
+         *
+         * @param executorService the executor for asynchronous requests
+         * @return this {@code Builder}
+         */
+        public Builder executorService(final ExecutorService executorService) {
+            this.executorService = executorService;
+            return this;
+        }
+
+        /**
+         * Enables caching of results that no longer change: finished job executions,
+         * step executions of a job execution once the job execution has finished, scheduling
+         * features and timezone ids. Results are cached as long as allowed by the
+         * {@code Cache-Control} header of the response, and revalidated with their
+         * {@code ETag} afterwards. The least recently used results are evicted when
+         * the cache is full.
+         * <p>
+         * Cached job executions and step executions are shared by all callers, and
+         * should not be modified.
+         *
+         * @param maxSize the maximum number of cached results; 0 to disable caching, which is the default
+         * @return this {@code Builder}
+         *
+         * @see BatchClient#getCacheStatistics()
+         */
+        public Builder cache(final int maxSize) {
+            this.cacheSize = maxSize;
+            return this;
+        }
+
+        /**
+         * Enables periodic health checks of the REST URLs with {@link BatchClient#checkHealth()},
+         * so that an ejected REST URL is used again as soon as it recovers, and a failed one
+         * is left out before a request is sent to it. Health checks run on a daemon thread,
+         * only if there are several REST URLs, and stop once the {@code Client} of the built
+         * {@code BatchClient} is closed.
+         *
+         * @param interval the interval between health checks; 0 to disable periodic health checks,
+         *                 which is the default
+         * @param unit the time unit of {@code interval}
+         * @return this {@code Builder}
+         */
+        public Builder healthCheckInterval(final long interval, final TimeUnit unit) {
+            this.healthCheckIntervalMillis = unit.toMillis(interval);
+            return this;
+        }
+
+        /**
+         * Sets a property of the JAX-RS client implementation.
+         *
+         * @param name the property name
+         * @param value the property value
+         * @return this {@code Builder}
+         */
+        public Builder property(final String name, final Object value) {
+            properties.put(name, value);
+            return this;
+        }
+
+        /**
+         * Builds the {@code BatchClient}.
+         *
+         * @return the new {@code BatchClient}
+         */
+        public BatchClient build() {
+            final ClientBuilder clientBuilder = ClientBuilder.newBuilder();
+            if (connectTimeoutMillis >= 0) {
+                clientBuilder.connectTimeout(connectTimeoutMillis, TimeUnit.MILLISECONDS);
+            }
+            if (readTimeoutMillis >= 0) {
+                clientBuilder.readTimeout(readTimeoutMillis, TimeUnit.MILLISECONDS);
+            }
+            if (executorService != null) {
+                clientBuilder.executorService(executorService);
+            }
+            for (final Map.Entry<String, Object> e : properties.entrySet()) {
+                clientBuilder.property(e.getKey(), e.getValue());
+            }
+            if (connectionPoolSize > 0) {
+                invoke(clientBuilder, "connectionPoolSize", new Class<?>[]{int.class}, connectionPoolSize);
+            }
+            if (maxConnectionsPerHost > 0) {
+                invoke(clientBuilder, "maxPooledPerRoute", new Class<?>[]{int.class}, maxConnectionsPerHost);
+            }
+            if (keepAliveMillis >= 0) {
+                invoke(clientBuilder, "connectionTTL", new Class<?>[]{long.class, TimeUnit.class},
+                        keepAliveMillis, TimeUnit.MILLISECONDS);
+            }
+            if (!keepAlive) {
+                clientBuilder.register((ClientRequestFilter) requestContext ->
+                        requestContext.getHeaders().putSingle("Connection", "close"));
+            }
+            return new BatchClient(clientBuilder.build(), restUrls, loadBalancing,
+                    cacheSize > 0 ? new ResponseCache(cacheSize) : null, healthCheckIntervalMillis);
+        }
+
+        /**
+         * Invokes a configuration method specific to the JAX-RS client implementation,
+         * if {@code clientBuilder} has it.
+         */
+        private static void invoke(final ClientBuilder clientBuilder, final String methodName,
+                                   final Class<?>[] parameterTypes, final Object... args) {
+            final Method method;
+            try {
+                method = clientBuilder.getClass().getMethod(methodName, parameterTypes);
+            } catch (NoSuchMethodException e) {
+                return;
+            }
+            try {
+                method.invoke(clientBuilder, args);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            } catch (InvocationTargetException e) {
+                final Throwable cause = e.getCause();
+                throw cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+            }
+        }
+    }
 }
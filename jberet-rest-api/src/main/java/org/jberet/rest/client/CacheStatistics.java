@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.client;
+
+/**
+ * Snapshot of the statistics of the response cache of a {@link BatchClient}.
+ *
+ * @see BatchClient.Builder#cache(int)
+ * @since 3.0.1.Final
+ */
+public final class CacheStatistics {
+    private final long hits;
+    private final long revalidations;
+    private final long misses;
+    private final long evictions;
+    private final int size;
+    private final int maxSize;
+
+    CacheStatistics(final long hits, final long revalidations, final long misses,
+                    final long evictions, final int size, final int maxSize) {
+        this.hits = hits;
+        this.revalidations = revalidations;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.size = size;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets the number of results served from the cache without sending a request.
+     *
+     * @return the number of cache hits
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of results served from the cache after the server confirmed,
+     * with status 304 (Not Modified), that the cached result is still current.
+     *
+     * @return the number of revalidated cache hits
+     */
+    public long getRevalidations() {
+        return revalidations;
+    }
+
+    /**
+     * Gets the number of results fetched from the server because they were not in
+     * the cache, or had changed.
+     *
+     * @return the number of cache misses
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Gets the number of results removed from the cache to make room for others.
+     *
+     * @return the number of evictions
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Gets the number of results in the cache.
+     *
+     * @return the current cache size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the maximum number of results in the cache.
+     *
+     * @return the maximum cache size, or 0 if caching is not enabled
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets the ratio of requests served from the cache, with or without revalidation.
+     *
+     * @return the hit ratio between 0 and 1, or 0 if nothing has been requested
+     */
+    public double getHitRatio() {
+        final long total = hits + revalidations + misses;
+        return total == 0 ? 0 : (double) (hits + revalidations) / total;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics{hits=" + hits + ", revalidations=" + revalidations + ", misses=" + misses +
+                ", evictions=" + evictions + ", size=" + size + ", maxSize=" + maxSize + '}';
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.client;
+
+import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.UriBuilder;
+
+/**
+ * One REST URL of a {@link BatchClient}, with its cached path templates and
+ * {@code jakarta.ws.rs.client.WebTarget}s, the number of requests in progress,
+ * and whether it is currently ejected from load balancing after failures.
+ *
+ * @since 3.0.1.Final
+ */
+final class Endpoint {
+    private final Client client;
+
+    private final String restUrl;
+
+    /**
+     * Path templates of resource methods, resolved from the resource annotations
+     * once per endpoint, keyed by resource class and method name.
+     */
+    private final ConcurrentMap<String, String> pathTemplates = new ConcurrentHashMap<>();
+
+    /**
+     * Immutable {@code WebTarget} of each resource method, keyed by path template.
+     */
+    private final ConcurrentMap<String, WebTarget> webTargets = new ConcurrentHashMap<>();
+
+    /**
+     * Number of requests sent to this endpoint and not completed yet.
+     */
+    final AtomicInteger outstanding = new AtomicInteger();
+
+    /**
+     * {@code System.nanoTime()} until which this endpoint is ejected, or 0 if it is not ejected.
+     */
+    private volatile long ejectedUntil;
+
+    Endpoint(final Client client, final String restUrl) {
+        this.client = client;
+        this.restUrl = restUrl;
+    }
+
+    String getRestUrl() {
+        return restUrl;
+    }
+
+    /**
+     * Gets the cached {@code jakarta.ws.rs.client.WebTarget} for the specified
+     * REST resource class and method. The returned {@code WebTarget} is immutable,
+     * and may still contain unresolved path templates.
+     *
+     * @param cls REST resource class
+     * @param methodName name of the resource method in the above REST resource class
+     * @return {@code jakarta.ws.rs.client.WebTarget}
+     */
+    WebTarget target(final Class<?> cls, final String methodName) {
+        return webTargets.computeIfAbsent(pathTemplate(cls, methodName), client::target);
+    }
+
+    /**
+     * Gets a {@code jakarta.ws.rs.client.WebTarget} for the specified REST resource
+     * class and method on this endpoint, with the query of another uri, such as the
+     * continuation link of a page returned by another endpoint.
+     *
+     * @param cls REST resource class
+     * @param methodName name of the resource method in the above REST resource class
+     * @param uri the uri whose query to use; its scheme, host and path are ignored
+     * @return {@code jakarta.ws.rs.client.WebTarget}
+     */
+    WebTarget target(final Class<?> cls, final String methodName, final URI uri) {
+        return client.target(target(cls, methodName).getUriBuilder().replaceQuery(uri.getRawQuery()));
+    }
+
+    String pathTemplate(final Class<?> cls, final String methodName) {
+        final String key = methodName == null ? cls.getName() : cls.getName() + '#' + methodName;
+        return pathTemplates.computeIfAbsent(key, k -> {
+            UriBuilder uriBuilder = UriBuilder.fromPath(restUrl).path(cls);
+            if (methodName != null) {
+                uriBuilder = uriBuilder.path(cls, methodName);
+            }
+            return uriBuilder.toTemplate();
+        });
+    }
+
+    boolean isEjected(final long now) {
+        final long until = ejectedUntil;
+        return until != 0 && until - now > 0;
+    }
+
+    void eject(final long now, final long durationNanos) {
+        ejectedUntil = now + durationNanos;
+    }
+
+    void restore() {
+        ejectedUntil = 0;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.client;
+
+import java.net.URI;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Link;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Iterator over the elements of a paged REST resource. Pages are fetched lazily,
+ * when the elements of the current page are exhausted, by following the
+ * {@code Link} header with relation {@code next} in the response of the previous page.
+ * Each page is fetched with the functions passed in by {@link BatchClient}, which
+ * send the query of the page uri to a REST URL chosen by load balancing.
+ * <p>
+ * If prefetching is enabled, the next page is requested asynchronously as soon as
+ * the current page is received, so that it is usually available by the time the
+ * caller has consumed the current page. If the REST URL of the prefetch request is
+ * unavailable, the page is fetched again synchronously, with retry on the other
+ * REST URLs. At most 2 pages are held in memory.
+ *
+ * @param <T> the type of elements
+ *
+ * @since 3.0.1.Final
+ */
+final class PagingIterator<T> implements Iterator<T>, AutoCloseable {
+    private final Function<URI, Page<T>> fetch;
+    private final Function<URI, CompletionStage<Page<T>>> fetchAsync;
+
+    private URI nextPage;
+    private URI prefetchedUri;
+    private CompletableFuture<Page<T>> prefetchedPage;
+    private T[] page;
+    private int index;
+
+    /**
+     * Constructs {@code PagingIterator}.
+     *
+     * @param firstPage uri of the first page
+     * @param fetch fetches the page of the specified uri
+     * @param fetchAsync fetches the page of the specified uri asynchronously;
+     *                   null to not fetch the next page in the background
+     */
+    PagingIterator(final URI firstPage, final Function<URI, Page<T>> fetch,
+                   final Function<URI, CompletionStage<Page<T>>> fetchAsync) {
+        this.nextPage = firstPage;
+        this.fetch = fetch;
+        this.fetchAsync = fetchAsync;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (page == null || index >= page.length) {
+            if (prefetchedPage == null && nextPage == null) {
+                return false;
+            }
+            advance();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page[index++];
+    }
+
+    /**
+     * Discards the pending request for the next page, if any. Its response is
+     * still read and closed when it is received.
+     */
+    @Override
+    public void close() {
+        prefetchedUri = null;
+        prefetchedPage = null;
+        nextPage = null;
+    }
+
+    private void advance() {
+        Page<T> current;
+        if (prefetchedPage != null) {
+            try {
+                current = prefetchedPage.join();
+            } catch (CompletionException e) {
+                final Throwable cause = e.getCause();
+                if (!BatchClient.isNodeFailure(cause)) {
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    }
+                    throw e;
+                }
+                current = fetch.apply(prefetchedUri);
+            } finally {
+                prefetchedUri = null;
+                prefetchedPage = null;
+            }
+        } else {
+            current = fetch.apply(nextPage);
+        }
+
+        page = current.elements;
+        index = 0;
+        nextPage = current.next;
+        if (fetchAsync != null && nextPage != null) {
+            prefetchedUri = nextPage;
+            prefetchedPage = fetchAsync.apply(nextPage).toCompletableFuture();
+            nextPage = null;
+        }
+    }
+
+    /**
+     * Reads a page from the response, and closes the response.
+     *
+     * @param response the response of a page request
+     * @param pageType array type of a page of elements
+     * @param <T> the type of elements
+     * @return the page, with the uri of the next page if any
+     * @throws WebApplicationException if the response status is not successful
+     */
+    static <T> Page<T> toPage(final Response response, final Class<T[]> pageType) {
+        try {
+            if (response.getStatusInfo().getFamily() != Response.Status.Family.SUCCESSFUL) {
+                response.bufferEntity();
+                throw new WebApplicationException(response);
+            }
+            final Link next = response.getLink("next");
+            return new Page<>(response.readEntity(pageType), next == null ? null : next.getUri());
+        } finally {
+            response.close();
+        }
+    }
+
+    static final class Page<T> {
+        private final T[] elements;
+        private final URI next;
+
+        private Page(final T[] elements, final URI next) {
+            this.elements = elements;
+            this.next = next;
+        }
+    }
+}
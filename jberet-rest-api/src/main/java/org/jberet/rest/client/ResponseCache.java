@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.client;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Bounded LRU cache of results of {@link BatchClient} requests, which honors the
+ * {@code ETag} and {@code Cache-Control} headers of the responses.
+ * <p>
+ * A response is only cached if it has an {@code ETag} header or a positive
+ * {@code max-age}, and no {@code no-store}. It is used without a request until its
+ * {@code max-age} has passed, and then revalidated with its {@code ETag}, if any.
+ * A response with {@code no-cache} is revalidated before each use.
+ *
+ * @since 3.0.1.Final
+ */
+final class ResponseCache {
+    /**
+     * Value returned by {@link #maxAgeSeconds(Response)} for a response with {@code no-store}.
+     */
+    private static final long NO_STORE = -1;
+
+    private final int maxSize;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder revalidations = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final Map<String, Entry> entries;
+
+    ResponseCache(final int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+                if (size() > ResponseCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Gets the cached entry for the key, and counts a hit if it can be used
+     * without revalidation.
+     *
+     * @param key the cache key
+     * @param now current time from {@code System.nanoTime()}
+     * @return the cached entry, or null if not cached
+     */
+    Entry get(final String key, final long now) {
+        final Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry != null && entry.isFresh(now)) {
+            hits.increment();
+        }
+        return entry;
+    }
+
+    /**
+     * Caches the result of a response, if the response allows caching, and counts a miss.
+     *
+     * @param key the cache key
+     * @param value the result read from {@code response}
+     * @param response the response
+     * @param now current time from {@code System.nanoTime()}
+     */
+    void put(final String key, final Object value, final Response response, final long now) {
+        misses.increment();
+        final String entityTag = response.getHeaderString(HttpHeaders.ETAG);
+        final long maxAge = maxAgeSeconds(response);
+        final boolean cacheable = maxAge != NO_STORE && (entityTag != null || maxAge > 0);
+        synchronized (entries) {
+            if (cacheable) {
+                entries.put(key, new Entry(value, entityTag, expiresAt(maxAge, now)));
+            } else {
+                entries.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Extends the life of a cached entry after the server answered its revalidation
+     * with status 304 (Not Modified), and counts a revalidation.
+     *
+     * @param key the cache key
+     * @param entry the cached entry
+     * @param response the response with status 304
+     * @param now current time from {@code System.nanoTime()}
+     */
+    void revalidated(final String key, final Entry entry, final Response response, final long now) {
+        revalidations.increment();
+        final long maxAge = maxAgeSeconds(response);
+        synchronized (entries) {
+            if (maxAge == NO_STORE) {
+                entries.remove(key);
+            } else {
+                entries.put(key, new Entry(entry.value, entry.entityTag, expiresAt(maxAge, now)));
+            }
+        }
+    }
+
+    CacheStatistics getStatistics() {
+        final int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new CacheStatistics(hits.sum(), revalidations.sum(), misses.sum(), evictions.sum(), size, maxSize);
+    }
+
+    /**
+     * Gets the number of seconds the response may be used without revalidation,
+     * from its {@code Cache-Control} header.
+     *
+     * @return {@code max-age}, 0 if absent or {@code no-cache}, or {@link #NO_STORE}
+     */
+    private static long maxAgeSeconds(final Response response) {
+        final String cacheControl = response.getHeaderString(HttpHeaders.CACHE_CONTROL);
+        if (cacheControl == null) {
+            return 0;
+        }
+        long maxAge = 0;
+        boolean noCache = false;
+        for (final String directive : cacheControl.split(",")) {
+            final String d = directive.trim().toLowerCase();
+            if (d.equals("no-store")) {
+                return NO_STORE;
+            } else if (d.startsWith("no-cache")) {
+                noCache = true;
+            } else if (d.startsWith("max-age=")) {
+                try {
+                    maxAge = Long.parseLong(d.substring("max-age=".length()).trim());
+                } catch (NumberFormatException e) {
+                    maxAge = 0;
+                }
+            }
+        }
+        return noCache ? 0 : Math.max(maxAge, 0);
+    }
+
+    private static long expiresAt(final long maxAgeSeconds, final long now) {
+        return now + TimeUnit.SECONDS.toNanos(maxAgeSeconds);
+    }
+
+    /**
+     * Cached result, with its entity tag and expiration time.
+     */
+    static final class Entry {
+        final Object value;
+        final String entityTag;
+        private final long expiresAt;
+
+        private Entry(final Object value, final String entityTag, final long expiresAt) {
+            this.value = value;
+            this.entityTag = entityTag;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isFresh(final long now) {
+            return expiresAt - now > 0;
+        }
+    }
+}
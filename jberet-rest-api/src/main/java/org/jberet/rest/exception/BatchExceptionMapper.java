@@ -10,6 +10,9 @@
 
 package org.jberet.rest.exception;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import jakarta.batch.operations.BatchRuntimeException;
 import jakarta.batch.operations.JobExecutionAlreadyCompleteException;
 import jakarta.batch.operations.JobExecutionIsRunningException;
@@ -29,15 +32,55 @@ import org.jberet.rest.entity.BatchExceptionEntity;
 /**
  * Exception mapper for {@code BatchRuntimeException}, and maps various sub-types of {@code BatchRuntimeException}
  * to appropriate response status.
+ * <p>
+ * By default, every exception is logged with its stack trace, and the response entity
+ * includes the full stack trace. When system property {@value #COMPACT_CLIENT_ERRORS_PROPERTY}
+ * is set to {@code true}, client errors (response status 4xx, such as 400 for
+ * {@code NoSuchJobExecutionException} and 403 for {@code JobSecurityException}) are instead
+ * logged at debug level at most once per second, and their response entity does not include
+ * stack trace. The stack trace included in other responses can be bounded with
+ * system properties {@value #MAX_STACK_TRACE_DEPTH_PROPERTY} and
+ * {@value #MAX_STACK_TRACE_LENGTH_PROPERTY}.
  *
  * @since 1.3.0
  */
 @Provider
 public class BatchExceptionMapper implements ExceptionMapper<BatchRuntimeException> {
+    /**
+     * System property to enable compact handling of client errors.
+     *
+     * @since 3.0.1.Final
+     */
+    public static final String COMPACT_CLIENT_ERRORS_PROPERTY = "org.jberet.rest.exception.compactClientErrors";
+
+    /**
+     * System property for the max number of stack frames of each exception in the response entity.
+     *
+     * @since 3.0.1.Final
+     */
+    public static final String MAX_STACK_TRACE_DEPTH_PROPERTY = "org.jberet.rest.exception.maxStackTraceDepth";
+
+    /**
+     * System property for the max length of stack trace text in the response entity.
+     *
+     * @since 3.0.1.Final
+     */
+    public static final String MAX_STACK_TRACE_LENGTH_PROPERTY = "org.jberet.rest.exception.maxStackTraceLength";
+
+    private static final boolean compactClientErrors = Boolean.getBoolean(COMPACT_CLIENT_ERRORS_PROPERTY);
+
+    private static final int maxStackTraceDepth = Integer.getInteger(MAX_STACK_TRACE_DEPTH_PROPERTY, 0);
+
+    private static final int maxStackTraceLength = Integer.getInteger(MAX_STACK_TRACE_LENGTH_PROPERTY, 0);
+
+    private static final long CLIENT_ERROR_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final AtomicLong nextClientErrorLogTime = new AtomicLong(System.nanoTime());
+
+    private static final AtomicInteger suppressedClientErrors = new AtomicInteger();
 
     @Override
     public Response toResponse(final BatchRuntimeException exception) {
-        RestAPILogger.LOGGER.exceptionAccessingRestAPI(exception);
         final Response.Status status;
 
         if (exception instanceof NoSuchJobExecutionException ||
@@ -54,7 +97,36 @@ public class BatchExceptionMapper implements ExceptionMapper<BatchRuntimeExcepti
             status = Response.Status.INTERNAL_SERVER_ERROR;
         }
 
-        final Response response = Response.status(status).entity(new BatchExceptionEntity(exception)).build();
+        final BatchExceptionEntity entity;
+        if (compactClientErrors && status.getFamily() == Response.Status.Family.CLIENT_ERROR) {
+            logClientError(exception);
+            entity = new BatchExceptionEntity(exception, false, 0, 0);
+        } else {
+            RestAPILogger.LOGGER.exceptionAccessingRestAPI(exception);
+            entity = new BatchExceptionEntity(exception, true, maxStackTraceDepth, maxStackTraceLength);
+        }
+
+        final Response response = Response.status(status).entity(entity).build();
         return response;
     }
+
+    /**
+     * Logs a client error at debug level, without stack trace, and at most once per
+     * {@link #CLIENT_ERROR_LOG_INTERVAL_NANOS}. Client errors occurring in between
+     * are counted and the count is included in the next log message.
+     *
+     * @param exception the client error
+     */
+    private static void logClientError(final BatchRuntimeException exception) {
+        if (!RestAPILogger.LOGGER.isDebugEnabled()) {
+            return;
+        }
+        final long now = System.nanoTime();
+        final long next = nextClientErrorLogTime.get();
+        if (now - next >= 0 && nextClientErrorLogTime.compareAndSet(next, now + CLIENT_ERROR_LOG_INTERVAL_NANOS)) {
+            RestAPILogger.LOGGER.clientErrorAccessingRestAPI(exception.toString(), suppressedClientErrors.getAndSet(0));
+        } else {
+            suppressedClientErrors.incrementAndGet();
+        }
+    }
 }
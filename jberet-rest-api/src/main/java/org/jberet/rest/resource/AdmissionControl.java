@@ -0,0 +1,441 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.resource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import jakarta.ws.rs.ClientErrorException;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import org.jberet.rest._private.RestAPIMessages;
+import org.jberet.rest.entity.JobExecutionEntity;
+import org.jberet.rest.service.JobService;
+
+/**
+ * Limits the job executions started through the REST API, so that a burst of
+ * job start or submit requests does not flood the batch thread pool.
+ * <p>
+ * The following limits are configured with system properties, and are disabled
+ * by default (0 or negative value):
+ * <ul>
+ * <li>{@value #MAX_RUNNING_PROPERTY}: maximum number of running job executions;
+ * <li>{@value #MAX_RUNNING_PER_JOB_PROPERTY}: maximum number of running job executions
+ * of each job;
+ * <li>{@value #RATE_PROPERTY}: maximum number of job starts per second;
+ * <li>{@value #RATE_PER_JOB_PROPERTY}: maximum number of job starts per second of each job;
+ * <li>{@value #BURST_PROPERTY}: number of job starts allowed at once above the rate limits,
+ * which defaults to the number of starts per second.
+ * </ul>
+ * Only job executions started through the REST API in this JVM are counted as running.
+ * Job executions started by submitting a job definition, and start requests for a job
+ * name that is not known, such as one without a job XML, are counted against the global
+ * limits only. A request exceeding any limit is answered with status 429
+ * (Too Many Requests) and a {@code Retry-After} header.
+ * <p>
+ * The limits are checked with atomic compare-and-set operations only, without locking.
+ * Rate limits are implemented as token buckets, using the generic cell rate algorithm,
+ * which keeps the state of each bucket in a single {@code java.util.concurrent.atomic.AtomicLong}.
+ * <p>
+ * The limits of each job are created on its first start request, once the job name is
+ * known, and are forgotten once they are idle: without running job executions, and
+ * with a full token bucket. Idle limits of a job whose start failed are forgotten at once,
+ * and those of other jobs when more than {@link #MAX_TRACKED_JOBS} jobs are tracked.
+ * Limits in use by a start request are never forgotten: a request marks the limits it uses,
+ * and limits are only forgotten after they are marked as evicted while unused, so that a
+ * request finding evicted limits looks them up again.
+ *
+ * @since 3.0.1.Final
+ */
+final class AdmissionControl {
+    static final String MAX_RUNNING_PROPERTY = "org.jberet.rest.admission.maxRunningJobs";
+
+    static final String MAX_RUNNING_PER_JOB_PROPERTY = "org.jberet.rest.admission.maxRunningJobsPerJob";
+
+    static final String RATE_PROPERTY = "org.jberet.rest.admission.startsPerSecond";
+
+    static final String RATE_PER_JOB_PROPERTY = "org.jberet.rest.admission.startsPerSecondPerJob";
+
+    static final String BURST_PROPERTY = "org.jberet.rest.admission.burst";
+
+    static final String RETRY_AFTER_PROPERTY = "org.jberet.rest.admission.retryAfterSeconds";
+
+    static final int DEFAULT_RETRY_AFTER_SECONDS = 1;
+
+    /**
+     * Minimum interval between checks of whether tracked job executions have finished.
+     */
+    private static final long RECONCILE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /**
+     * Number of jobs with per-job limits above which idle per-job limits are evicted.
+     */
+    private static final int MAX_TRACKED_JOBS = 1000;
+
+    private static final int maxRunning = Integer.getInteger(MAX_RUNNING_PROPERTY, 0);
+
+    private static final int maxRunningPerJob = Integer.getInteger(MAX_RUNNING_PER_JOB_PROPERTY, 0);
+
+    private static final int rate = Integer.getInteger(RATE_PROPERTY, 0);
+
+    private static final int ratePerJob = Integer.getInteger(RATE_PER_JOB_PROPERTY, 0);
+
+    private static final int retryAfterSeconds = Integer.getInteger(RETRY_AFTER_PROPERTY, DEFAULT_RETRY_AFTER_SECONDS);
+
+    private static final Limits global = new Limits(maxRunning, rate);
+
+    private static final ConcurrentMap<String, Limits> perJob = new ConcurrentHashMap<>();
+
+    /**
+     * Running job executions admitted under a limit on running job executions,
+     * mapped to their per-job limits, or to {@link #global} if there is none.
+     */
+    private static final ConcurrentMap<Long, Limits> running = new ConcurrentHashMap<>();
+
+    private static final AtomicLong lastReconcile = new AtomicLong(System.nanoTime() - RECONCILE_INTERVAL_NANOS);
+
+    private static final AtomicLong lastEviction = new AtomicLong(System.nanoTime() - RECONCILE_INTERVAL_NANOS);
+
+    private AdmissionControl() {
+    }
+
+    /**
+     * Starts a job execution with {@code starter}, if it is within all configured limits.
+     *
+     * @param jobName the name of a known job to start, such as the job of a registered job
+     *                definition, or null if not known before starting
+     * @param starter starts a new job execution
+     * @return the new job execution
+     * @throws ClientErrorException with status 429 if any limit is exceeded
+     */
+    static JobExecutionEntity start(final String jobName, final Supplier<JobExecutionEntity> starter) {
+        return start(jobName, k -> true, starter);
+    }
+
+    /**
+     * Starts a job execution with {@code starter}, if it is within all configured limits.
+     *
+     * @param jobName the name of the job to start, or null if not known before starting
+     * @param isKnown checks if a job name without limits yet is known, before its limits are created
+     * @param starter starts a new job execution
+     * @return the new job execution
+     * @throws ClientErrorException with status 429 if any limit is exceeded
+     */
+    static JobExecutionEntity start(final String jobName, final Predicate<String> isKnown,
+                                    final Supplier<JobExecutionEntity> starter) {
+        final Limits job = jobName != null && (maxRunningPerJob > 0 || ratePerJob > 0)
+                ? useLimits(jobName, isKnown)
+                : null;
+        if (job == null) {
+            return global.enabled() ? admit(jobName, null, starter) : starter.get();
+        }
+        boolean started = false;
+        try {
+            if (perJob.size() > MAX_TRACKED_JOBS) {
+                evictIdle();
+            }
+            final JobExecutionEntity jobExecution = admit(jobName, job, starter);
+            started = true;
+            return jobExecution;
+        } finally {
+            job.release();
+            if (!started && job.evictIfIdle(System.nanoTime())) {
+                perJob.remove(jobName, job);
+            }
+        }
+    }
+
+    /**
+     * Gets the limits of a job, creating them if the job is known, and marks them
+     * in use by the caller, who must {@linkplain Limits#release() release} them.
+     *
+     * @return the limits of the job, or null if the job has no limits and is not known
+     */
+    private static Limits useLimits(final String jobName, final Predicate<String> isKnown) {
+        while (true) {
+            Limits limits = perJob.get(jobName);
+            if (limits == null) {
+                if (!isKnown.test(jobName)) {
+                    return null;
+                }
+                limits = perJob.computeIfAbsent(jobName, k -> new Limits(maxRunningPerJob, ratePerJob));
+            }
+            if (limits.use()) {
+                return limits;
+            }
+            //evicted concurrently, so look up again
+            perJob.remove(jobName, limits);
+        }
+    }
+
+    /**
+     * Starts a job execution with {@code starter}, if it is within the global limits
+     * and the limits of the job.
+     *
+     * @param jobName the name of the job to start, or null if not known before starting
+     * @param job the limits of the job in use by the caller, or null if none
+     * @param starter starts a new job execution
+     * @return the new job execution
+     * @throws ClientErrorException with status 429 if any limit is exceeded
+     */
+    private static JobExecutionEntity admit(final String jobName, final Limits job,
+                                            final Supplier<JobExecutionEntity> starter) {
+        if (!acquireRunning(global)) {
+            throw tooManyRequests(RestAPIMessages.MESSAGES.maxRunningJobsReached(maxRunning), retryAfterSeconds);
+        }
+        if (job != null && !acquireRunning(job)) {
+            releaseRunning(global, null);
+            throw tooManyRequests(RestAPIMessages.MESSAGES.maxRunningJobsPerJobReached(jobName, maxRunningPerJob),
+                    retryAfterSeconds);
+        }
+
+        final long now = System.nanoTime();
+        long wait = global.rateLimiter == null ? 0 : global.rateLimiter.tryAcquire(now);
+        if (wait > 0) {
+            releaseRunning(global, job);
+            throw tooManyRequests(RestAPIMessages.MESSAGES.startRateExceeded(rate), toRetryAfterSeconds(wait));
+        }
+        wait = job == null || job.rateLimiter == null ? 0 : job.rateLimiter.tryAcquire(now);
+        if (wait > 0) {
+            if (global.rateLimiter != null) {
+                global.rateLimiter.refund();
+            }
+            releaseRunning(global, job);
+            throw tooManyRequests(RestAPIMessages.MESSAGES.startRatePerJobExceeded(jobName, ratePerJob),
+                    toRetryAfterSeconds(wait));
+        }
+
+        final JobExecutionEntity jobExecution;
+        try {
+            jobExecution = starter.get();
+        } catch (RuntimeException e) {
+            releaseRunning(global, job);
+            throw e;
+        }
+        if (global.maxRunning > 0 || (job != null && job.maxRunning > 0)) {
+            running.put(jobExecution.getExecutionId(), job == null ? global : job);
+        }
+        return jobExecution;
+    }
+
+    private static boolean acquireRunning(final Limits limits) {
+        if (limits.maxRunning <= 0) {
+            return true;
+        }
+        if (limits.tryIncrementRunning()) {
+            return true;
+        }
+        return reconcile() && limits.tryIncrementRunning();
+    }
+
+    private static void releaseRunning(final Limits globalLimits, final Limits job) {
+        if (globalLimits.maxRunning > 0) {
+            globalLimits.runningCount.decrementAndGet();
+        }
+        if (job != null && job != globalLimits && job.maxRunning > 0) {
+            job.runningCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Releases the running slots of tracked job executions that have finished.
+     * Only one thread checks at a time, and at most once per {@link #RECONCILE_INTERVAL_NANOS}.
+     *
+     * @return true if any running slot was released; false otherwise
+     */
+    private static boolean reconcile() {
+        final long now = System.nanoTime();
+        final long last = lastReconcile.get();
+        if (now - last < RECONCILE_INTERVAL_NANOS || !lastReconcile.compareAndSet(last, now)) {
+            return false;
+        }
+        boolean released = false;
+        for (final Map.Entry<Long, Limits> e : running.entrySet()) {
+            if (JobService.getInstance().isFinished(e.getKey()) && running.remove(e.getKey(), e.getValue())) {
+                releaseRunning(global, e.getValue());
+                released = true;
+            }
+        }
+        return released;
+    }
+
+    /**
+     * Removes idle per-job limits not in use. Only one thread evicts at a time, and at most
+     * once per {@link #RECONCILE_INTERVAL_NANOS}.
+     */
+    private static void evictIdle() {
+        final long now = System.nanoTime();
+        final long last = lastEviction.get();
+        if (now - last < RECONCILE_INTERVAL_NANOS || !lastEviction.compareAndSet(last, now)) {
+            return;
+        }
+        for (final Map.Entry<String, Limits> e : perJob.entrySet()) {
+            if (e.getValue().evictIfIdle(now)) {
+                perJob.remove(e.getKey(), e.getValue());
+            }
+        }
+    }
+
+    private static long toRetryAfterSeconds(final long waitNanos) {
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private static ClientErrorException tooManyRequests(final String message, final long retryAfterSeconds) {
+        return new ClientErrorException(message, Response.status(Response.Status.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds)
+                .type(MediaType.TEXT_PLAIN_TYPE)
+                .entity(message)
+                .build());
+    }
+
+    /**
+     * The limits of all job executions, or of the job executions of a job.
+     */
+    private static final class Limits {
+        private final int maxRunning;
+        private final AtomicInteger runningCount = new AtomicInteger();
+        private final RateLimiter rateLimiter;
+
+        /**
+         * Number of start requests using these limits, or -1 once they are evicted.
+         */
+        private final AtomicInteger users = new AtomicInteger();
+
+        private Limits(final int maxRunning, final int rate) {
+            this.maxRunning = maxRunning;
+            this.rateLimiter = rate > 0 ? new RateLimiter(rate, Integer.getInteger(BURST_PROPERTY, rate)) : null;
+        }
+
+        private boolean enabled() {
+            return maxRunning > 0 || rateLimiter != null;
+        }
+
+        /**
+         * Whether these limits are in their initial state, and can be forgotten.
+         *
+         * @param now current time from {@code System.nanoTime()}
+         */
+        private boolean isIdle(final long now) {
+            return runningCount.get() <= 0 && (rateLimiter == null || rateLimiter.isFull(now));
+        }
+
+        /**
+         * Marks these limits in use by a start request, unless they are evicted.
+         *
+         * @return true if marked in use; false if evicted
+         */
+        private boolean use() {
+            int n;
+            do {
+                n = users.get();
+                if (n < 0) {
+                    return false;
+                }
+            } while (!users.compareAndSet(n, n + 1));
+            return true;
+        }
+
+        private void release() {
+            users.decrementAndGet();
+        }
+
+        /**
+         * Marks these limits evicted if they are idle and not in use, after which
+         * they must be removed from {@link #perJob}.
+         *
+         * @param now current time from {@code System.nanoTime()}
+         * @return true if evicted; false otherwise
+         */
+        private boolean evictIfIdle(final long now) {
+            if (!users.compareAndSet(0, -1)) {
+                return false;
+            }
+            if (isIdle(now)) {
+                return true;
+            }
+            users.set(0);
+            return false;
+        }
+
+        private boolean tryIncrementRunning() {
+            int n;
+            do {
+                n = runningCount.get();
+                if (n >= maxRunning) {
+                    return false;
+                }
+            } while (!runningCount.compareAndSet(n, n + 1));
+            return true;
+        }
+    }
+
+    /**
+     * Token bucket rate limiter implemented with the generic cell rate algorithm.
+     * Instead of a token count that is refilled over time, it keeps the theoretical
+     * arrival time of the next request: each admitted request pushes it one emission
+     * interval further, and a request is rejected if that would put it more than
+     * the burst tolerance ahead of the current time.
+     */
+    private static final class RateLimiter {
+        private final long interval;
+        private final long tolerance;
+        private final AtomicLong theoreticalArrivalTime = new AtomicLong(System.nanoTime());
+
+        private RateLimiter(final int rate, final int burst) {
+            this.interval = TimeUnit.SECONDS.toNanos(1) / rate;
+            this.tolerance = interval * (Math.max(burst, 1) - 1);
+        }
+
+        /**
+         * Tries to take a token.
+         *
+         * @param now current time from {@code System.nanoTime()}
+         * @return 0 if a token is taken, otherwise the number of nanoseconds until one is available
+         */
+        private long tryAcquire(final long now) {
+            long tat;
+            long next;
+            do {
+                tat = theoreticalArrivalTime.get();
+                final long start = tat - now > 0 ? tat : now;
+                final long wait = start - tolerance - now;
+                if (wait > 0) {
+                    return wait;
+                }
+                next = start + interval;
+            } while (!theoreticalArrivalTime.compareAndSet(tat, next));
+            return 0;
+        }
+
+        /**
+         * Whether the bucket is full, as when the rate limiter is created.
+         *
+         * @param now current time from {@code System.nanoTime()}
+         */
+        private boolean isFull(final long now) {
+            return theoreticalArrivalTime.get() - now <= 0;
+        }
+
+        /**
+         * Gives back a token taken by a request that was rejected by another limit.
+         */
+        private void refund() {
+            theoreticalArrivalTime.addAndGet(-interval);
+        }
+    }
+}
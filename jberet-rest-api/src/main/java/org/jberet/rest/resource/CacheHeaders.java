@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.resource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+
+import org.jberet.rest.entity.JobExecutionEntity;
+import org.jberet.rest.entity.StepExecutionEntity;
+
+/**
+ * Builds responses with {@code ETag} and {@code Cache-Control} headers for resources
+ * that no longer change, so that clients can cache them.
+ * <p>
+ * A job execution that is {@code ABANDONED}, the step executions of a job execution once
+ * the job execution has finished, the scheduling features and the timezone ids may be
+ * cached for {@value #MAX_AGE_PROPERTY} seconds (default {@value #DEFAULT_MAX_AGE_SECONDS}).
+ * A {@code COMPLETED}, {@code FAILED} or {@code STOPPED} job execution may still be
+ * abandoned, so clients must revalidate it with its {@code ETag} before each use.
+ * Other job executions and step executions are sent without these headers.
+ * <p>
+ * Entity tags are SHA-256 digests of the fields that change when a job execution or
+ * step execution changes, so that a changed entity is never answered with status 304
+ * (Not Modified).
+ *
+ * @since 3.0.1.Final
+ */
+final class CacheHeaders {
+    static final String MAX_AGE_PROPERTY = "org.jberet.rest.cache.maxAgeSeconds";
+
+    static final int DEFAULT_MAX_AGE_SECONDS = 3600;
+
+    private static final int maxAge = Integer.getInteger(MAX_AGE_PROPERTY, DEFAULT_MAX_AGE_SECONDS);
+
+    private CacheHeaders() {
+    }
+
+    /**
+     * Builds the response for a job execution, with cache headers if it has finished.
+     *
+     * @param request {@code jakarta.ws.rs.core.Request} to evaluate request preconditions
+     * @param jobExecution the job execution
+     * @return response containing the job execution, or with status 304 (Not Modified)
+     */
+    static Response jobExecution(final Request request, final JobExecutionEntity jobExecution) {
+        final BatchStatus status = jobExecution.getBatchStatus();
+        if (status == BatchStatus.ABANDONED) {
+            return response(request, jobExecution, entityTag(jobExecution), maxAge());
+        }
+        if (status == BatchStatus.COMPLETED || status == BatchStatus.FAILED || status == BatchStatus.STOPPED) {
+            return response(request, jobExecution, entityTag(jobExecution), noCache());
+        }
+        return Response.ok(jobExecution).build();
+    }
+
+    /**
+     * Builds the response for the step executions of a job execution, with cache headers
+     * if the job execution had finished before the step executions were retrieved.
+     * Step executions that have all finished are not enough, since a running job execution
+     * may still start more steps.
+     *
+     * @param request {@code jakarta.ws.rs.core.Request} to evaluate request preconditions
+     * @param jobExecutionFinished whether the job execution had finished before the step executions were retrieved
+     * @param stepExecutions the step executions
+     * @return response containing the step executions, or with status 304 (Not Modified)
+     */
+    static Response stepExecutions(final Request request, final boolean jobExecutionFinished,
+                                   final StepExecutionEntity[] stepExecutions) {
+        if (!jobExecutionFinished || stepExecutions.length == 0) {
+            return Response.ok(stepExecutions).build();
+        }
+        final MessageDigest digest = newDigest();
+        for (final StepExecutionEntity e : stepExecutions) {
+            if (!isFinished(e.getBatchStatus())) {
+                return Response.ok(stepExecutions).build();
+            }
+            update(digest, String.valueOf(e.getStepExecutionId()));
+            update(digest, e.getBatchStatus().name());
+            update(digest, e.getExitStatus());
+            update(digest, e.getEndTime() == null ? null : String.valueOf(e.getEndTime().getTime()));
+        }
+        return response(request, stepExecutions, entityTag(digest), maxAge());
+    }
+
+    /**
+     * Builds the response for an entity that does not change while the server is running.
+     *
+     * @param request {@code jakarta.ws.rs.core.Request} to evaluate request preconditions
+     * @param entity the entity
+     * @param entityTag the entity tag of {@code entity}
+     * @return response containing the entity, or with status 304 (Not Modified)
+     */
+    static Response immutable(final Request request, final Object entity, final EntityTag entityTag) {
+        return response(request, entity, entityTag, maxAge());
+    }
+
+    private static Response response(final Request request, final Object entity,
+                                     final EntityTag entityTag, final CacheControl cacheControl) {
+        final Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+        if (notModified != null) {
+            return notModified.cacheControl(cacheControl).build();
+        }
+        return Response.ok(entity).tag(entityTag).cacheControl(cacheControl).build();
+    }
+
+    private static EntityTag entityTag(final JobExecutionEntity jobExecution) {
+        final MessageDigest digest = newDigest();
+        update(digest, String.valueOf(jobExecution.getExecutionId()));
+        update(digest, jobExecution.getBatchStatus().name());
+        update(digest, jobExecution.getExitStatus());
+        update(digest, jobExecution.getEndTime() == null ? null : String.valueOf(jobExecution.getEndTime().getTime()));
+        update(digest, jobExecution.getLastUpdatedTime() == null ? null
+                : String.valueOf(jobExecution.getLastUpdatedTime().getTime()));
+        return entityTag(digest);
+    }
+
+    private static EntityTag entityTag(final MessageDigest digest) {
+        return new EntityTag(Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest()));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Updates the digest with the length-prefixed string, so that different sequences
+     * of strings have different digests.
+     */
+    private static void update(final MessageDigest digest, final String value) {
+        if (value == null) {
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(-1).array());
+            return;
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+
+    private static boolean isFinished(final BatchStatus status) {
+        return status == BatchStatus.COMPLETED || status == BatchStatus.FAILED
+                || status == BatchStatus.STOPPED || status == BatchStatus.ABANDONED;
+    }
+
+    /**
+     * Gets the {@code Cache-Control} header value allowing clients to cache a response
+     * for {@value #MAX_AGE_PROPERTY} seconds.
+     *
+     * @return {@code jakarta.ws.rs.core.CacheControl}
+     */
+    static CacheControl maxAge() {
+        final CacheControl cacheControl = new CacheControl();
+        cacheControl.setNoTransform(false);
+        cacheControl.setMaxAge(maxAge);
+        return cacheControl;
+    }
+
+    private static CacheControl noCache() {
+        final CacheControl cacheControl = new CacheControl();
+        cacheControl.setNoTransform(false);
+        cacheControl.setNoCache(true);
+        return cacheControl;
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.resource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+
+import org.jberet.rest._private.RestAPILogger;
+import org.jberet.rest._private.RestAPIMessages;
+import org.jberet.rest.client.BatchClient;
+import org.jberet.rest.entity.JobEntity;
+import org.jberet.rest.entity.JobExecutionEntity;
+
+/**
+ * Aggregates the results of queries over this node and its peer nodes, for deployments
+ * where each node has its own job repository. The peer nodes are configured with system
+ * property {@value #PEERS_PROPERTY}, as a comma-separated list of REST URLs, for example,
+ * {@code http://node2:8080/app1/api,http://node3:8080/app1/api}. Aggregation is disabled
+ * when no peer is configured.
+ * <p>
+ * Peers are queried in parallel through asynchronous {@link BatchClient} requests, which
+ * carry header {@value #LOCAL_HEADER} so that peers answer from their own job repository
+ * only, instead of aggregating again. A peer that fails or does not answer within
+ * {@value #PEER_TIMEOUT_PROPERTY} milliseconds (default {@value #DEFAULT_PEER_TIMEOUT_MILLIS})
+ * is left out of the result, and listed in response header {@value #UNAVAILABLE_PEERS_HEADER}.
+ *
+ * @since 3.0.1.Final
+ */
+final class ClusterAggregator {
+    static final String PEERS_PROPERTY = "org.jberet.rest.cluster.peers";
+
+    static final String PEER_TIMEOUT_PROPERTY = "org.jberet.rest.cluster.peerTimeoutMillis";
+
+    static final long DEFAULT_PEER_TIMEOUT_MILLIS = 2000;
+
+    static final String LOCAL_HEADER = "JBeret-Local";
+
+    static final String UNAVAILABLE_PEERS_HEADER = "JBeret-Unavailable-Peers";
+
+    /**
+     * Separates the positions of the nodes in a merged continuation token,
+     * which never appears in the continuation token of a single node.
+     */
+    private static final char TOKEN_SEPARATOR = ',';
+
+    /**
+     * Orders job executions from the most recently created, as the job executions of a
+     * single node are ordered. Execution ids are not comparable across job repositories.
+     */
+    private static final Comparator<JobExecutionEntity> NEWEST_FIRST = Comparator.comparing(
+            JobExecutionEntity::getCreateTime, Comparator.nullsLast(Comparator.<Date>reverseOrder()));
+
+    private static final long peerTimeout = Long.getLong(PEER_TIMEOUT_PROPERTY, DEFAULT_PEER_TIMEOUT_MILLIS);
+
+    private static final List<BatchClient> peers = createPeers();
+
+    private ClusterAggregator() {
+    }
+
+    /**
+     * Checks if a request should be answered with the aggregated result of all nodes.
+     *
+     * @param localHeader value of request header {@value #LOCAL_HEADER}
+     * @return true if peers are configured, and the request is not from a peer; false otherwise
+     */
+    static boolean isEnabled(final String localHeader) {
+        return !peers.isEmpty() && localHeader == null;
+    }
+
+    /**
+     * Runs a query on this node and all peers, and merges the results.
+     * Peers are queried in parallel with the local query.
+     *
+     * @param peerQuery the query to send to a peer
+     * @param localQuery the query on this node
+     * @param merge merges the elements from all nodes into the final result
+     * @param <T> the type of elements
+     * @return {@code jakarta.ws.rs.core.Response} with the merged result
+     */
+    static <T> Response aggregate(final Function<BatchClient, CompletionStage<T[]>> peerQuery,
+                                  final Supplier<T[]> localQuery,
+                                  final Function<List<T>, T[]> merge) {
+        final List<String> unavailablePeers = new ArrayList<>();
+        final List<T[]> nodeResults = query(i -> peerQuery.apply(peers.get(i)), localQuery, unavailablePeers);
+        final List<T> elements = new ArrayList<>();
+        for (final T[] nodeResult : nodeResults) {
+            if (nodeResult != null) {
+                Collections.addAll(elements, nodeResult);
+            }
+        }
+        return unavailablePeers(Response.ok(merge.apply(elements)), unavailablePeers).build();
+    }
+
+    /**
+     * Gets a page of the job executions of this node and all peers, merged and ordered
+     * from the most recently created. The continuation token of a merged page holds the
+     * position reached on each node, so that each node is queried for the job executions
+     * after its own position. When the page contains {@code count} job executions,
+     * the response includes a {@code Link} header with relation {@code next}, with the
+     * merged continuation token in query parameter {@code after}.
+     *
+     * @param count the maximum number of job executions, or 0 or negative for no limit
+     * @param after the merged continuation token of the previous page, or null for the first page
+     * @param localQuery gets the job executions of this node, after the specified job execution id,
+     *                   or from the most recent one if 0
+     * @param uriInfo {@code jakarta.ws.rs.core.UriInfo} of the current request
+     * @return {@code jakarta.ws.rs.core.Response} with the merged page
+     */
+    static Response aggregateJobExecutions(final int count, final String after,
+                                           final LongFunction<JobExecutionEntity[]> localQuery,
+                                           final UriInfo uriInfo) {
+        final long[] positions = after == null ? new long[peers.size() + 1]
+                : parseContinuationToken(after, peers.size() + 1);
+        final List<String> unavailablePeers = new ArrayList<>();
+        final List<JobExecutionEntity[]> nodeResults = query(i -> {
+            final Properties filter = new Properties();
+            if (count > 0) {
+                filter.setProperty("count", String.valueOf(count));
+            }
+            if (positions[i + 1] > 0) {
+                filter.setProperty("after", String.valueOf(positions[i + 1]));
+            }
+            return peers.get(i).getJobExecutionsAsync(filter);
+        }, () -> localQuery.apply(positions[0]), unavailablePeers);
+
+        final JobExecutionPage page = mergeJobExecutionPage(nodeResults, positions, count);
+        final Response.ResponseBuilder responseBuilder = Response.ok(page.jobExecutions);
+        if (count > 0 && page.jobExecutions.length == count) {
+            responseBuilder.links(JobInstanceResource.nextLink(uriInfo, toContinuationToken(page.positions)));
+        }
+        return unavailablePeers(responseBuilder, unavailablePeers).build();
+    }
+
+    /**
+     * Checks if a continuation token is a merged continuation token from
+     * {@link #aggregateJobExecutions(int, String, LongFunction, UriInfo)}.
+     *
+     * @param after the continuation token
+     * @return true if {@code after} is a merged continuation token; false otherwise
+     */
+    static boolean isMergedContinuationToken(final String after) {
+        return after.indexOf(TOKEN_SEPARATOR) >= 0;
+    }
+
+    /**
+     * Merges a page of job executions from the results of all nodes, and gets the
+     * position reached on each node.
+     *
+     * @param nodeResults the job executions of each node after its position, this node first;
+     *                    null for a node that did not answer
+     * @param positions the position of each node in the previous page, as the id of the last job
+     *                  execution taken from the node, or 0 if none has been taken yet
+     * @param count the maximum number of job executions, or 0 or negative for no limit
+     * @return the merged page, with the position of each node after the page
+     */
+    static JobExecutionPage mergeJobExecutionPage(final List<JobExecutionEntity[]> nodeResults,
+                                                  final long[] positions, final int count) {
+        final List<JobExecutionEntity> jobExecutions = new ArrayList<>();
+        final Map<JobExecutionEntity, Integer> nodes = new IdentityHashMap<>();
+        for (int i = 0; i < nodeResults.size(); i++) {
+            if (nodeResults.get(i) != null) {
+                for (final JobExecutionEntity e : nodeResults.get(i)) {
+                    jobExecutions.add(e);
+                    nodes.put(e, i);
+                }
+            }
+        }
+        final JobExecutionEntity[] merged = mergeJobExecutions(jobExecutions, count);
+        final long[] nextPositions = positions.clone();
+        final boolean[] moved = new boolean[positions.length];
+        for (final JobExecutionEntity e : merged) {
+            final int node = nodes.get(e);
+            if (!moved[node] || e.getExecutionId() < nextPositions[node]) {
+                nextPositions[node] = e.getExecutionId();
+                moved[node] = true;
+            }
+        }
+        return new JobExecutionPage(merged, nextPositions);
+    }
+
+    static String toContinuationToken(final long[] positions) {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < positions.length; i++) {
+            if (i > 0) {
+                sb.append(TOKEN_SEPARATOR);
+            }
+            sb.append(positions[i]);
+        }
+        return sb.toString();
+    }
+
+    static long[] parseContinuationToken(final String after, final int nodes) {
+        final String[] parts = after.split(String.valueOf(TOKEN_SEPARATOR), -1);
+        if (parts.length == nodes) {
+            final long[] positions = new long[nodes];
+            try {
+                for (int i = 0; i < nodes; i++) {
+                    positions[i] = Long.parseLong(parts[i]);
+                    if (positions[i] < 0) {
+                        throw RestAPIMessages.MESSAGES.invalidQueryParamValue("after", after);
+                    }
+                }
+                return positions;
+            } catch (NumberFormatException e) {
+                //fall through to throw invalid query param exception
+            }
+        }
+        throw RestAPIMessages.MESSAGES.invalidQueryParamValue("after", after);
+    }
+
+    /**
+     * Runs a query on this node and all peers in parallel.
+     *
+     * @param peerQuery the query to send to the peer of the specified index
+     * @param localQuery the query on this node
+     * @param unavailablePeers list to add the REST URLs of the peers that failed or did not answer
+     * @param <T> the type of elements
+     * @return the result of each node, this node first, and null for each unavailable peer
+     */
+    private static <T> List<T[]> query(final IntFunction<CompletionStage<T[]>> peerQuery,
+                                       final Supplier<T[]> localQuery,
+                                       final List<String> unavailablePeers) {
+        final List<CompletableFuture<T[]>> peerResults = new ArrayList<>(peers.size());
+        for (int i = 0; i < peers.size(); i++) {
+            peerResults.add(peerQuery.apply(i).toCompletableFuture().orTimeout(peerTimeout, TimeUnit.MILLISECONDS));
+        }
+
+        final List<T[]> nodeResults = new ArrayList<>(peers.size() + 1);
+        nodeResults.add(localQuery.get());
+        for (int i = 0; i < peerResults.size(); i++) {
+            try {
+                nodeResults.add(peerResults.get(i).join());
+            } catch (CompletionException | CancellationException e) {
+                final String peer = peers.get(i).getRestUrl();
+                RestAPILogger.LOGGER.failToQueryPeer(peer, e.getCause() == null ? e : e.getCause());
+                unavailablePeers.add(peer);
+                nodeResults.add(null);
+            }
+        }
+        return nodeResults;
+    }
+
+    private static Response.ResponseBuilder unavailablePeers(final Response.ResponseBuilder responseBuilder,
+                                                             final List<String> unavailablePeers) {
+        if (!unavailablePeers.isEmpty()) {
+            responseBuilder.header(UNAVAILABLE_PEERS_HEADER, String.join(",", unavailablePeers));
+        }
+        return responseBuilder;
+    }
+
+    /**
+     * Merges the jobs of all nodes, adding up the numbers of job instances and running
+     * job executions of the same job.
+     *
+     * @param jobs jobs of all nodes
+     * @return merged jobs, ordered by job name
+     */
+    static JobEntity[] mergeJobs(final List<JobEntity> jobs) {
+        final Map<String, JobEntity> merged = new TreeMap<>();
+        for (final JobEntity job : jobs) {
+            merged.merge(job.getJobName(), job, (a, b) -> new JobEntity(a.getJobName(),
+                    a.getNumberOfJobInstances() + b.getNumberOfJobInstances(),
+                    a.getNumberOfRunningJobExecutions() + b.getNumberOfRunningJobExecutions()));
+        }
+        return merged.values().toArray(new JobEntity[0]);
+    }
+
+    /**
+     * Merges the job executions of all nodes.
+     *
+     * @param jobExecutions job executions of all nodes
+     * @param count the maximum number of job executions to return, or 0 or negative for no limit
+     * @return merged job executions, ordered from the most recently created
+     */
+    static JobExecutionEntity[] mergeJobExecutions(final List<JobExecutionEntity> jobExecutions, final int count) {
+        jobExecutions.sort(NEWEST_FIRST);
+        final int size = count > 0 ? Math.min(count, jobExecutions.size()) : jobExecutions.size();
+        return jobExecutions.subList(0, size).toArray(new JobExecutionEntity[0]);
+    }
+
+    /**
+     * A merged page of job executions, with the position reached on each node.
+     */
+    static final class JobExecutionPage {
+        final JobExecutionEntity[] jobExecutions;
+
+        final long[] positions;
+
+        JobExecutionPage(final JobExecutionEntity[] jobExecutions, final long[] positions) {
+            this.jobExecutions = jobExecutions;
+            this.positions = positions;
+        }
+    }
+
+    private static List<BatchClient> createPeers() {
+        final String peersValue = System.getProperty(PEERS_PROPERTY);
+        if (peersValue == null || peersValue.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        final Client client = ClientBuilder.newBuilder()
+                .connectTimeout(peerTimeout, TimeUnit.MILLISECONDS)
+                .readTimeout(peerTimeout, TimeUnit.MILLISECONDS)
+                .register((ClientRequestFilter) requestContext ->
+                        requestContext.getHeaders().putSingle(LOCAL_HEADER, Boolean.TRUE.toString()))
+                .build();
+        final List<BatchClient> result = new ArrayList<>();
+        for (final String peer : peersValue.split(",")) {
+            if (!peer.trim().isEmpty()) {
+                result.add(new BatchClient(client, peer.trim()));
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+}
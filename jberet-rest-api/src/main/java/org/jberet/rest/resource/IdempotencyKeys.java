@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.resource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.jberet.rest._private.RestAPIMessages;
+import org.jberet.rest.entity.JobExecutionEntity;
+import org.jberet.rest.service.JobService;
+
+/**
+ * Remembers the job execution started for each client-supplied idempotency key, so
+ * that a retried request with the same key returns the job execution started by the
+ * original request, instead of starting a duplicate job execution.
+ * <p>
+ * At most {@value #MAX_KEYS_PROPERTY} keys (default {@value #DEFAULT_MAX_KEYS}) are
+ * remembered, each for {@value #TTL_PROPERTY} seconds (default {@value #DEFAULT_TTL_SECONDS}).
+ * When the limit is reached, the oldest keys are forgotten first, except keys whose job
+ * execution is still being started. Setting the max number of keys to 0 or negative value
+ * disables idempotency key handling.
+ * <p>
+ * Each key is remembered with a SHA-256 digest of the request content, so that a key
+ * reused for a request with different job parameters or job definition is rejected.
+ *
+ * @since 3.0.1.Final
+ */
+final class IdempotencyKeys {
+    static final String HEADER = "Idempotency-Key";
+
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    static final String MAX_KEYS_PROPERTY = "org.jberet.rest.idempotency.maxKeys";
+
+    static final String TTL_PROPERTY = "org.jberet.rest.idempotency.ttlSeconds";
+
+    static final int DEFAULT_MAX_KEYS = 10000;
+
+    static final long DEFAULT_TTL_SECONDS = 3600;
+
+    private static final int maxKeys = Integer.getInteger(MAX_KEYS_PROPERTY, DEFAULT_MAX_KEYS);
+
+    private static final long ttlNanos = TimeUnit.SECONDS.toNanos(Long.getLong(TTL_PROPERTY, DEFAULT_TTL_SECONDS));
+
+    /**
+     * Entries in insertion order, which is also the order of expiration, since all
+     * entries have the same time to live.
+     */
+    private static final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    private IdempotencyKeys() {
+    }
+
+    /**
+     * Starts a job execution with {@code starter}, unless a job execution has already
+     * been started, or is being started, for the same key. In that case, waits for the
+     * start in progress to finish if needed, and returns the existing job execution.
+     * If starting the job execution fails, the key is forgotten so that the request
+     * can be retried.
+     *
+     * @param key idempotency key scoped to the endpoint and job, or null if not supplied
+     * @param jobParams job parameters of the request, to detect a key reused for a different request
+     * @param jobDefinition job definition content of the request, or null if not applicable
+     * @param starter starts a new job execution
+     * @return the new or existing job execution, and whether it is an existing one
+     * @throws jakarta.ws.rs.BadRequestException if the key was used for a request with different content
+     */
+    static Result start(final String key, final Properties jobParams, final String jobDefinition,
+                        final Supplier<JobExecutionEntity> starter) {
+        if (key == null || maxKeys <= 0) {
+            return new Result(starter.get(), false);
+        }
+
+        final long now = System.nanoTime();
+        final Entry entry = new Entry(digest(jobParams, jobDefinition), now + ttlNanos);
+        final Entry existing;
+        synchronized (entries) {
+            expire(now);
+            existing = entries.putIfAbsent(key, entry);
+            if (existing == null) {
+                evict();
+            }
+        }
+
+        if (existing != null) {
+            if (!MessageDigest.isEqual(existing.digest, entry.digest)) {
+                throw RestAPIMessages.MESSAGES.idempotencyKeyReused(key);
+            }
+            final long jobExecutionId;
+            try {
+                jobExecutionId = existing.jobExecutionId.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw e;
+            }
+            return new Result(JobService.getInstance().getJobExecution(jobExecutionId), true);
+        }
+
+        try {
+            final JobExecutionEntity jobExecution = starter.get();
+            entry.jobExecutionId.complete(jobExecution.getExecutionId());
+            return new Result(jobExecution, false);
+        } catch (Throwable e) {
+            synchronized (entries) {
+                entries.remove(key, entry);
+            }
+            entry.jobExecutionId.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Removes expired entries, except those whose job execution is still being started.
+     */
+    private static void expire(final long now) {
+        for (final Iterator<Entry> it = entries.values().iterator(); it.hasNext(); ) {
+            final Entry e = it.next();
+            if (now - e.expiration < 0) {
+                break;
+            }
+            if (e.jobExecutionId.isDone()) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Removes the oldest entries beyond {@link #maxKeys}, except those whose job execution
+     * is still being started.
+     */
+    private static void evict() {
+        for (final Iterator<Entry> it = entries.values().iterator(); entries.size() > maxKeys && it.hasNext(); ) {
+            if (it.next().jobExecutionId.isDone()) {
+                it.remove();
+            }
+        }
+    }
+
+    private static byte[] digest(final Properties jobParams, final String jobDefinition) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        if (jobParams != null) {
+            for (final Map.Entry<String, String> e : toMap(jobParams).entrySet()) {
+                update(digest, e.getKey());
+                update(digest, e.getValue());
+            }
+        }
+        update(digest, null);
+        update(digest, jobDefinition);
+        return digest.digest();
+    }
+
+    private static TreeMap<String, String> toMap(final Properties properties) {
+        final TreeMap<String, String> map = new TreeMap<>();
+        for (final Map.Entry<Object, Object> e : properties.entrySet()) {
+            map.put(String.valueOf(e.getKey()), String.valueOf(e.getValue()));
+        }
+        return map;
+    }
+
+    /**
+     * Updates the digest with the length-prefixed string, so that different sequences
+     * of strings have different digests.
+     */
+    private static void update(final MessageDigest digest, final String value) {
+        if (value == null) {
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(-1).array());
+            return;
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+
+    /**
+     * The job execution returned for a request with idempotency key.
+     */
+    static final class Result {
+        final JobExecutionEntity jobExecution;
+
+        /**
+         * Whether {@link #jobExecution} was started by an earlier request with the same key.
+         */
+        final boolean replayed;
+
+        private Result(final JobExecutionEntity jobExecution, final boolean replayed) {
+            this.jobExecution = jobExecution;
+            this.replayed = replayed;
+        }
+    }
+
+    private static final class Entry {
+        private final byte[] digest;
+        private final long expiration;
+        private final CompletableFuture<Long> jobExecutionId = new CompletableFuture<>();
+
+        private Entry(final byte[] digest, final long expiration) {
+            this.digest = digest;
+            this.expiration = expiration;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.resource;
+
+import java.net.URI;
+import java.util.Properties;
+import jakarta.batch.operations.BatchRuntimeException;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.PUT;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+
+import org.jberet.job.model.Job;
+import org.jberet.rest._private.RestAPIMessages;
+import org.jberet.rest.entity.JobDefinitionEntity;
+import org.jberet.rest.entity.JobExecutionEntity;
+import org.jberet.rest.entity.JobValidationEntity;
+import org.jberet.rest.service.JobDefinitionRegistry;
+import org.jberet.rest.service.JobService;
+
+/**
+ * REST resource class for the job definition registry. A JSON job definition is
+ * registered once under a name, and parsed once, and then started any number of
+ * times with only job parameters in the request, which avoids sending and parsing
+ * the job definition with each job start, as with {@link JobResource#submit}.
+ *
+ * @see JobDefinitionRegistry
+ * @since 3.0.1.Final
+ */
+@Path("jobdefinitions")
+@Consumes({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+@Produces({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+public class JobDefinitionResource {
+    /**
+     * Gets all registered job definitions, ordered by name.
+     *
+     * @return registered job definitions
+     */
+    @GET
+    public JobDefinitionEntity[] getJobDefinitions() {
+        return JobDefinitionRegistry.getInstance().getAll();
+    }
+
+    /**
+     * Gets the JSON content of a registered job definition.
+     *
+     * @param name the name of the job definition
+     * @return the JSON job definition as registered
+     */
+    @GET
+    @Path("{name}")
+    @Produces({MediaType.APPLICATION_JSON})
+    public String getJobDefinition(final @PathParam("name") String name) {
+        final String content = JobDefinitionRegistry.getInstance().getContent(name);
+        if (content == null) {
+            throw RestAPIMessages.MESSAGES.notFoundException("name", name);
+        }
+        return content;
+    }
+
+    /**
+     * Registers a JSON job definition under the specified name, replacing any job
+     * definition already registered under the name. The job definition is parsed
+     * when registered, and an invalid job definition is rejected with status 400 (Bad Request),
+     * reporting all errors found by {@link JobResource#validate(String)}.
+     *
+     * @param name the name to register the job definition under
+     * @param uriInfo {@code jakarta.ws.rs.core.UriInfo}
+     * @param jobDefinition the JSON job definition
+     * @return {@code jakarta.ws.rs.core.Response} with the registered job definition of type
+     * {@link JobDefinitionEntity}, and status 201 (Created) if no job definition was
+     * registered under the name before, or 200 (OK) otherwise
+     */
+    @PUT
+    @Path("{name}")
+    @Consumes({MediaType.APPLICATION_JSON})
+    public Response putJobDefinition(final @PathParam("name") String name,
+                                     final @Context UriInfo uriInfo,
+                                     final String jobDefinition) {
+        final JobValidationEntity validation = JobService.getInstance().validate(jobDefinition);
+        if (!validation.isValid()) {
+            throw RestAPIMessages.MESSAGES.invalidJobDefinition(name, String.join("; ", validation.getErrors()), null);
+        }
+        final JobDefinitionEntity entity;
+        try {
+            entity = JobDefinitionRegistry.getInstance().put(name, jobDefinition);
+        } catch (IllegalStateException | BatchRuntimeException e) {
+            throw RestAPIMessages.MESSAGES.invalidJobDefinition(name, e.getMessage(), e);
+        }
+        if (entity.getVersion() == 1) {
+            final URI location = uriInfo.getBaseUriBuilder().path(JobDefinitionResource.class)
+                    .path(JobDefinitionResource.class, "getJobDefinition").build(name);
+            return Response.created(location).entity(entity).build();
+        }
+        return Response.ok(entity).build();
+    }
+
+    /**
+     * Removes a registered job definition. Job executions already started from it
+     * are not affected.
+     *
+     * @param name the name of the job definition
+     */
+    @DELETE
+    @Path("{name}")
+    public void deleteJobDefinition(final @PathParam("name") String name) {
+        if (!JobDefinitionRegistry.getInstance().remove(name)) {
+            throw RestAPIMessages.MESSAGES.notFoundException("name", name);
+        }
+    }
+
+    /**
+     * Starts a new job execution of a registered job definition.
+     * Job parameters can be taken from query parameters, obtained from {@code uriInfo},
+     * or {@code jobParamsAsProps} as {@code java.util.Properties}, or both, in the same
+     * way as {@link JobResource#start}.
+     * <p>
+     * As with {@link JobResource#start}, the request may have an {@code Idempotency-Key}
+     * header, and is subject to the configured limits on running job executions and job
+     * start rate, where the job is identified by the id in the job definition.
+     *
+     * @param name the name of the job definition
+     * @param uriInfo {@code jakarta.ws.rs.core.UriInfo} that contains query parameters and other info
+     * @param idempotencyKey client-supplied key identifying the request across retries, may be null
+     * @param jobParamsAsProps job parameters properties
+     * @return {@code jakarta.ws.rs.core.Response}, which includes response status and newly
+     * started job execution of type {@link JobExecutionEntity}
+     */
+    @POST
+    @Path("{name}/start")
+    public Response start(final @PathParam("name") String name,
+                          final @Context UriInfo uriInfo,
+                          final @HeaderParam(IdempotencyKeys.HEADER) String idempotencyKey,
+                          final Properties jobParamsAsProps) {
+        final Job job = JobDefinitionRegistry.getInstance().getJob(name);
+        if (job == null) {
+            throw RestAPIMessages.MESSAGES.notFoundException("name", name);
+        }
+        final Properties jobParams = JobResource.jobParametersFromUriInfoAndProps(uriInfo, jobParamsAsProps);
+        final IdempotencyKeys.Result result = IdempotencyKeys.start(
+                idempotencyKey == null ? null : "jobdefinition:" + name + ":" + idempotencyKey,
+                jobParams, null,
+                () -> AdmissionControl.start(job.getId(), () -> JobService.getInstance().start(job, jobParams)));
+        return JobResource.created(uriInfo, result);
+    }
+}
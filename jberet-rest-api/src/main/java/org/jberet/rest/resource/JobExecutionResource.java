@@ -11,19 +11,28 @@
 package org.jberet.rest.resource;
 
 import java.util.Properties;
+import java.util.function.Supplier;
+import jakarta.batch.operations.JobStartException;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.PATCH;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
-import jakarta.ws.rs.core.UriBuilder;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriInfo;
 
 import org.jberet.rest._private.RestAPIMessages;
+import org.jberet.rest.commons.util.JsonJobPatcher;
 import org.jberet.rest.entity.JobExecutionEntity;
 import org.jberet.rest.entity.StepExecutionEntity;
 import org.jberet.rest.service.JobService;
@@ -44,57 +53,121 @@ public class JobExecutionResource {
     /**
      * Gets the job executions for a job instance. The number of results may be
      * limited by {@code count} query parameter.
+     * {@code asyncResponse} is resumed with job executions matching the job instance.
+     * <p>
+     * Job executions can be paged with {@code count} and the continuation token {@code after},
+     * which returns job executions older than the last job execution of the previous page.
+     * When the result contains {@code count} job executions, the response includes a
+     * {@code Link} header with relation {@code next}, which points to the next page.
+     * <p>
+     * If peer nodes are configured, and the request has neither header {@code JBeret-Local}
+     * nor {@code jobExecutionId1}, the job executions of all nodes are merged, ordered from
+     * the most recently created, and limited by {@code count}. The merged result is paged
+     * the same way, with a merged continuation token holding the position reached on each
+     * node, since job execution ids are specific to a node.
      *
      * @param count the maximum number of matching job executions
      * @param jobInstanceId job instance id
      * @param jobExecutionId1 id of any job execution belonging to the target job instance
+     * @param after continuation token from the {@code next} link of the previous page
+     * @param local value of request header {@code JBeret-Local}, which is set by peer nodes
      * @param uriInfo {@code jakarta.ws.rs.core.UriInfo}
-     *
-     * @return job executions matching the job instance
+     * @param asyncResponse {@code jakarta.ws.rs.container.AsyncResponse} to resume with the result
      */
     @GET
-    public JobExecutionEntity[] getJobExecutions(final @QueryParam("count") int count,
-                                                 final @QueryParam("jobInstanceId") long jobInstanceId,
-                                                 final @QueryParam("jobExecutionId1") long jobExecutionId1,
-                                                 final @Context UriInfo uriInfo) {
+    public void getJobExecutions(final @QueryParam("count") int count,
+                                 final @QueryParam("jobInstanceId") long jobInstanceId,
+                                 final @QueryParam("jobExecutionId1") long jobExecutionId1,
+                                 final @QueryParam("after") String after,
+                                 final @HeaderParam(ClusterAggregator.LOCAL_HEADER) String local,
+                                 final @Context UriInfo uriInfo,
+                                 final @Suspended AsyncResponse asyncResponse) {
         //jobExecutionId1 is used to retrieve the JobInstance, from which to get all its JobExecution's
         //jobInstanceId param is currently not used.
-        final JobExecutionEntity[] jobExecutionEntities = JobService.getInstance().getJobExecutions(count, jobInstanceId, jobExecutionId1);
-        setJobExecutionEntityHref(uriInfo, jobExecutionEntities);
-        return jobExecutionEntities;
+        if (jobExecutionId1 == 0 && ClusterAggregator.isEnabled(local)
+                && (after == null || ClusterAggregator.isMergedContinuationToken(after))) {
+            ResourceExecutor.resume(asyncResponse, () -> ClusterAggregator.aggregateJobExecutions(count, after,
+                    afterExecutionId -> {
+                        final JobExecutionEntity[] jobExecutionEntities = afterExecutionId == 0 ?
+                                JobService.getInstance().getJobExecutions(count, jobInstanceId, 0) :
+                                JobService.getInstance().getJobExecutionsAfter(count, 0, afterExecutionId);
+                        setJobExecutionEntityHref(uriInfo, jobExecutionEntities);
+                        return jobExecutionEntities;
+                    }, uriInfo));
+            return;
+        }
+        final long afterExecutionId = after == null ? 0 : JobInstanceResource.parseContinuationToken(after);
+        ResourceExecutor.resume(asyncResponse, () -> {
+            final JobExecutionEntity[] jobExecutionEntities = after == null ?
+                    JobService.getInstance().getJobExecutions(count, jobInstanceId, jobExecutionId1) :
+                    JobService.getInstance().getJobExecutionsAfter(count, jobExecutionId1, afterExecutionId);
+            setJobExecutionEntityHref(uriInfo, jobExecutionEntities);
+
+            final Response.ResponseBuilder responseBuilder = Response.ok(jobExecutionEntities);
+            if (count > 0 && jobExecutionEntities.length == count) {
+                responseBuilder.links(JobInstanceResource.nextLink(uriInfo,
+                        jobExecutionEntities[jobExecutionEntities.length - 1].getExecutionId()));
+            }
+            return responseBuilder.build();
+        });
     }
 
     /**
      * Gets the running job executions for a job name/id.
+     * {@code asyncResponse} is resumed with running job executions for {@code jobName}.
+     *
+     * <p>
+     * If peer nodes are configured, the running job executions of all nodes are merged,
+     * ordered from the most recently created, unless the request has header {@code JBeret-Local}.
      *
      * @param jobName the job name/id
+     * @param local value of request header {@code JBeret-Local}, which is set by peer nodes
      * @param uriInfo {@code jakarta.ws.rs.core.UriInfo}
-     * @return running job executions for {@code jobName}
+     * @param asyncResponse {@code jakarta.ws.rs.container.AsyncResponse} to resume with the result
      */
     @Path("running")
     @GET
-    public JobExecutionEntity[] getRunningExecutions(final @QueryParam("jobName") String jobName,
-                                                     final @Context UriInfo uriInfo) {
-        final JobExecutionEntity[] jobExecutionEntities = JobService.getInstance().getRunningExecutions(jobName);
-        setJobExecutionEntityHref(uriInfo, jobExecutionEntities);
-        return jobExecutionEntities;
+    public void getRunningExecutions(final @QueryParam("jobName") String jobName,
+                                     final @HeaderParam(ClusterAggregator.LOCAL_HEADER) String local,
+                                     final @Context UriInfo uriInfo,
+                                     final @Suspended AsyncResponse asyncResponse) {
+        final Supplier<JobExecutionEntity[]> localQuery = () -> {
+            final JobExecutionEntity[] jobExecutionEntities = JobService.getInstance().getRunningExecutions(jobName);
+            setJobExecutionEntityHref(uriInfo, jobExecutionEntities);
+            return jobExecutionEntities;
+        };
+        if (ClusterAggregator.isEnabled(local)) {
+            ResourceExecutor.resume(asyncResponse, () -> ClusterAggregator.aggregate(
+                    peer -> peer.getRunningExecutionsAsync(jobName), localQuery,
+                    jobExecutions -> ClusterAggregator.mergeJobExecutions(jobExecutions, 0)));
+        } else {
+            ResourceExecutor.resume(asyncResponse, localQuery);
+        }
     }
 
     /**
      * Gets the job execution by its id.
+     * <p>
+     * If the job execution has finished, the response includes {@code ETag} and
+     * {@code Cache-Control} headers, and a conditional request with a matching
+     * {@code If-None-Match} header receives a response with status 304 (Not Modified).
      *
      * @param jobExecutionId job execution id
      * @param uriInfo {@code jakarta.ws.rs.core.UriInfo}
+     * @param request {@code jakarta.ws.rs.core.Request} to evaluate request preconditions
+     *
+     * @return {@code jakarta.ws.rs.core.Response} containing the job execution with {@code jobExecutionId}
      *
-     * @return the job execution with {@code jobExecutionId}
+     * @see CacheHeaders
      */
     @Path("{jobExecutionId : \\d+}")
     @GET
-    public JobExecutionEntity getJobExecution(final @PathParam("jobExecutionId") long jobExecutionId,
-                                              final @Context UriInfo uriInfo) {
+    public Response getJobExecution(final @PathParam("jobExecutionId") long jobExecutionId,
+                                    final @Context UriInfo uriInfo,
+                                    final @Context Request request) {
         final JobExecutionEntity jobExecution = JobService.getInstance().getJobExecution(jobExecutionId);
         setJobExecutionEntityHref(uriInfo, jobExecution);
-        return jobExecution;
+        return CacheHeaders.jobExecution(request, jobExecution);
     }
 
     /**
@@ -140,7 +213,7 @@ public class JobExecutionResource {
      * @return the new restart job execution
      *
      * @see JobResource#restart(String, UriInfo, Properties)
-     * @see JobResource#start(String, UriInfo, Properties)
+     * @see JobResource#start(String, UriInfo, String, Properties)
      */
     @Path("{jobExecutionId}/restart")
     @POST
@@ -172,7 +245,7 @@ public class JobExecutionResource {
      *
      * @see JobExecutionResource#restart(long, jakarta.ws.rs.core.UriInfo, java.util.Properties)
      * @see JobResource#restart(String, UriInfo, Properties)
-     * @see JobResource#submit(jakarta.ws.rs.core.UriInfo, java.lang.String)
+     * @see JobResource#submit(jakarta.ws.rs.core.UriInfo, java.lang.String, java.lang.String)
      *
      * @since 1.3.0.Final
      */
@@ -187,6 +260,71 @@ public class JobExecutionResource {
         return jobExecutionEntity;
     }
 
+    /**
+     * Gets the current job definition of the job instance of a job execution, as JSON
+     * with steps, flows, splits and decisions in arrays. This is the job definition
+     * a restart of the job execution would use, and the target of
+     * {@link #patchJobDefinition(long, UriInfo, String, String)}.
+     *
+     * @param jobExecutionId job execution id
+     * @return JSON job definition content
+     *
+     * @since 3.0.1.Final
+     */
+    @Path("{jobExecutionId}/jobdefinition")
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public String getJobDefinition(final @PathParam("jobExecutionId") long jobExecutionId) {
+        try {
+            return JobService.getInstance().getJobDefinition(jobExecutionId);
+        } catch (JobStartException e) {
+            throw RestAPIMessages.MESSAGES.jobDefinitionNotAvailable(jobExecutionId, e);
+        }
+    }
+
+    /**
+     * Restarts a job execution after applying a JSON Patch ({@code application/json-patch+json})
+     * or JSON Merge Patch ({@code application/merge-patch+json}) to the current job definition
+     * of its job instance, instead of resubmitting the whole job definition.
+     * <p>
+     * The patch addresses steps, flows, splits and decisions by id, for example,
+     * {@code /job/step/step1/chunk/item-count}. Only the elements changed by the patch are
+     * mapped again, and the patched job definition is validated before the restart.
+     * If the restart fails, the job definition is not changed.
+     * <p>
+     * Job parameters are specified as query parameters, obtained from {@code uriInfo},
+     * the same as {@link #resubmit(long, UriInfo, String)}.
+     *
+     * @param jobExecutionId a previous job execution id
+     * @param uriInfo {@code jakarta.ws.rs.core.UriInfo} including additional restart parameters and other info
+     * @param contentType media type of the patch
+     * @param patch the patch document
+     *
+     * @return the new restart job execution
+     *
+     * @see org.jberet.rest.commons.util.JsonJobPatcher
+     * @since 3.0.1.Final
+     */
+    @Path("{jobExecutionId}/jobdefinition")
+    @PATCH
+    @Consumes({JsonJobPatcher.JSON_PATCH, JsonJobPatcher.MERGE_PATCH})
+    public JobExecutionEntity patchJobDefinition(final @PathParam("jobExecutionId") long jobExecutionId,
+                                                 final @Context UriInfo uriInfo,
+                                                 final @HeaderParam(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                 final String patch) {
+        final JobExecutionEntity jobExecutionEntity;
+        try {
+            jobExecutionEntity = JobService.getInstance().patchJobDefinition(jobExecutionId, contentType, patch,
+                    JobResource.jobParametersFromUriInfoAndProps(uriInfo, null));
+        } catch (IllegalArgumentException e) {
+            throw RestAPIMessages.MESSAGES.invalidJobDefinitionPatch(jobExecutionId, e.getMessage(), e);
+        } catch (JobStartException e) {
+            throw RestAPIMessages.MESSAGES.jobDefinitionNotAvailable(jobExecutionId, e);
+        }
+        setJobExecutionEntityHref(uriInfo, jobExecutionEntity);
+        return jobExecutionEntity;
+    }
+
     /**
      * Schedules an restart of the job execution indicated by {@code jobExecutionId}, with the specified
      * job schedule configuration.
@@ -206,14 +344,30 @@ public class JobExecutionResource {
 
     /**
      * Gets step executions belonging to a particular job execution.
+     * {@code asyncResponse} is resumed with step executions as
+     * {@code org.jberet.rest.entity.StepExecutionEntity[]}.
+     * <p>
+     * If the job execution has finished, the response includes {@code ETag} and
+     * {@code Cache-Control} headers, and a conditional request with a matching
+     * {@code If-None-Match} header receives a response with status 304 (Not Modified).
      *
      * @param jobExecutionId job execution id, for which to get step executions
-     * @return step executions as {@code org.jberet.rest.entity.StepExecutionEntity[]}
+     * @param request {@code jakarta.ws.rs.core.Request} to evaluate request preconditions
+     * @param asyncResponse {@code jakarta.ws.rs.container.AsyncResponse} to resume with the result
+     *
+     * @see CacheHeaders
      */
     @GET
     @Path("{jobExecutionId}/stepexecutions")
-    public StepExecutionEntity[] getStepExecutions(final @PathParam("jobExecutionId") long jobExecutionId) {
-        return JobService.getInstance().getStepExecutions(jobExecutionId);
+    public void getStepExecutions(final @PathParam("jobExecutionId") long jobExecutionId,
+                                  final @Context Request request,
+                                  final @Suspended AsyncResponse asyncResponse) {
+        ResourceExecutor.resume(asyncResponse, () -> {
+            //check the job execution first, so that no step can start after the step executions are retrieved
+            final boolean jobExecutionFinished = JobService.getInstance().isFinished(jobExecutionId);
+            return CacheHeaders.stepExecutions(request, jobExecutionFinished,
+                    JobService.getInstance().getStepExecutions(jobExecutionId));
+        });
     }
 
     /**
@@ -240,15 +394,33 @@ public class JobExecutionResource {
 
     /**
      * Sets the href field for each {@code org.jberet.rest.entity.JobExecutionEntity} passed in.
+     * The base URI of job executions is built once, and the href of each entity is
+     * formed by appending its job execution id, which needs no encoding.
      *
      * @param uriInfo {@code jakarta.ws.rs.core.UriInfo}
      * @param entities 1 or more {@code org.jberet.rest.entity.JobExecutionEntity}
      */
     static void setJobExecutionEntityHref(final UriInfo uriInfo, final JobExecutionEntity... entities) {
-        final UriBuilder uriBuilder = uriInfo.getBaseUriBuilder().path(JobExecutionResource.class);
+        if (entities.length == 0) {
+            return;
+        }
+        final String prefix = hrefPrefix(uriInfo);
+        final StringBuilder sb = new StringBuilder(prefix.length() + 20).append(prefix);
         for (final JobExecutionEntity e : entities) {
-            e.setHref(uriBuilder.clone().path(String.valueOf(e.getExecutionId())).build().toString());
+            sb.setLength(prefix.length());
+            e.setHref(sb.append(e.getExecutionId()).toString());
         }
     }
 
+    /**
+     * Gets the base URI of job executions, ending with {@code /}.
+     *
+     * @param uriInfo {@code jakarta.ws.rs.core.UriInfo}
+     * @return the base URI of job executions as string
+     */
+    private static String hrefPrefix(final UriInfo uriInfo) {
+        final String base = uriInfo.getBaseUriBuilder().path(JobExecutionResource.class).build().toString();
+        return base.endsWith("/") ? base : base + '/';
+    }
+
 }
@@ -15,8 +15,13 @@ import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.Link;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
 
 import org.jberet.rest._private.RestAPIMessages;
 import org.jberet.rest.entity.JobInstanceEntity;
@@ -41,24 +46,40 @@ public class JobInstanceResource {
      * Otherwise, returns the response with job instances
      * ({@code org.jberet.rest.entity.JobInstanceEntity[]} matching the specified
      * {@code jobName}, {@code start} and {@code count}.
+     * <p>
+     * Instead of offset paging with {@code start}, job instances can be paged with the
+     * continuation token {@code after}, which returns job instances older than the last
+     * job instance of the previous page. When the result contains {@code count} job instances,
+     * the response includes a {@code Link} header with relation {@code next}, which points to
+     * the next page. Clients should treat the value of {@code after} as opaque, and follow
+     * the {@code next} link instead of constructing it.
      *
      * @param jobName job name/id for which to get job instances
      * @param start the offset position in the list of all eligible job instances to include
      * @param count limit the number of job instances in the result
+     * @param after continuation token from the {@code next} link of the previous page;
+     *              if present, {@code start} is ignored
      * @param jobExecutionId the job execution id for which to get job instance
-
-     * @return {@code jakarta.ws.rs.core.Response} including response status, and
+     * @param uriInfo {@code jakarta.ws.rs.core.UriInfo}
+     * @param asyncResponse {@code jakarta.ws.rs.container.AsyncResponse} to resume with
+     * {@code jakarta.ws.rs.core.Response} including response status, and
      * response entity ({@code org.jberet.rest.entity.JobInstanceEntity} for job execution id,
      * and {@code org.jberet.rest.entity.JobInstanceEntity[]} for job name/id.
      */
     @GET
-    public Response getJobInstances(final @QueryParam("jobName") String jobName,
-                                    final @QueryParam("start") int start,
-                                    final @QueryParam("count") int count,
-                                    final @QueryParam("jobExecutionId") long jobExecutionId) {
+    public void getJobInstances(final @QueryParam("jobName") String jobName,
+                                final @QueryParam("start") int start,
+                                final @QueryParam("count") int count,
+                                final @QueryParam("after") String after,
+                                final @QueryParam("jobExecutionId") long jobExecutionId,
+                                final @Context UriInfo uriInfo,
+                                final @Suspended AsyncResponse asyncResponse) {
         if (jobExecutionId > 0) {
-            final JobInstanceEntity jobInstanceData = JobService.getInstance().getJobInstance(jobExecutionId);
-            return Response.ok(jobInstanceData).build();
+            ResourceExecutor.resume(asyncResponse, () -> {
+                final JobInstanceEntity jobInstanceData = JobService.getInstance().getJobInstance(jobExecutionId);
+                return Response.ok(jobInstanceData).build();
+            });
+            return;
         } else if (jobExecutionId < 0) {
             throw RestAPIMessages.MESSAGES.invalidQueryParamValue("jobExecutionId", String.valueOf(jobExecutionId));
         }
@@ -71,11 +92,20 @@ public class JobInstanceResource {
         if (count < 0) {
             throw RestAPIMessages.MESSAGES.invalidQueryParamValue("count", String.valueOf(count));
         }
-        final JobInstanceEntity[] jobInstanceData =
-                JobService.getInstance().getJobInstances(jobName == null ? "*" : jobName, start,
-                        count == 0 ? Integer.MAX_VALUE : count);
+        final long afterInstanceId = after == null ? 0 : parseContinuationToken(after);
+        final int limit = count == 0 ? Integer.MAX_VALUE : count;
+        ResourceExecutor.resume(asyncResponse, () -> {
+            final String jobName1 = jobName == null ? "*" : jobName;
+            final JobInstanceEntity[] jobInstanceData = after == null ?
+                    JobService.getInstance().getJobInstances(jobName1, start, limit) :
+                    JobService.getInstance().getJobInstancesAfter(jobName1, afterInstanceId, limit);
 
-        return Response.ok(jobInstanceData).build();
+            final Response.ResponseBuilder responseBuilder = Response.ok(jobInstanceData);
+            if (jobInstanceData.length > 0 && jobInstanceData.length == limit) {
+                responseBuilder.links(nextLink(uriInfo, jobInstanceData[jobInstanceData.length - 1].getInstanceId()));
+            }
+            return responseBuilder.build();
+        });
     }
 
     /**
@@ -92,4 +122,52 @@ public class JobInstanceResource {
         }
         return JobService.getInstance().getJobInstanceCount(jobName);
     }
+
+    /**
+     * Parses the continuation token from {@code after} query parameter.
+     *
+     * @param after the value of {@code after} query parameter
+     * @return the id of the last element in the previous page
+     * @throws jakarta.ws.rs.BadRequestException if {@code after} is not a valid continuation token
+     */
+    static long parseContinuationToken(final String after) {
+        try {
+            final long afterId = Long.parseLong(after);
+            if (afterId > 0) {
+                return afterId;
+            }
+        } catch (NumberFormatException e) {
+            //fall through to throw invalid query param exception
+        }
+        throw RestAPIMessages.MESSAGES.invalidQueryParamValue("after", after);
+    }
+
+    /**
+     * Creates the {@code Link} with relation {@code next}, pointing to the page after
+     * the element identified by {@code lastId}, with all other query parameters
+     * of the current request.
+     *
+     * @param uriInfo {@code jakarta.ws.rs.core.UriInfo} of the current request
+     * @param lastId the id of the last element in the current page
+     * @return the link to the next page
+     */
+    static Link nextLink(final UriInfo uriInfo, final long lastId) {
+        return nextLink(uriInfo, String.valueOf(lastId));
+    }
+
+    /**
+     * Creates the {@code Link} with relation {@code next}, pointing to the page after
+     * the continuation token {@code after}, with all other query parameters
+     * of the current request.
+     *
+     * @param uriInfo {@code jakarta.ws.rs.core.UriInfo} of the current request
+     * @param after the continuation token of the next page
+     * @return the link to the next page
+     */
+    static Link nextLink(final UriInfo uriInfo, final String after) {
+        return Link.fromUriBuilder(uriInfo.getRequestUriBuilder()
+                .replaceQueryParam("start")
+                .replaceQueryParam("after", after))
+                .rel("next").build();
+    }
 }
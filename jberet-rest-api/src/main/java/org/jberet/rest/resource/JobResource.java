@@ -15,22 +15,34 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriInfo;
 
+import org.jberet.job.model.Job;
 import org.jberet.rest._private.RestAPIMessages;
+import org.jberet.rest.client.BatchClient;
+import org.jberet.rest.commons.util.JobDefinitionMapper;
+import org.jberet.rest.commons.util.JobDefinitionMappers;
 import org.jberet.rest.entity.JobEntity;
 import org.jberet.rest.entity.JobExecutionEntity;
 import org.jberet.rest.entity.JobInstanceEntity;
+import org.jberet.rest.entity.JobValidationEntity;
+import org.jberet.rest.entity.QueuedJobEntity;
 import org.jberet.rest.service.JobService;
+import org.jberet.rest.service.JobStartQueue;
 import org.jberet.schedule.JobSchedule;
 import org.jberet.schedule.JobScheduleConfig;
 import org.jberet.schedule.JobScheduler;
@@ -46,6 +58,8 @@ import org.jberet.schedule.JobScheduler;
 @Consumes({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
 @Produces({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
 public class JobResource {
+    private static final String PRIORITY_PARAM = "priority";
+
     /**
      * Starts a new job execution for the specified {@code jobXmlName}.
      * Job parameters can be taken from query parameters, obtained from {@code uriInfo},
@@ -53,26 +67,48 @@ public class JobResource {
      * When extracting query parameters from {@code uriInfo}, only the first value of
      * each key is used. When a key exists in both query parameters and {@code props},
      * the latter takes precedence.
+     * <p>
+     * If the request has an {@code Idempotency-Key} header, and a job execution has already
+     * been started for the same job and key, that job execution is returned instead of
+     * starting a new one, and the response has header {@code Idempotent-Replayed: true}.
+     * <p>
+     * If starting the job execution would exceed the configured limits on running job
+     * executions or job start rate, the response has status 429 (Too Many Requests)
+     * and a {@code Retry-After} header.
+     * <p>
+     * If the job start queue is enabled, and the request has query parameter {@code priority}
+     * ({@code high}, {@code normal} or {@code low}), the request is added to the job start queue
+     * instead of starting the job immediately, and the response has status 202 (Accepted),
+     * the queued request of type {@link QueuedJobEntity}, and its location. The {@code priority}
+     * query parameter is then not passed as a job parameter. Queued requests are not subject to
+     * the limits above, nor to the {@code Idempotency-Key} header.
      *
      * @param jobXmlName job xml name, which usually is the same as job id
      * @param uriInfo {@code jakarta.ws.rs.core.UriInfo} that contains query parameters and other info
+     * @param idempotencyKey client-supplied key identifying the request across retries, may be null
      * @param jobParamsAsProps job parameters properties
      *
      * @return {@code jakarta.ws.rs.core.Response}, which includes response status and newly
-     * started job execution of type {@link JobExecutionEntity}
+     * started job execution of type {@link JobExecutionEntity}, or queued request of type
+     * {@link QueuedJobEntity}
      */
     @Path("{jobXmlName}/start")
     @POST
     public Response start(final @PathParam("jobXmlName") String jobXmlName,
                           final @Context UriInfo uriInfo,
+                          final @HeaderParam(IdempotencyKeys.HEADER) String idempotencyKey,
                           final Properties jobParamsAsProps) {
-        JobExecutionEntity jobExecutionData = JobService.getInstance()
-                .start(jobXmlName, jobParametersFromUriInfoAndProps(uriInfo, jobParamsAsProps));
-        final URI jobExecutionDataUri = uriInfo.getBaseUriBuilder().path(JobExecutionResource.class).
-                path(String.valueOf(jobExecutionData.getExecutionId())).
-                build();
-        jobExecutionData.setHref(jobExecutionDataUri.toString());
-        return Response.created(jobExecutionDataUri).entity(jobExecutionData).build();
+        final Properties jobParams = jobParametersFromUriInfoAndProps(uriInfo, jobParamsAsProps);
+        final String priority = uriInfo.getQueryParameters().getFirst(PRIORITY_PARAM);
+        if (priority != null && JobStartQueue.getInstance().isEnabled()) {
+            return enqueue(jobXmlName, jobParams, jobParamsAsProps, priority, uriInfo);
+        }
+        final IdempotencyKeys.Result result = IdempotencyKeys.start(
+                idempotencyKey == null ? null : "start:" + jobXmlName + ":" + idempotencyKey,
+                jobParams, null,
+                () -> AdmissionControl.start(jobXmlName, JobService.getInstance()::isJobXmlResolvable,
+                        () -> JobService.getInstance().start(jobXmlName, jobParams)));
+        return created(uriInfo, result);
     }
 
     /**
@@ -80,8 +116,24 @@ public class JobResource {
      * Job parameters are taken from query parameters, obtained from {@code uriInfo}.
      * When extracting query parameters from {@code uriInfo}, only the first value of
      * each key is used.
+     * <p>
+     * The job definition content may be JSON, YAML or job XML, as indicated by the
+     * {@code Content-Type} header, or any other media type supported by a registered
+     * {@link JobDefinitionMapper}. Other media types are rejected with status
+     * 415 (Unsupported Media Type), and content that cannot be read as a job definition,
+     * such as job XML with a document type declaration, with status 400 (Bad Request).
+     * <p>
+     * If the request has an {@code Idempotency-Key} header, and a job execution has already
+     * been started for the same key, that job execution is returned instead of starting
+     * a new one, and the response has header {@code Idempotent-Replayed: true}.
+     * <p>
+     * If starting the job execution would exceed the configured limits on running job
+     * executions or job start rate, the response has status 429 (Too Many Requests)
+     * and a {@code Retry-After} header.
      *
      * @param uriInfo {@code jakarta.ws.rs.core.UriInfo} that contains query parameters and other info
+     * @param idempotencyKey client-supplied key identifying the request across retries, may be null
+     * @param contentType media type of the job definition content
      * @param jobDefinition the job definition content
      *
      * @return {@code jakarta.ws.rs.core.Response}, which includes response status and newly
@@ -91,17 +143,116 @@ public class JobResource {
      */
     @Path("submit")
     @POST
-    @Consumes({MediaType.APPLICATION_JSON})
+    @Consumes({MediaType.WILDCARD})
     @Produces({MediaType.APPLICATION_JSON})
     public Response submit(final @Context UriInfo uriInfo,
+                           final @HeaderParam(IdempotencyKeys.HEADER) String idempotencyKey,
+                           final @HeaderParam(HttpHeaders.CONTENT_TYPE) String contentType,
                            final String jobDefinition) {
-        JobExecutionEntity jobExecutionData = JobService.getInstance()
-                .submit(jobDefinition, jobParametersFromUriInfoAndProps(uriInfo, null));
-        final URI jobExecutionDataUri = uriInfo.getBaseUriBuilder().path(JobExecutionResource.class).
-                path(String.valueOf(jobExecutionData.getExecutionId())).
-                build();
-        jobExecutionData.setHref(jobExecutionDataUri.toString());
-        return Response.created(jobExecutionDataUri).entity(jobExecutionData).build();
+        final JobDefinitionMapper mapper = JobDefinitionMappers.getMapper(contentType);
+        if (mapper == null) {
+            throw RestAPIMessages.MESSAGES.unsupportedJobDefinitionMediaType(contentType,
+                    JobDefinitionMappers.getMediaTypes());
+        }
+        final Job job;
+        try {
+            job = mapper.toJob(jobDefinition);
+        } catch (RuntimeException e) {
+            throw RestAPIMessages.MESSAGES.invalidJobDefinitionContent(contentType,
+                    e.getCause() == null ? e.getMessage() : e.getMessage() + " " + e.getCause().getMessage(), e);
+        }
+        final Properties jobParams = jobParametersFromUriInfoAndProps(uriInfo, null);
+        final IdempotencyKeys.Result result = IdempotencyKeys.start(
+                idempotencyKey == null ? null : "submit:" + idempotencyKey,
+                jobParams, jobDefinition,
+                () -> AdmissionControl.start(null, () -> JobService.getInstance().start(job, jobParams)));
+        return created(uriInfo, result);
+    }
+
+    /**
+     * Validates the structure of the submitted job definition content, without starting it.
+     * All errors found are reported at once, such as missing ids or refs, and transitions
+     * to unknown steps, flows, splits or decisions.
+     *
+     * @param jobDefinition the job definition content
+     * @return the validation result of type {@link JobValidationEntity}, with status 200 (OK)
+     * whether the job definition is valid or not
+     *
+     * @since 3.0.1.Final
+     */
+    @Path("validate")
+    @POST
+    @Consumes({MediaType.APPLICATION_JSON})
+    @Produces({MediaType.APPLICATION_JSON})
+    public JobValidationEntity validate(final String jobDefinition) {
+        return JobService.getInstance().validate(jobDefinition);
+    }
+
+    /**
+     * Gets the queued job start requests, in the order they will be dispatched.
+     *
+     * @return queued job start requests, or empty array if the job start queue is not enabled
+     *
+     * @since 3.0.1.Final
+     */
+    @Path("queue")
+    @GET
+    public QueuedJobEntity[] getQueuedJobs() {
+        final JobStartQueue queue = JobStartQueue.getInstance();
+        return queue.isEnabled() ? queue.getQueuedJobs() : new QueuedJobEntity[0];
+    }
+
+    /**
+     * Gets a queued, or recently dispatched or cancelled job start request. Once dispatched,
+     * the request includes the id of the started job execution, or the error if the job
+     * failed to start.
+     *
+     * @param queuedJobId id of the queued job start request
+     * @return the job start request
+     *
+     * @since 3.0.1.Final
+     */
+    @Path("queue/{queuedJobId}")
+    @GET
+    public QueuedJobEntity getQueuedJob(final @PathParam("queuedJobId") long queuedJobId) {
+        final QueuedJobEntity result = JobStartQueue.getInstance().getQueuedJob(queuedJobId);
+        if (result == null) {
+            throw RestAPIMessages.MESSAGES.notFoundException("queuedJobId", String.valueOf(queuedJobId));
+        }
+        return result;
+    }
+
+    /**
+     * Cancels all queued job start requests.
+     *
+     * @return the cancelled job start requests
+     *
+     * @since 3.0.1.Final
+     */
+    @Path("queue")
+    @DELETE
+    public QueuedJobEntity[] cancelQueuedJobs() {
+        final JobStartQueue queue = JobStartQueue.getInstance();
+        return queue.isEnabled() ? queue.cancelAll() : new QueuedJobEntity[0];
+    }
+
+    /**
+     * Cancels a queued job start request. A request that has already been dispatched
+     * is not affected, and is returned with its current status.
+     *
+     * @param queuedJobId id of the queued job start request
+     * @return the job start request with its current status
+     *
+     * @since 3.0.1.Final
+     */
+    @Path("queue/{queuedJobId}")
+    @DELETE
+    public QueuedJobEntity cancelQueuedJob(final @PathParam("queuedJobId") long queuedJobId) {
+        final QueuedJobEntity result = JobStartQueue.getInstance().cancel(queuedJobId);
+        if (result == null) {
+            throw RestAPIMessages.MESSAGES.notFoundException("queuedJobId", String.valueOf(queuedJobId));
+        }
+        return result;
     }
 
     /**
@@ -143,7 +294,7 @@ public class JobResource {
      *
      * @return {@code org.jberet.rest.entity.JobExecutionEntity} for the new job execution
      *
-     * @see #start(String, UriInfo, Properties)
+     * @see #start(String, UriInfo, String, Properties)
      * @see JobExecutionResource#restart(long, UriInfo, Properties)
      */
     @Path("{jobXmlName}/restart")
@@ -167,12 +318,25 @@ public class JobResource {
      * Gets all jobs known to the current batch runtime.
      * Note that historical jobs that are not currently loaded in the batch runtime
      * will not be included in the result.
+     * <p>
+     * {@code asyncResponse} is resumed with array of {@code org.jberet.rest.entity.JobEntity}
+     * known to the batch runtime.
+     * <p>
+     * If peer nodes are configured, the jobs of all nodes are merged, unless the request
+     * has header {@code JBeret-Local}.
      *
-     * @return array of {@code org.jberet.rest.entity.JobEntity} known to the batch runtime
+     * @param local value of request header {@code JBeret-Local}, which is set by peer nodes
+     * @param asyncResponse {@code jakarta.ws.rs.container.AsyncResponse} to resume with the result
      */
     @GET
-    public JobEntity[] getJobs() {
-        return JobService.getInstance().getJobs();
+    public void getJobs(final @HeaderParam(ClusterAggregator.LOCAL_HEADER) String local,
+                        final @Suspended AsyncResponse asyncResponse) {
+        if (ClusterAggregator.isEnabled(local)) {
+            ResourceExecutor.resume(asyncResponse, () -> ClusterAggregator.aggregate(BatchClient::getJobsAsync,
+                    () -> JobService.getInstance().getJobs(), ClusterAggregator::mergeJobs));
+        } else {
+            ResourceExecutor.resume(asyncResponse, () -> JobService.getInstance().getJobs());
+        }
     }
 
     /**
@@ -204,4 +368,38 @@ public class JobResource {
         return p;
     }
 
+    private static Response enqueue(final String jobXmlName, final Properties jobParams,
+                                    final Properties jobParamsAsProps, final String priority,
+                                    final UriInfo uriInfo) {
+        final JobStartQueue.Priority queuePriority;
+        try {
+            queuePriority = JobStartQueue.Priority.valueOf(priority.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw RestAPIMessages.MESSAGES.invalidQueryParamValue(PRIORITY_PARAM, priority);
+        }
+        if (jobParamsAsProps == null || !jobParamsAsProps.containsKey(PRIORITY_PARAM)) {
+            jobParams.remove(PRIORITY_PARAM);
+        }
+
+        final JobStartQueue queue = JobStartQueue.getInstance();
+        final QueuedJobEntity queuedJob = queue.offer(jobXmlName, jobParams, queuePriority);
+        if (queuedJob == null) {
+            throw RestAPIMessages.MESSAGES.jobStartQueueFull(queue.getCapacity());
+        }
+        final URI location = uriInfo.getBaseUriBuilder().path(JobResource.class)
+                .path(JobResource.class, "getQueuedJob").build(queuedJob.getId());
+        return Response.accepted(queuedJob).location(location).build();
+    }
+
+    static Response created(final UriInfo uriInfo, final IdempotencyKeys.Result result) {
+        final JobExecutionEntity jobExecutionData = result.jobExecution;
+        JobExecutionResource.setJobExecutionEntityHref(uriInfo, jobExecutionData);
+        final Response.ResponseBuilder builder =
+                Response.created(URI.create(jobExecutionData.getHref())).entity(jobExecutionData);
+        if (result.replayed) {
+            builder.header(IdempotencyKeys.REPLAYED_HEADER, Boolean.TRUE);
+        }
+        return builder.build();
+    }
+
 }
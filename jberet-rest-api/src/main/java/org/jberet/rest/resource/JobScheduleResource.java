@@ -10,8 +10,15 @@
 
 package org.jberet.rest.resource;
 
+import java.time.DateTimeException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
 import java.util.List;
+import java.util.Objects;
 import java.util.TimeZone;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
@@ -20,9 +27,20 @@ import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Link;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
 
+import org.jberet.rest._private.RestAPIMessages;
+import org.jberet.rest.entity.JobScheduleResultEntity;
+import org.jberet.rest.entity.JobScheduleSummaryEntity;
 import org.jberet.schedule.JobSchedule;
+import org.jberet.schedule.JobScheduleConfig;
 import org.jberet.schedule.JobScheduler;
 
 /**
@@ -35,16 +53,71 @@ import org.jberet.schedule.JobScheduler;
 @Produces({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
 public class JobScheduleResource {
     /**
-     * Gets all job schedules.
+     * Timezone ids computed for the current default timezone, and recomputed
+     * only when the default timezone changes.
+     */
+    private static volatile TimezoneIds timezoneIds;
+
+    /**
+     * Gets job schedules, optionally filtered by job name, status and time of next run,
+     * and paged with {@code start} and {@code count}. If the result is a full page,
+     * the response includes a {@code Link} header with relation {@code next} for the
+     * next page. Without any query parameters, all job schedules are returned.
      *
-     * @return all job schedules as array
+     * @param jobName only include job schedules of this job name
+     * @param status only include job schedules of this status, for example, {@code SCHEDULED}
+     * @param nextRunBefore only include job schedules whose next run is known and is before this
+     *                      time, as epoch milliseconds or ISO-8601 date-time with offset
+     * @param start the offset position in the list of all matching job schedules to include
+     * @param count limit the number of job schedules in the result; 0 means no limit
+     * @param uriInfo {@code jakarta.ws.rs.core.UriInfo}
+     * @return {@code jakarta.ws.rs.core.Response} containing matching job schedules as array
      */
     @GET
     @Path("")
-    public JobSchedule[] getJobSchedules() {
-        final JobScheduler jobScheduler = JobScheduler.getJobScheduler();
-        final List<JobSchedule> jobScheduleList = jobScheduler.getJobSchedules();
-        return jobScheduleList.toArray(new JobSchedule[jobScheduleList.size()]);
+    public Response getJobSchedules(final @QueryParam("jobName") String jobName,
+                                    final @QueryParam("status") String status,
+                                    final @QueryParam("nextRunBefore") String nextRunBefore,
+                                    final @QueryParam("start") int start,
+                                    final @QueryParam("count") int count,
+                                    final @Context UriInfo uriInfo) {
+        final long now = System.currentTimeMillis();
+        final List<JobSchedule> jobSchedules = findJobSchedules(jobName, status, nextRunBefore, start, count, now);
+        return page(jobSchedules.toArray(new JobSchedule[0]), start, count, uriInfo);
+    }
+
+    /**
+     * Gets the summaries of job schedules, which leave out the job schedule config.
+     * The same filtering and paging as in {@link #getJobSchedules(String, String, String, int, int, UriInfo)}
+     * applies.
+     *
+     * @param jobName only include job schedules of this job name
+     * @param status only include job schedules of this status, for example, {@code SCHEDULED}
+     * @param nextRunBefore only include job schedules whose next run is known and is before this
+     *                      time, as epoch milliseconds or ISO-8601 date-time with offset
+     * @param start the offset position in the list of all matching job schedules to include
+     * @param count limit the number of job schedules in the result; 0 means no limit
+     * @param uriInfo {@code jakarta.ws.rs.core.UriInfo}
+     * @return {@code jakarta.ws.rs.core.Response} containing summaries of matching job schedules as
+     * {@code org.jberet.rest.entity.JobScheduleSummaryEntity[]}
+     *
+     * @since 3.0.1.Final
+     */
+    @GET
+    @Path("summary")
+    public Response getJobScheduleSummaries(final @QueryParam("jobName") String jobName,
+                                            final @QueryParam("status") String status,
+                                            final @QueryParam("nextRunBefore") String nextRunBefore,
+                                            final @QueryParam("start") int start,
+                                            final @QueryParam("count") int count,
+                                            final @Context UriInfo uriInfo) {
+        final long now = System.currentTimeMillis();
+        final List<JobSchedule> jobSchedules = findJobSchedules(jobName, status, nextRunBefore, start, count, now);
+        final JobScheduleSummaryEntity[] summaries = new JobScheduleSummaryEntity[jobSchedules.size()];
+        for (int i = 0; i < summaries.length; i++) {
+            summaries[i] = JobScheduleSupport.toSummary(jobSchedules.get(i), now);
+        }
+        return page(summaries, start, count, uriInfo);
     }
 
     /**
@@ -60,6 +133,75 @@ public class JobScheduleResource {
         return jobScheduler.cancel(scheduleId);
     }
 
+    /**
+     * Schedules multiple job executions or restarts in one request. Each job schedule
+     * config must specify either {@code jobName} to schedule a job execution, or
+     * {@code jobExecutionId} to schedule a restart. Failure to schedule one item
+     * does not affect other items.
+     *
+     * @param scheduleConfigs the job schedule configurations
+     * @return result of each item, in the same order as {@code scheduleConfigs}
+     *
+     * @since 3.0.1.Final
+     */
+    @POST
+    @Path("batch")
+    public JobScheduleResultEntity[] scheduleAll(final JobScheduleConfig[] scheduleConfigs) {
+        if (scheduleConfigs == null) {
+            return new JobScheduleResultEntity[0];
+        }
+        final JobScheduler jobScheduler = JobScheduler.getJobScheduler();
+        final JobScheduleResultEntity[] results = new JobScheduleResultEntity[scheduleConfigs.length];
+        for (int i = 0; i < scheduleConfigs.length; i++) {
+            final JobScheduleConfig scheduleConfig = scheduleConfigs[i];
+            if (scheduleConfig == null ||
+                    (scheduleConfig.getJobName() == null && scheduleConfig.getJobExecutionId() == 0)) {
+                results[i] = new JobScheduleResultEntity(i, null, null, false,
+                        RestAPIMessages.MESSAGES.missingJobNameAndJobExecutionId());
+                continue;
+            }
+            try {
+                final JobSchedule jobSchedule = jobScheduler.schedule(scheduleConfig);
+                results[i] = new JobScheduleResultEntity(i, jobSchedule.getId(), statusOf(jobSchedule), true, null);
+            } catch (Exception e) {
+                results[i] = new JobScheduleResultEntity(i, null, null, false, errorOf(e));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Cancels multiple job schedules in one request. Failure to cancel one job
+     * schedule does not affect other job schedules.
+     *
+     * @param scheduleIds ids of the job schedules to cancel
+     * @return result of each item, in the same order as {@code scheduleIds}
+     *
+     * @since 3.0.1.Final
+     */
+    @POST
+    @Path("cancel")
+    public JobScheduleResultEntity[] cancelAll(final String[] scheduleIds) {
+        if (scheduleIds == null) {
+            return new JobScheduleResultEntity[0];
+        }
+        final JobScheduler jobScheduler = JobScheduler.getJobScheduler();
+        final JobScheduleResultEntity[] results = new JobScheduleResultEntity[scheduleIds.length];
+        for (int i = 0; i < scheduleIds.length; i++) {
+            final String scheduleId = scheduleIds[i];
+            try {
+                final boolean cancelled = jobScheduler.cancel(scheduleId);
+                final JobSchedule jobSchedule = jobScheduler.getJobSchedule(scheduleId);
+                final String error = cancelled || jobSchedule != null ? null :
+                        RestAPIMessages.MESSAGES.notFoundException("scheduleId", scheduleId).getMessage();
+                results[i] = new JobScheduleResultEntity(i, scheduleId, statusOf(jobSchedule), cancelled, error);
+            } catch (Exception e) {
+                results[i] = new JobScheduleResultEntity(i, scheduleId, null, false, errorOf(e));
+            }
+        }
+        return results;
+    }
+
     /**
      * Deletes a job schedule.
      *
@@ -89,32 +231,209 @@ public class JobScheduleResource {
 
     /**
      * Gets all available timezone ids, and the first element of the result is the default timezone id.
+     * The result can be filtered by timezone id prefix, for example, {@code America/}, and by
+     * raw UTC offset, for example, {@code +05:30}, {@code -08:00} or {@code Z}. If the default
+     * timezone id does not match the filters, it is not included in the result.
+     * <p>
+     * The response includes {@code ETag} and {@code Cache-Control} headers, and a conditional
+     * request with a matching {@code If-None-Match} header receives a response with status
+     * 304 (Not Modified).
      *
-     * @return timezone ids as a string array
+     * @param prefix optional timezone id prefix to filter timezone ids
+     * @param offset optional raw UTC offset to filter timezone ids
+     * @param request {@code jakarta.ws.rs.core.Request} to evaluate request preconditions
+     * @return {@code jakarta.ws.rs.core.Response} containing timezone ids as a string array
      */
     @GET
     @Path("timezones")
-    public String[] getTimezoneIds() {
-        final String[] availableIDs = TimeZone.getAvailableIDs();
-        Arrays.sort(availableIDs);
-        final int i = Arrays.binarySearch(availableIDs, TimeZone.getDefault().getID());
-        final String[] result = new String[availableIDs.length];
-        result[0] = availableIDs[i];
-        System.arraycopy(availableIDs, 0, result, 1, i);
-        System.arraycopy(availableIDs, i + 1, result, i + 1, availableIDs.length - (i + 1));
+    public Response getTimezoneIds(final @QueryParam("prefix") String prefix,
+                                   final @QueryParam("offset") String offset,
+                                   final @Context Request request) {
+        final TimezoneIds ids = getTimezoneIds();
+        final Integer offsetMillis = parseOffset(offset);
+        final EntityTag entityTag = prefix == null && offsetMillis == null ? ids.entityTag :
+                new EntityTag(ids.entityTag.getValue() + '-' + Integer.toHexString(Objects.hash(prefix, offsetMillis)));
 
-        return result;
+        final Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+        if (notModified != null) {
+            return notModified.cacheControl(CacheHeaders.maxAge()).build();
+        }
+        return Response.ok(ids.filter(prefix, offsetMillis)).tag(entityTag).cacheControl(CacheHeaders.maxAge()).build();
     }
 
     /**
      * Gets the scheduling features supported by the current job scheduler.
+     * The response includes {@code ETag} and {@code Cache-Control} headers.
      *
-     * @return supported features as a string array
+     * @param request {@code jakarta.ws.rs.core.Request} to evaluate request preconditions
+     * @return {@code jakarta.ws.rs.core.Response} containing supported features as a string array
      */
     @GET
     @Path("features")
-    public String[] getFeatures() {
-        return JobScheduler.getJobScheduler().getFeatures();
+    public Response getFeatures(final @Context Request request) {
+        final String[] features = JobScheduler.getJobScheduler().getFeatures();
+        return CacheHeaders.immutable(request, features, new EntityTag(Integer.toHexString(Arrays.hashCode(features))));
+    }
+
+    private static String statusOf(final JobSchedule jobSchedule) {
+        return jobSchedule == null || jobSchedule.getStatus() == null ? null : jobSchedule.getStatus().name();
+    }
+
+    private static String errorOf(final Exception e) {
+        return e.getMessage() == null ? e.getClass().getName() : e.getMessage();
+    }
+
+    private static List<JobSchedule> findJobSchedules(final String jobName,
+                                                      final String status,
+                                                      final String nextRunBefore,
+                                                      final int start,
+                                                      final int count,
+                                                      final long now) {
+        if (start < 0) {
+            throw RestAPIMessages.MESSAGES.invalidQueryParamValue("start", String.valueOf(start));
+        }
+        if (count < 0) {
+            throw RestAPIMessages.MESSAGES.invalidQueryParamValue("count", String.valueOf(count));
+        }
+        final JobSchedule.Status status1 = parseStatus(status);
+        final long nextRunBefore1 = parseTime("nextRunBefore", nextRunBefore);
+        List<JobSchedule> jobSchedules = JobScheduler.getJobScheduler().getJobSchedules();
+        if (jobName == null && status1 == null && nextRunBefore == null && start == 0 && count == 0) {
+            return jobSchedules;
+        }
+
+        //job schedulers return job schedules in no particular order, so sort them by creation time
+        //for stable pages, and by id among job schedules created at the same time
+        jobSchedules = new ArrayList<>(jobSchedules);
+        jobSchedules.sort(Comparator.<JobSchedule>naturalOrder().thenComparing(JobSchedule::getId,
+                Comparator.nullsFirst(Comparator.naturalOrder())));
+
+        final int limit = count == 0 ? Integer.MAX_VALUE : count;
+        final List<JobSchedule> result = new ArrayList<>(Math.min(limit, jobSchedules.size()));
+        int skipped = 0;
+        for (final JobSchedule jobSchedule : jobSchedules) {
+            if (result.size() >= limit) {
+                break;
+            }
+            if (status1 != null && jobSchedule.getStatus() != status1) {
+                continue;
+            }
+            if (jobName != null && (jobSchedule.getJobScheduleConfig() == null ||
+                    !jobName.equals(jobSchedule.getJobScheduleConfig().getJobName()))) {
+                continue;
+            }
+            if (nextRunBefore != null) {
+                final Date nextRunTime = JobScheduleSupport.getNextRunTime(jobSchedule, now);
+                if (nextRunTime == null || nextRunTime.getTime() >= nextRunBefore1) {
+                    continue;
+                }
+            }
+            if (skipped < start) {
+                skipped++;
+                continue;
+            }
+            result.add(jobSchedule);
+        }
+        return result;
+    }
+
+    private static Response page(final Object[] elements, final int start, final int count, final UriInfo uriInfo) {
+        final Response.ResponseBuilder responseBuilder = Response.ok(elements);
+        if (count > 0 && elements.length == count) {
+            responseBuilder.links(Link.fromUriBuilder(uriInfo.getRequestUriBuilder()
+                    .replaceQueryParam("start", start + count)).rel("next").build());
+        }
+        return responseBuilder.build();
+    }
+
+    private static JobSchedule.Status parseStatus(final String status) {
+        if (status == null || status.isEmpty()) {
+            return null;
+        }
+        try {
+            return JobSchedule.Status.valueOf(status.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw RestAPIMessages.MESSAGES.invalidQueryParamValue("status", status);
+        }
     }
-}
 
+    private static long parseTime(final String paramName, final String time) {
+        if (time == null) {
+            return 0;
+        }
+        try {
+            final String s = time.trim();
+            return !s.isEmpty() && s.chars().allMatch(Character::isDigit) ?
+                    Long.parseLong(s) : OffsetDateTime.parse(s).toInstant().toEpochMilli();
+        } catch (DateTimeException | NumberFormatException e) {
+            throw RestAPIMessages.MESSAGES.invalidQueryParamValue(paramName, time);
+        }
+    }
+
+    private static TimezoneIds getTimezoneIds() {
+        final String defaultId = TimeZone.getDefault().getID();
+        TimezoneIds result = timezoneIds;
+        if (result == null || !result.ids[0].equals(defaultId)) {
+            result = new TimezoneIds(defaultId);
+            timezoneIds = result;
+        }
+        return result;
+    }
+
+    private static Integer parseOffset(final String offset) {
+        if (offset == null || offset.isEmpty()) {
+            return null;
+        }
+        try {
+            return ZoneOffset.of(offset.trim()).getTotalSeconds() * 1000;
+        } catch (DateTimeException e) {
+            throw RestAPIMessages.MESSAGES.invalidQueryParamValue("offset", offset);
+        }
+    }
+
+    /**
+     * Immutable list of available timezone ids, with the default timezone id as the
+     * first element, and the remaining ones sorted.
+     */
+    private static final class TimezoneIds {
+        private final String[] ids;
+        private final int[] rawOffsets;
+        private final EntityTag entityTag;
+
+        private TimezoneIds(final String defaultId) {
+            final String[] availableIDs = TimeZone.getAvailableIDs();
+            Arrays.sort(availableIDs);
+            final int i = Arrays.binarySearch(availableIDs, defaultId);
+            if (i >= 0) {
+                ids = new String[availableIDs.length];
+                System.arraycopy(availableIDs, 0, ids, 1, i);
+                System.arraycopy(availableIDs, i + 1, ids, i + 1, availableIDs.length - (i + 1));
+            } else {
+                //custom default timezone id, such as GMT+05:00, is not among available ids
+                ids = new String[availableIDs.length + 1];
+                System.arraycopy(availableIDs, 0, ids, 1, availableIDs.length);
+            }
+            ids[0] = defaultId;
+
+            rawOffsets = new int[ids.length];
+            for (int j = 0; j < ids.length; j++) {
+                rawOffsets[j] = TimeZone.getTimeZone(ids[j]).getRawOffset();
+            }
+            entityTag = new EntityTag(Integer.toHexString(Arrays.hashCode(ids)));
+        }
+
+        private String[] filter(final String prefix, final Integer offsetMillis) {
+            if (prefix == null && offsetMillis == null) {
+                return ids;
+            }
+            final List<String> result = new ArrayList<>();
+            for (int j = 0; j < ids.length; j++) {
+                if ((prefix == null || ids[j].startsWith(prefix)) &&
+                        (offsetMillis == null || rawOffsets[j] == offsetMillis)) {
+                    result.add(ids[j]);
+                }
+            }
+            return result.toArray(new String[0]);
+        }
+    }
+}
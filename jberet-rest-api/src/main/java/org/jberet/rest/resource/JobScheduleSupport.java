@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.resource;
+
+import java.lang.reflect.Field;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.jberet.rest.entity.JobScheduleSummaryEntity;
+import org.jberet.schedule.JobSchedule;
+import org.jberet.schedule.JobScheduleConfig;
+
+/**
+ * Accesses the state of {@code org.jberet.schedule.JobSchedule} that is not exposed
+ * through its public methods, that is, its create time and the time of its next run.
+ *
+ * @since 3.0.1.Final
+ */
+final class JobScheduleSupport {
+    private static final Field createTimeField = getField("createTime");
+
+    private static final Field futureField = getField("future");
+
+    private JobScheduleSupport() {
+    }
+
+    /**
+     * Creates the summary of a job schedule.
+     *
+     * @param jobSchedule the job schedule
+     * @param now current time in milliseconds, used to compute the time of the next run
+     * @return the job schedule summary
+     */
+    static JobScheduleSummaryEntity toSummary(final JobSchedule jobSchedule, final long now) {
+        final JobScheduleConfig config = jobSchedule.getJobScheduleConfig();
+        final List<Long> jobExecutionIds = jobSchedule.getJobExecutionIds();
+        final int numberOfJobExecutions = jobExecutionIds == null ? 0 : jobExecutionIds.size();
+        return new JobScheduleSummaryEntity(jobSchedule.getId(),
+                config == null ? null : config.getJobName(),
+                config == null ? 0 : config.getJobExecutionId(),
+                jobSchedule.getStatus() == null ? null : jobSchedule.getStatus().name(),
+                (Date) getFieldValue(createTimeField, jobSchedule),
+                getNextRunTime(jobSchedule, now),
+                config != null && config.isRepeating(),
+                numberOfJobExecutions,
+                numberOfJobExecutions == 0 ? 0 : jobExecutionIds.get(numberOfJobExecutions - 1));
+    }
+
+    /**
+     * Gets the time of the next run of a job schedule. The time is only known for
+     * job schedules backed by a {@code java.util.concurrent.ScheduledFuture}, such as
+     * those of {@code org.jberet.schedule.ExecutorSchedulerImpl}.
+     *
+     * @param jobSchedule the job schedule
+     * @param now current time in milliseconds
+     * @return the time of the next run, or null if not known or not scheduled to run again
+     */
+    static Date getNextRunTime(final JobSchedule jobSchedule, final long now) {
+        if (jobSchedule.getStatus() != JobSchedule.Status.SCHEDULED) {
+            return null;
+        }
+        final Object future = getFieldValue(futureField, jobSchedule);
+        if (future instanceof Delayed && !((Future<?>) future).isDone()) {
+            final long delay = ((Delayed) future).getDelay(TimeUnit.MILLISECONDS);
+            return new Date(now + Math.max(delay, 0));
+        }
+        return null;
+    }
+
+    private static Object getFieldValue(final Field field, final JobSchedule jobSchedule) {
+        if (field == null) {
+            return null;
+        }
+        try {
+            return field.get(jobSchedule);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static Field getField(final String name) {
+        try {
+            final Field field = JobSchedule.class.getDeclaredField(name);
+            field.setAccessible(true);
+            return field;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.resource;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import jakarta.ws.rs.container.AsyncResponse;
+
+import org.jberet.rest._private.RestAPILogger;
+
+/**
+ * Runs the body of blocking resource methods and resumes the suspended
+ * {@code jakarta.ws.rs.container.AsyncResponse} with the result.
+ * <p>
+ * By default, the body runs directly on the calling container thread, which is
+ * equivalent to a synchronous resource method. When system property
+ * {@value #VIRTUAL_THREADS_PROPERTY} is set to {@code true} on JDK 21 or later,
+ * the body runs on a virtual thread instead, so that the container worker
+ * thread is released while the batch job repository is accessed. The number of
+ * concurrent repository accesses from virtual threads is limited by system property
+ * {@value #MAX_CONCURRENCY_PROPERTY} (default {@value #DEFAULT_MAX_CONCURRENCY},
+ * and 0 or negative value means no limit).
+ *
+ * @since 3.0.1.Final
+ */
+final class ResourceExecutor {
+    static final String VIRTUAL_THREADS_PROPERTY = "org.jberet.rest.virtualThreads";
+
+    static final String MAX_CONCURRENCY_PROPERTY = "org.jberet.rest.virtualThreads.maxConcurrency";
+
+    static final int DEFAULT_MAX_CONCURRENCY = 64;
+
+    private static final ExecutorService executor = createExecutor();
+
+    private static final Semaphore permits = createPermits();
+
+    private ResourceExecutor() {
+    }
+
+    /**
+     * Runs {@code task} and resumes {@code asyncResponse} with its result, or with
+     * the exception thrown by {@code task}, which is then handled by the registered
+     * exception mappers.
+     *
+     * @param asyncResponse the suspended {@code jakarta.ws.rs.container.AsyncResponse}
+     * @param task the resource method body to run
+     * @param <T> the type of the response entity
+     */
+    static <T> void resume(final AsyncResponse asyncResponse, final Supplier<T> task) {
+        if (executor == null) {
+            run(asyncResponse, task);
+        } else {
+            executor.execute(() -> runWithPermit(asyncResponse, task));
+        }
+    }
+
+    /**
+     * Checks if resource methods are run on virtual threads.
+     *
+     * @return true if resource methods are run on virtual threads; false otherwise
+     */
+    static boolean isVirtualThreadsEnabled() {
+        return executor != null;
+    }
+
+    private static <T> void runWithPermit(final AsyncResponse asyncResponse, final Supplier<T> task) {
+        if (permits == null) {
+            run(asyncResponse, task);
+            return;
+        }
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            asyncResponse.resume(e);
+            return;
+        }
+        try {
+            run(asyncResponse, task);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static <T> void run(final AsyncResponse asyncResponse, final Supplier<T> task) {
+        final T result;
+        try {
+            result = task.get();
+        } catch (Throwable e) {
+            asyncResponse.resume(e);
+            return;
+        }
+        asyncResponse.resume(result);
+    }
+
+    private static ExecutorService createExecutor() {
+        if (!Boolean.getBoolean(VIRTUAL_THREADS_PROPERTY)) {
+            return null;
+        }
+        try {
+            //Executors.newVirtualThreadPerTaskExecutor() is only available on JDK 21 or later,
+            //and this project is compiled for an older release
+            final ExecutorService result = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            RestAPILogger.LOGGER.virtualThreadsEnabled(maxConcurrency());
+            return result;
+        } catch (Exception e) {
+            RestAPILogger.LOGGER.virtualThreadsNotAvailable(e);
+            return null;
+        }
+    }
+
+    private static Semaphore createPermits() {
+        final int maxConcurrency = maxConcurrency();
+        return executor != null && maxConcurrency > 0 ? new Semaphore(maxConcurrency) : null;
+    }
+
+    private static int maxConcurrency() {
+        return Integer.getInteger(MAX_CONCURRENCY_PROPERTY, DEFAULT_MAX_CONCURRENCY);
+    }
+}
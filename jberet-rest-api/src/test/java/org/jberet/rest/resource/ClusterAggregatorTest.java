@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.resource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import jakarta.ws.rs.BadRequestException;
+
+import org.jberet.rest.entity.JobExecutionEntity;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests to verify merged pages of job executions from several nodes, following
+ * merged continuation tokens, as a client following the {@code next} link would.
+ *
+ * @see ClusterAggregator
+ * @since 3.0.1.Final
+ */
+public final class ClusterAggregatorTest {
+    @Test
+    public void pagePastFirstPage() throws Exception {
+        //3 nodes with their own job repositories, so execution ids overlap across nodes
+        final List<JobExecutionEntity[]> nodes = Arrays.asList(
+                node(0, 7), node(1, 12), node(2, 3));
+        final int count = 5;
+
+        final List<JobExecutionEntity> all = new ArrayList<>();
+        String after = null;
+        int pages = 0;
+        do {
+            final long[] positions = after == null ? new long[nodes.size()]
+                    : ClusterAggregator.parseContinuationToken(after, nodes.size());
+            final List<JobExecutionEntity[]> nodeResults = new ArrayList<>();
+            for (int i = 0; i < nodes.size(); i++) {
+                nodeResults.add(query(nodes.get(i), positions[i], count));
+            }
+            final ClusterAggregator.JobExecutionPage page =
+                    ClusterAggregator.mergeJobExecutionPage(nodeResults, positions, count);
+            all.addAll(Arrays.asList(page.jobExecutions));
+            pages++;
+            after = page.jobExecutions.length == count ? ClusterAggregator.toContinuationToken(page.positions) : null;
+            if (after != null) {
+                assertTrue(ClusterAggregator.isMergedContinuationToken(after), after);
+            }
+        } while (after != null);
+
+        assertEquals(22, all.size());
+        assertEquals(5, pages);
+        final Set<String> seen = new HashSet<>();
+        for (int i = 0; i < all.size(); i++) {
+            final JobExecutionEntity e = all.get(i);
+            assertTrue(seen.add(e.getJobName() + '/' + e.getExecutionId()), e.getJobName() + '/' + e.getExecutionId());
+            if (i > 0) {
+                assertFalse(e.getCreateTime().after(all.get(i - 1).getCreateTime()));
+            }
+        }
+    }
+
+    @Test
+    public void unavailableNodeKeepsPosition() throws Exception {
+        final JobExecutionEntity[] node0 = node(0, 4);
+        final long[] positions = {0, 9};
+        final ClusterAggregator.JobExecutionPage page = ClusterAggregator.mergeJobExecutionPage(
+                Arrays.asList(query(node0, 0, 2), null), positions, 2);
+        assertEquals(2, page.jobExecutions.length);
+        assertEquals(3, page.positions[0]);
+        assertEquals(9, page.positions[1]);
+    }
+
+    @Test
+    public void invalidContinuationTokens() throws Exception {
+        assertFalse(ClusterAggregator.isMergedContinuationToken("25"));
+        assertArrayEquals(new long[]{25, 0, 3}, ClusterAggregator.parseContinuationToken("25,0,3", 3));
+        for (final String after : new String[]{"25,0", "25,0,3,4", "25,x,3", "25,-1,3", "25,,3"}) {
+            assertThrows(BadRequestException.class, () -> ClusterAggregator.parseContinuationToken(after, 3));
+        }
+    }
+
+    /**
+     * Creates the job executions of a node, with ids from 1 to {@code size}, ordered from
+     * the most recently created, as a node returns them. Nodes are told apart by job name.
+     */
+    private static JobExecutionEntity[] node(final int node, final int size) {
+        final JobExecutionEntity[] jobExecutions = new JobExecutionEntity[size];
+        for (int i = 0; i < size; i++) {
+            final long id = size - i;
+            final JobExecutionEntity e = new JobExecutionEntity();
+            e.setExecutionId(id);
+            e.setJobName("node" + node);
+            //interleave the create times of the nodes
+            e.setCreateTime(new Date(1000L * id + node * 300L));
+            jobExecutions[i] = e;
+        }
+        return jobExecutions;
+    }
+
+    /**
+     * Gets up to {@code count} job executions of a node after the job execution with id
+     * {@code afterId}, or from the most recent one if 0, as the node answers a page request.
+     */
+    private static JobExecutionEntity[] query(final JobExecutionEntity[] node, final long afterId, final int count) {
+        final List<JobExecutionEntity> result = new ArrayList<>();
+        for (final JobExecutionEntity e : node) {
+            if ((afterId == 0 || e.getExecutionId() < afterId) && result.size() < count) {
+                result.add(e);
+            }
+        }
+        return result.toArray(new JobExecutionEntity[0]);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.jberet.rest.client.BatchClient;
+import org.jberet.rest.entity.JobExecutionEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures per-call overhead of {@link BatchClient} against a stub HTTP server on
+ * the loopback interface, which answers every request with the same canned job
+ * execution. The time includes the local HTTP round trip, which is the same for
+ * all benchmark methods, so differences between client versions show up directly.
+ *
+ * @since 3.0.1.Final
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchClientBenchmark {
+    private static final byte[] JOB_EXECUTION = ("{\"executionId\":1,\"jobName\":\"job1\"," +
+            "\"batchStatus\":\"COMPLETED\",\"exitStatus\":\"COMPLETED\",\"jobInstanceId\":1," +
+            "\"jobParameters\":{\"p1\":\"v1\"},\"href\":\"http://localhost/api/jobexecutions/1\"}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    private HttpServer server;
+
+    private BatchClient batchClient;
+
+    private Properties jobParameters;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = startStubServer();
+        batchClient = new BatchClient("http://localhost:" + server.getAddress().getPort() + "/api");
+        jobParameters = new Properties();
+        jobParameters.setProperty("p1", "v1");
+        jobParameters.setProperty("p2", "v2");
+    }
+
+    @TearDown
+    public void tearDown() {
+        batchClient.getClient().close();
+        server.stop(0);
+    }
+
+    @Benchmark
+    public JobExecutionEntity getJobExecution() {
+        return batchClient.getJobExecution(1);
+    }
+
+    @Benchmark
+    public JobExecutionEntity startJob() throws Exception {
+        return batchClient.startJob("job1", jobParameters);
+    }
+
+    /**
+     * Starts an HTTP server on an ephemeral port of the loopback interface, which
+     * responds to any request with {@link #JOB_EXECUTION}.
+     *
+     * @return the started server
+     * @throws IOException if the server cannot be started
+     */
+    static HttpServer startStubServer() throws IOException {
+        return startStubServer(null);
+    }
+
+    /**
+     * Starts an HTTP server on an ephemeral port of the loopback interface, which
+     * responds to any request with {@link #JOB_EXECUTION}, handling requests with
+     * the specified executor.
+     *
+     * @param executor executor to handle requests, or null to handle them on the server thread
+     * @return the started server
+     * @throws IOException if the server cannot be started
+     */
+    static HttpServer startStubServer(final Executor executor) throws IOException {
+        //without TCP_NODELAY, response headers and body sent in separate packets are
+        //delayed by Nagle's algorithm, adding tens of milliseconds to each request
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        final HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", BatchClientBenchmark::respond);
+        server.setExecutor(executor);
+        server.start();
+        return server;
+    }
+
+    private static void respond(final HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            in.readAllBytes();
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, JOB_EXECUTION.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(JOB_EXECUTION);
+        }
+    }
+}
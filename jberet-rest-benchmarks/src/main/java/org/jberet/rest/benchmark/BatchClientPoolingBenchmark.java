@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.net.httpserver.HttpServer;
+import org.jberet.rest.client.BatchClient;
+import org.jberet.rest.entity.JobExecutionEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures requests per second of {@link BatchClient} with the default client, and with
+ * a client built by {@link BatchClient.Builder} with a connection pool, against the
+ * stub HTTP server of {@link BatchClientBenchmark}.
+ * <p>
+ * The default RESTEasy client keeps a single connection, which cannot be shared by
+ * concurrent requests, so callers issuing requests from several threads either
+ * serialize them, or create a {@code BatchClient} per request and pay for connection
+ * setup each time. {@link #newDefaultClientPerRequest()} measures the latter, and
+ * {@link #pooledClientConcurrent()} the pooled client shared by {@value #THREADS} threads.
+ *
+ * @since 3.0.1.Final
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchClientPoolingBenchmark {
+    static final int THREADS = 8;
+
+    private ExecutorService serverExecutor;
+
+    private HttpServer server;
+
+    private String restUrl;
+
+    private BatchClient defaultClient;
+
+    private BatchClient pooledClient;
+
+    @Setup
+    public void setUp() throws IOException {
+        serverExecutor = Executors.newFixedThreadPool(THREADS, r -> {
+            final Thread thread = new Thread(r, "stub-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server = BatchClientBenchmark.startStubServer(serverExecutor);
+        restUrl = "http://localhost:" + server.getAddress().getPort() + "/api";
+        defaultClient = new BatchClient(restUrl);
+        pooledClient = BatchClient.builder()
+                .restUrl(restUrl)
+                .connectionPoolSize(THREADS)
+                .keepAliveTimeout(1, TimeUnit.MINUTES)
+                .connectTimeout(5, TimeUnit.SECONDS)
+                .readTimeout(5, TimeUnit.SECONDS)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        defaultClient.getClient().close();
+        pooledClient.getClient().close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public JobExecutionEntity defaultClient() {
+        return defaultClient.getJobExecution(1);
+    }
+
+    @Benchmark
+    public JobExecutionEntity pooledClient() {
+        return pooledClient.getJobExecution(1);
+    }
+
+    @Benchmark
+    @Threads(THREADS)
+    public JobExecutionEntity newDefaultClientPerRequest() {
+        final BatchClient batchClient = new BatchClient(restUrl);
+        try {
+            return batchClient.getJobExecution(1);
+        } finally {
+            batchClient.getClient().close();
+        }
+    }
+
+    @Benchmark
+    @Threads(THREADS)
+    public JobExecutionEntity pooledClientConcurrent() {
+        return pooledClient.getJobExecution(1);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.benchmark;
+
+import java.io.Serializable;
+import jakarta.batch.api.BatchProperty;
+import jakarta.batch.api.chunk.AbstractItemReader;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * Item reader that reads a configurable number of integers, used to produce
+ * job executions and step executions with metrics in the job repository.
+ *
+ * @since 3.0.1.Final
+ */
+@Named
+@Dependent
+public class BenchmarkItemReader extends AbstractItemReader {
+    @Inject
+    @BatchProperty
+    int numberOfItems;
+
+    private int position;
+
+    @Override
+    public void open(final Serializable checkpoint) {
+        position = checkpoint == null ? 0 : (Integer) checkpoint;
+    }
+
+    @Override
+    public Object readItem() {
+        return position < numberOfItems ? position++ : null;
+    }
+
+    @Override
+    public Serializable checkpointInfo() {
+        return position;
+    }
+}
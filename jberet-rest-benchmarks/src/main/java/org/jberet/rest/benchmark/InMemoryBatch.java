@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.benchmark;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import jakarta.batch.operations.JobOperator;
+import jakarta.batch.runtime.BatchRuntime;
+import jakarta.batch.runtime.BatchStatus;
+
+import org.jberet.runtime.JobExecutionImpl;
+
+/**
+ * Populates the in-memory job repository of the jberet SE runtime, configured
+ * in {@code jberet.properties}, with completed job executions of
+ * {@value #JOB_NAME}.
+ *
+ * @since 3.0.1.Final
+ */
+public final class InMemoryBatch {
+    /**
+     * Name of the job defined in {@code META-INF/batch-jobs}.
+     */
+    public static final String JOB_NAME = "benchmark-job";
+
+    private InMemoryBatch() {
+    }
+
+    /**
+     * Starts job executions of {@value #JOB_NAME} and waits for them to complete.
+     *
+     * @param numberOfJobExecutions number of job executions to start
+     * @return ids of the completed job executions
+     * @throws InterruptedException if interrupted while waiting for job executions
+     * @throws IllegalStateException if any job execution does not complete successfully
+     */
+    public static long[] populate(final int numberOfJobExecutions) throws InterruptedException {
+        final JobOperator jobOperator = BatchRuntime.getJobOperator();
+        final long[] ids = new long[numberOfJobExecutions];
+        for (int i = 0; i < numberOfJobExecutions; i++) {
+            ids[i] = jobOperator.start(JOB_NAME, new Properties());
+        }
+        for (final long id : ids) {
+            final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(id);
+            jobExecution.awaitTermination(1, TimeUnit.MINUTES);
+            if (jobExecution.getBatchStatus() != BatchStatus.COMPLETED) {
+                throw new IllegalStateException("Job execution " + id + " of " + JOB_NAME +
+                        " did not complete: " + jobExecution.getBatchStatus());
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import org.jberet.job.model.Job;
+import org.jberet.rest.commons.util.JobDefinitionMapper;
+import org.jberet.rest.commons.util.JobDefinitionMappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures mapping of the same job definition in JSON, YAML and job XML to
+ * {@code org.jberet.job.model.Job} with the {@link JobDefinitionMapper} for each format.
+ *
+ * @since 3.0.1.Final
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobDefinitionMapperBenchmark {
+    @Param({JobDefinitionMappers.APPLICATION_JSON, JobDefinitionMappers.APPLICATION_YAML,
+            JobDefinitionMappers.APPLICATION_XML})
+    String mediaType;
+
+    /**
+     * Number of partitions in the partition plan of the job definition;
+     * 0 for a job definition without partition.
+     */
+    @Param({"0", "100"})
+    int partitions;
+
+    private JobDefinitionMapper mapper;
+
+    private String content;
+
+    @Setup
+    public void setUp() throws Exception {
+        mapper = JobDefinitionMappers.getMapper(mediaType);
+        final String json = JsonJobMapperBenchmark.jobDefinition(partitions);
+        switch (mediaType) {
+            case JobDefinitionMappers.APPLICATION_YAML:
+                content = new YAMLMapper().writeValueAsString(new ObjectMapper().readTree(json));
+                break;
+            case JobDefinitionMappers.APPLICATION_XML:
+                content = xmlJobDefinition(partitions);
+                break;
+            default:
+                content = json;
+        }
+    }
+
+    @Benchmark
+    public Job toJob() {
+        return mapper.toJob(content);
+    }
+
+    /**
+     * Creates the job XML equivalent of {@link JsonJobMapperBenchmark#jobDefinition(int)}.
+     *
+     * @param partitions number of partitions, or 0 for no partition
+     * @return job XML
+     */
+    static String xmlJobDefinition(final int partitions) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+                .append("<job id=\"job1\" xmlns=\"https://jakarta.ee/xml/ns/jakartaee\" version=\"2.0\">")
+                .append("<properties><property name=\"jp1\" value=\"v1\"/><property name=\"jp2\" value=\"v2\"/></properties>")
+                .append("<listeners><listener ref=\"jobListener1\"/></listeners>")
+                .append("<step id=\"step1\" next=\"step2\"><chunk item-count=\"10\">")
+                .append("<reader ref=\"reader1\"><properties><property name=\"rp1\" value=\"v1\"/>")
+                .append("<property name=\"rp2\" value=\"v2\"/></properties></reader>")
+                .append("<processor ref=\"processor1\"/><writer ref=\"writer1\"/></chunk>");
+        if (partitions > 0) {
+            sb.append("<partition><plan partitions=\"").append(partitions).append("\" threads=\"4\">");
+            for (int i = 0; i < partitions; i++) {
+                sb.append("<properties partition=\"").append(i).append("\">")
+                        .append("<property name=\"start\" value=\"").append(i * 1000).append("\"/>")
+                        .append("<property name=\"end\" value=\"").append(i * 1000 + 999).append("\"/>")
+                        .append("</properties>");
+            }
+            sb.append("</plan><collector ref=\"collector1\"/><analyzer ref=\"analyzer1\"/></partition>");
+        }
+        sb.append("</step>")
+                .append("<step id=\"step2\"><batchlet ref=\"batchlet1\"/>")
+                .append("<end on=\"COMPLETED\" exit-status=\"DONE\"/></step></job>");
+        return sb.toString();
+    }
+}
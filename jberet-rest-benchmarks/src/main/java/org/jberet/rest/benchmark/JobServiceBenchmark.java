@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import jakarta.batch.runtime.BatchRuntime;
+import jakarta.batch.runtime.Metric;
+import jakarta.batch.runtime.StepExecution;
+
+import org.jberet.rest.entity.JobExecutionEntity;
+import org.jberet.rest.entity.JobInstanceEntity;
+import org.jberet.rest.entity.MetricEntity;
+import org.jberet.rest.entity.StepExecutionEntity;
+import org.jberet.rest.service.JobService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures construction of entities in {@link JobService} from the in-memory
+ * job repository: {@code JobExecutionEntity}, {@code JobInstanceEntity},
+ * {@code StepExecutionEntity}, and {@link MetricEntity#copyOf(Metric[])}.
+ *
+ * @since 3.0.1.Final
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobServiceBenchmark {
+    /**
+     * Number of job executions in the job repository.
+     */
+    @Param({"100", "1000"})
+    int numberOfJobExecutions;
+
+    private JobService jobService;
+
+    private long jobExecutionId;
+
+    private Metric[] metrics;
+
+    @Setup
+    public void setUp() throws Exception {
+        final long[] ids = InMemoryBatch.populate(numberOfJobExecutions);
+        jobService = JobService.getInstance();
+        jobExecutionId = ids[ids.length - 1];
+        final List<StepExecution> stepExecutions = BatchRuntime.getJobOperator().getStepExecutions(jobExecutionId);
+        metrics = stepExecutions.get(0).getMetrics();
+    }
+
+    @Benchmark
+    public JobExecutionEntity getJobExecution() {
+        return jobService.getJobExecution(jobExecutionId);
+    }
+
+    @Benchmark
+    public JobExecutionEntity[] getJobExecutions() {
+        return jobService.getJobExecutions(0, 0, 0);
+    }
+
+    @Benchmark
+    public JobInstanceEntity[] getJobInstances() {
+        return jobService.getJobInstances(InMemoryBatch.JOB_NAME, 0, Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public StepExecutionEntity[] getStepExecutions() {
+        return jobService.getStepExecutions(jobExecutionId);
+    }
+
+    @Benchmark
+    public MetricEntity[] copyMetrics() {
+        return MetricEntity.copyOf(metrics);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jberet.job.model.Job;
+import org.jberet.rest.commons.util.JsonJobMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures mapping of JSON job definitions to {@code org.jberet.job.model.Job}
+ * with {@link JsonJobMapper#toJob(String)}.
+ *
+ * @since 3.0.1.Final
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonJobMapperBenchmark {
+    /**
+     * Number of partitions in the partition plan of the job definition;
+     * 0 for a job definition without partition.
+     */
+    @Param({"0", "10", "100"})
+    int partitions;
+
+    private String json;
+
+    @Setup
+    public void setUp() {
+        json = jobDefinition(partitions);
+    }
+
+    @Benchmark
+    public Job toJob() {
+        return JsonJobMapper.toJob(json);
+    }
+
+    /**
+     * Creates a JSON job definition with a chunk step, properties, listeners,
+     * a transition, and optionally a partition plan with 2 properties per partition.
+     *
+     * @param partitions number of partitions, or 0 for no partition
+     * @return JSON job definition
+     */
+    static String jobDefinition(final int partitions) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("{\"job\": {\"id\": \"job1\",")
+                .append("\"properties\": {\"property\": [{\"name\": \"jp1\", \"value\": \"v1\"},")
+                .append("{\"name\": \"jp2\", \"value\": \"v2\"}]},")
+                .append("\"listeners\": {\"listener\": [{\"ref\": \"jobListener1\"}]},")
+                .append("\"step\": [{\"id\": \"step1\", \"next\": \"step2\",")
+                .append("\"chunk\": {\"item-count\": \"10\",")
+                .append("\"reader\": {\"ref\": \"reader1\", \"properties\": {\"property\": ")
+                .append("[{\"name\": \"rp1\", \"value\": \"v1\"}, {\"name\": \"rp2\", \"value\": \"v2\"}]}},")
+                .append("\"processor\": {\"ref\": \"processor1\"},")
+                .append("\"writer\": {\"ref\": \"writer1\"}}");
+        if (partitions > 0) {
+            sb.append(", \"partition\": {\"plan\": {\"partitions\": ").append(partitions)
+                    .append(", \"threads\": 4, \"properties\": [");
+            for (int i = 0; i < partitions; i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                sb.append("{\"partition\": \"").append(i).append("\", \"property\": [")
+                        .append("{\"name\": \"start\", \"value\": \"").append(i * 1000).append("\"},")
+                        .append("{\"name\": \"end\", \"value\": \"").append(i * 1000 + 999).append("\"}]}");
+            }
+            sb.append("]}, \"collector\": {\"ref\": \"collector1\"}, \"analyzer\": {\"ref\": \"analyzer1\"}}");
+        }
+        sb.append("},")
+                .append("{\"id\": \"step2\", \"batchlet\": {\"ref\": \"batchlet1\"},")
+                .append("\"end\": {\"on\": \"COMPLETED\", \"exit-status\": \"DONE\"}}]}}");
+        return sb.toString();
+    }
+}
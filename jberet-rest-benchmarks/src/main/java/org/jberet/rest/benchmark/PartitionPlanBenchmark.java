@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jberet.job.model.Job;
+import org.jberet.rest.commons.util.JsonJobMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures mapping of JSON job definitions with large partition plans, as submitted
+ * for data-sharding jobs, with each form of partition plan properties:
+ * a {@code properties} array, a {@code properties-table}, or a {@code properties-template}.
+ *
+ * @since 3.0.1.Final
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PartitionPlanBenchmark {
+    @Param({"properties", "properties-table", "properties-template"})
+    String form;
+
+    @Param({"1000", "10000"})
+    int partitions;
+
+    private String json;
+
+    @Setup
+    public void setUp() {
+        json = jobDefinition(form, partitions);
+    }
+
+    @Benchmark
+    public Job toJob() {
+        return JsonJobMapper.toJob(json);
+    }
+
+    /**
+     * Creates a JSON job definition with a partitioned batchlet step, where each partition
+     * has properties {@code shard} and {@code index}, with values {@code shard-<i>} and
+     * {@code <i>} for partition {@code i}.
+     *
+     * @param form form of partition plan properties
+     * @param partitions number of partitions
+     * @return JSON job definition
+     */
+    static String jobDefinition(final String form, final int partitions) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("{\"job\": {\"id\": \"job1\", \"step\": {\"id\": \"step1\",")
+                .append("\"batchlet\": {\"ref\": \"batchlet1\"},")
+                .append("\"partition\": {\"plan\": {\"partitions\": ").append(partitions)
+                .append(", \"threads\": 8, ");
+        switch (form) {
+            case "properties-table":
+                sb.append("\"properties-table\": {\"names\": [\"shard\", \"index\"], \"values\": [");
+                for (int i = 0; i < partitions; i++) {
+                    if (i > 0) {
+                        sb.append(',');
+                    }
+                    sb.append("[\"shard-").append(i).append("\", ").append(i).append(']');
+                }
+                sb.append("]}");
+                break;
+            case "properties-template":
+                sb.append("\"properties-template\": {\"property\": [")
+                        .append("{\"name\": \"shard\", \"value\": \"shard-{partition}\"},")
+                        .append("{\"name\": \"index\", \"value\": \"{partition}\"}]}");
+                break;
+            default:
+                sb.append("\"properties\": [");
+                for (int i = 0; i < partitions; i++) {
+                    if (i > 0) {
+                        sb.append(',');
+                    }
+                    sb.append("{\"property\": [{\"name\": \"shard\", \"value\": \"shard-").append(i).append("\"},")
+                            .append("{\"name\": \"index\", \"value\": \"").append(i).append("\"}]}");
+                }
+                sb.append(']');
+        }
+        sb.append("}}}}}");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.Marshaller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jberet.rest.entity.JobExecutionEntity;
+import org.jberet.rest.entity.StepExecutionEntity;
+import org.jberet.rest.service.JobService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures JSON (Jackson) and XML (JAXB) serialization of entity arrays,
+ * as returned by the listing resources.
+ *
+ * @since 3.0.1.Final
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+    /**
+     * Number of job executions in the serialized array.
+     */
+    @Param({"100", "1000"})
+    int numberOfJobExecutions;
+
+    private JobExecutionEntity[] jobExecutions;
+
+    private StepExecutionEntity[] stepExecutions;
+
+    private ObjectMapper objectMapper;
+
+    private Marshaller jobExecutionMarshaller;
+
+    private Marshaller stepExecutionMarshaller;
+
+    @Setup
+    public void setUp() throws Exception {
+        final long[] ids = InMemoryBatch.populate(numberOfJobExecutions);
+        final JobService jobService = JobService.getInstance();
+        jobExecutions = jobService.getJobExecutions(0, 0, 0);
+        stepExecutions = jobService.getStepExecutions(ids[0]);
+        objectMapper = new ObjectMapper();
+        jobExecutionMarshaller = fragmentMarshaller(JobExecutionEntity.class);
+        stepExecutionMarshaller = fragmentMarshaller(StepExecutionEntity.class);
+    }
+
+    @Benchmark
+    public byte[] jobExecutionsToJson() throws Exception {
+        return objectMapper.writeValueAsBytes(jobExecutions);
+    }
+
+    @Benchmark
+    public byte[] stepExecutionsToJson() throws Exception {
+        return objectMapper.writeValueAsBytes(stepExecutions);
+    }
+
+    @Benchmark
+    public byte[] jobExecutionsToXml() throws Exception {
+        return toXml(jobExecutionMarshaller, jobExecutions);
+    }
+
+    @Benchmark
+    public byte[] stepExecutionsToXml() throws Exception {
+        return toXml(stepExecutionMarshaller, stepExecutions);
+    }
+
+    private static byte[] toXml(final Marshaller marshaller, final Object[] entities) throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write("<collection>".getBytes());
+        for (final Object e : entities) {
+            marshaller.marshal(e, out);
+        }
+        out.write("</collection>".getBytes());
+        return out.toByteArray();
+    }
+
+    private static Marshaller fragmentMarshaller(final Class<?> entityClass) throws Exception {
+        final Marshaller marshaller = JAXBContext.newInstance(entityClass).createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+        return marshaller;
+    }
+}
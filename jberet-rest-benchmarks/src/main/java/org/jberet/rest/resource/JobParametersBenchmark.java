@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.resource;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import jakarta.ws.rs.core.UriInfo;
+
+import org.jboss.resteasy.specimpl.ResteasyUriInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link JobResource#jobParametersFromUriInfoAndProps(UriInfo, Properties)},
+ * which combines job parameters from query parameters and request body.
+ * This benchmark is in the package of {@code JobResource} to access the
+ * package-private method.
+ *
+ * @since 3.0.1.Final
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobParametersBenchmark {
+    /**
+     * Number of job parameters in query parameters, and in request body.
+     */
+    @Param({"0", "5", "50"})
+    int numberOfParameters;
+
+    private String requestUri;
+
+    private Properties props;
+
+    @Setup
+    public void setUp() {
+        final StringBuilder sb = new StringBuilder("http://localhost:8080/api/jobs/job1/start");
+        props = new Properties();
+        for (int i = 0; i < numberOfParameters; i++) {
+            sb.append(i == 0 ? '?' : '&').append("query").append(i).append('=').append("value%20").append(i);
+            props.setProperty("body" + i, "value " + i);
+        }
+        requestUri = sb.toString();
+    }
+
+    /**
+     * Includes parsing of query parameters, which is done once per request by the
+     * {@code UriInfo} of the JAX-RS runtime.
+     *
+     * @return job parameters
+     */
+    @Benchmark
+    public Properties jobParametersFromUriInfoAndProps() {
+        final UriInfo uriInfo = new ResteasyUriInfo(requestUri, "/");
+        return JobResource.jobParametersFromUriInfoAndProps(uriInfo, props);
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.commons._private;
+
+import org.jboss.logging.BasicLogger;
+import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.Cause;
+import org.jboss.logging.annotations.LogMessage;
+import org.jboss.logging.annotations.Message;
+import org.jboss.logging.annotations.MessageLogger;
+import org.jboss.logging.annotations.ValidIdRange;
+
+@MessageLogger(projectCode = "JBERET")
+@ValidIdRange(min = 71500, max = 71999)
+public interface RestCommonsLogger extends BasicLogger {
+    RestCommonsLogger LOGGER = Logger.getMessageLogger(RestCommonsLogger.class, "org.jberet.rest-commons");
+
+    @Message(id = 71500, value = "Failed to dispatch queued job start requests, will retry at the next poll (%s similar messages suppressed)")
+    @LogMessage(level = Logger.Level.WARN)
+    void failToDispatchQueuedJobs(int suppressed, @Cause Throwable ex);
+
+}
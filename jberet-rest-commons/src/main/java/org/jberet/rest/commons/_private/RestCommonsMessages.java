@@ -19,7 +19,7 @@ import org.jboss.logging.annotations.MessageBundle;
 import org.jboss.logging.annotations.ValidIdRange;
 
 @MessageBundle(projectCode = "JBERET")
-@ValidIdRange(min = 71000, max = 71999)
+@ValidIdRange(min = 71000, max = 71499)
 public interface RestCommonsMessages {
     RestCommonsMessages MESSAGES = Messages.getBundle(RestCommonsMessages.class);
 
@@ -29,4 +29,55 @@ public interface RestCommonsMessages {
     @Message(id = 71001, value = "Failed to read batch job definition.")
     BatchRuntimeException failToReadJobDefinition(@Cause Throwable cause);
 
+    @Message(id = 71002, value = "Job start queue is not enabled, and can be enabled with system property %s")
+    IllegalStateException jobStartQueueNotEnabled(String property);
+
+    @Message(id = 71003, value = "%s: missing '%s'")
+    String missingJsonValue(String path, String name);
+
+    @Message(id = 71004, value = "%s: duplicate id '%s'")
+    String duplicateId(String path, String id);
+
+    @Message(id = 71005, value = "%s: transition to '%s', which is not a step, flow, split or decision in the same scope")
+    String unknownTransitionTarget(String path, String target);
+
+    @Message(id = 71006, value = "%s: restart from '%s', which is not a job-level step, flow, split or decision")
+    String unknownRestartPosition(String path, String restart);
+
+    @Message(id = 71007, value = "Invalid JSON: %s")
+    String invalidJson(String reason);
+
+    @Message(id = 71008, value = "Failed to read job definition patch.")
+    IllegalArgumentException failToReadPatch(@Cause Throwable cause);
+
+    @Message(id = 71009, value = "Invalid JSON Patch operation: %s")
+    IllegalArgumentException invalidJsonPatchOperation(String operation);
+
+    @Message(id = 71010, value = "JSON Patch path does not exist: %s")
+    IllegalArgumentException jsonPatchPathNotFound(String path);
+
+    @Message(id = 71011, value = "JSON Patch test failed at path: %s")
+    IllegalArgumentException jsonPatchTestFailed(String path);
+
+    @Message(id = 71012, value = "Invalid patched job definition: %s")
+    IllegalArgumentException invalidPatchedJobDefinition(String errors);
+
+    @Message(id = 71013, value = "Unsupported job definition patch media type %s, expecting %s or %s")
+    IllegalArgumentException unsupportedPatchMediaType(String mediaType, String jsonPatch, String mergePatch);
+
+    @Message(id = 71014, value = "The job id %s cannot be changed to %s by a job definition patch")
+    IllegalArgumentException jobIdChangedByPatch(String jobId, String patchedJobId);
+
+    @Message(id = 71015, value = "%s: only one of properties, properties-table and properties-template is allowed")
+    String conflictingPartitionProperties(String path);
+
+    @Message(id = 71016, value = "%s: %d values, expecting one for each of the %d names")
+    String partitionValuesSize(String path, int size, int expected);
+
+    @Message(id = 71017, value = "Document type declarations are not allowed in job XML content")
+    BatchRuntimeException doctypeNotAllowed();
+
+    @Message(id = 71018, value = "Job element %s cannot be patched, since its %s cannot be represented in a JSON job definition")
+    IllegalArgumentException unpatchableJobElement(String id, String content);
+
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.commons.util;
+
+import java.io.IOException;
+import java.util.List;
+import jakarta.batch.operations.BatchRuntimeException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jberet.job.model.Job;
+import org.jberet.rest.commons._private.RestCommonsMessages;
+
+/**
+ * Maps job definition content in any format read by a Jackson {@code ObjectMapper},
+ * such as JSON or YAML, by reading it into a tree with the streaming parser of the
+ * format, and converting the tree with {@link JsonJobMapper#toJob(JsonNode)}.
+ *
+ * @since 3.0.1.Final
+ */
+final class JacksonJobDefinitionMapper implements JobDefinitionMapper {
+    private final ObjectMapper objectMapper;
+
+    private final List<String> mediaTypes;
+
+    JacksonJobDefinitionMapper(final ObjectMapper objectMapper, final String... mediaTypes) {
+        this.objectMapper = objectMapper;
+        this.mediaTypes = List.of(mediaTypes);
+    }
+
+    @Override
+    public List<String> getMediaTypes() {
+        return mediaTypes;
+    }
+
+    @Override
+    public Job toJob(final String content) throws BatchRuntimeException {
+        final JsonNode rootNode;
+        try {
+            rootNode = objectMapper.readTree(content);
+        } catch (IOException e) {
+            throw RestCommonsMessages.MESSAGES.failToReadJobDefinition(e);
+        }
+        return JsonJobMapper.toJob(rootNode);
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.commons.util;
+
+import java.util.List;
+import jakarta.batch.operations.BatchRuntimeException;
+
+import org.jberet.job.model.Job;
+
+/**
+ * Maps job definition content of one or more media types to {@link Job} object.
+ * <p>
+ * Mappers for JSON, YAML and job XML are built in. Additional mappers can be registered
+ * as services of this interface with {@code java.util.ServiceLoader}, and take precedence
+ * over built-in mappers for the same media type. Implementations must be thread-safe.
+ *
+ * @see JobDefinitionMappers
+ * @since 3.0.1.Final
+ */
+public interface JobDefinitionMapper {
+    /**
+     * Gets the media types of job definition content this mapper reads, without parameters,
+     * such as {@code application/json}.
+     *
+     * @return media types in lower case
+     */
+    List<String> getMediaTypes();
+
+    /**
+     * Converts the job definition content to {@link Job} object.
+     *
+     * @param content the job definition content
+     * @return a {@link Job} converted from {@code content}
+     *
+     * @throws BatchRuntimeException if any errors when reading job definition
+     */
+    Job toJob(String content) throws BatchRuntimeException;
+}
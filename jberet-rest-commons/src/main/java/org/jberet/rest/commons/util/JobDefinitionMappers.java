@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.commons.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+/**
+ * Finds the {@link JobDefinitionMapper} for the media type of job definition content.
+ * <p>
+ * The built-in mappers read JSON ({@value #APPLICATION_JSON}), YAML ({@value #APPLICATION_YAML},
+ * {@code application/x-yaml} and {@code text/yaml}) and job XML ({@value #APPLICATION_XML}
+ * and {@code text/xml}). JSON and YAML share the same mapping from the parsed tree, so a YAML
+ * job definition has the same structure as its JSON equivalent. Media types with a structured
+ * syntax suffix, such as {@code application/vnd.example+json}, are mapped by the mapper for
+ * the suffix.
+ *
+ * @since 3.0.1.Final
+ */
+public final class JobDefinitionMappers {
+    public static final String APPLICATION_JSON = "application/json";
+
+    public static final String APPLICATION_YAML = "application/yaml";
+
+    public static final String APPLICATION_X_YAML = "application/x-yaml";
+
+    public static final String TEXT_YAML = "text/yaml";
+
+    public static final String APPLICATION_XML = "application/xml";
+
+    public static final String TEXT_XML = "text/xml";
+
+    private static final Map<String, JobDefinitionMapper> mappers = new HashMap<>();
+
+    static {
+        register(new JacksonJobDefinitionMapper(new ObjectMapper(), APPLICATION_JSON));
+        register(new JacksonJobDefinitionMapper(new ObjectMapper(new YAMLFactory()),
+                APPLICATION_YAML, APPLICATION_X_YAML, TEXT_YAML));
+        register(new XmlJobDefinitionMapper(APPLICATION_XML, TEXT_XML));
+        for (final JobDefinitionMapper mapper :
+                ServiceLoader.load(JobDefinitionMapper.class, JobDefinitionMapper.class.getClassLoader())) {
+            register(mapper);
+        }
+    }
+
+    private JobDefinitionMappers() {
+    }
+
+    private static void register(final JobDefinitionMapper mapper) {
+        for (final String mediaType : mapper.getMediaTypes()) {
+            mappers.put(mediaType.toLowerCase(Locale.ROOT), mapper);
+        }
+    }
+
+    /**
+     * Gets the mapper for the media type of job definition content.
+     *
+     * @param mediaType the media type, which may include parameters such as {@code charset},
+     *                  or null for JSON
+     * @return the mapper for {@code mediaType}, or null if the media type is not supported
+     */
+    public static JobDefinitionMapper getMapper(final String mediaType) {
+        if (mediaType == null) {
+            return mappers.get(APPLICATION_JSON);
+        }
+        final int semicolon = mediaType.indexOf(';');
+        final String type = (semicolon < 0 ? mediaType : mediaType.substring(0, semicolon))
+                .trim().toLowerCase(Locale.ROOT);
+        final JobDefinitionMapper mapper = mappers.get(type);
+        if (mapper != null) {
+            return mapper;
+        }
+        final int plus = type.lastIndexOf('+');
+        if (plus > 0) {
+            return mappers.get("application/" + type.substring(plus + 1));
+        }
+        return null;
+    }
+
+    /**
+     * Gets the media types of job definition content that can be mapped.
+     *
+     * @return supported media types, unmodifiable
+     */
+    public static Set<String> getMediaTypes() {
+        return Collections.unmodifiableSet(mappers.keySet());
+    }
+}
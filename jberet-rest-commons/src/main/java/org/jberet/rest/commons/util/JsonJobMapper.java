@@ -15,6 +15,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -23,16 +24,26 @@ import jakarta.batch.operations.BatchRuntimeException;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.jberet.job.model.Chunk;
 import org.jberet.job.model.Decision;
 import org.jberet.job.model.DecisionBuilder;
+import org.jberet.job.model.ExceptionClassFilter;
 import org.jberet.job.model.Flow;
 import org.jberet.job.model.FlowBuilder;
 import org.jberet.job.model.Job;
 import org.jberet.job.model.JobBuilder;
+import org.jberet.job.model.JobElement;
+import org.jberet.job.model.Listeners;
+import org.jberet.job.model.Partition;
+import org.jberet.job.model.PartitionPlan;
+import org.jberet.job.model.RefArtifact;
 import org.jberet.job.model.Split;
 import org.jberet.job.model.SplitBuilder;
 import org.jberet.job.model.Step;
 import org.jberet.job.model.StepBuilder;
+import org.jberet.job.model.Transition;
 import org.jberet.job.model.XmlAttribute;
 import org.jberet.job.model.XmlElement;
 import org.jberet.rest.commons._private.RestCommonsMessages;
@@ -40,12 +51,44 @@ import org.jberet.rest.commons._private.RestCommonsMessages;
 /**
  * A mapper class between {@link org.jberet.job.model.Job} object and
  * its JSON representation.
+ * <p>
+ * Besides a {@code properties} array with the properties of each partition, a partition
+ * plan may have one of these more compact forms for a large number of partitions:
+ * <ul>
+ * <li>{@code properties-table}, with property {@code names} shared by all partitions,
+ * and {@code values} with an array of values for each partition:
+ * {@code {"names": ["start", "end"], "values": [[0, 999], [1000, 1999]]}}
+ * <li>{@code properties-template}, with properties whose values are expanded for each of
+ * the {@code partitions} partitions, replacing {@code {partition}} with the partition index:
+ * {@code {"property": {"name": "shard", "value": "shard-{partition}"}}}. The properties of
+ * each partition are only created when they are used.
+ * </ul>
  *
  * @since 1.3.0.Final
  */
 public final class JsonJobMapper {
     public static final String[] EMPTY_STRING_ARRAY = new String[0];
 
+    /**
+     * Name of the partition plan properties table in JSON job definitions.
+     *
+     * @since 3.0.1.Final
+     */
+    public static final String PROPERTIES_TABLE = "properties-table";
+
+    /**
+     * Name of the partition plan properties template in JSON job definitions.
+     *
+     * @since 3.0.1.Final
+     */
+    public static final String PROPERTIES_TEMPLATE = "properties-template";
+
+    static final String NAMES = "names";
+
+    static final String VALUES = "values";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
     private JsonJobMapper() {
     }
 
@@ -58,18 +101,327 @@ public final class JsonJobMapper {
      * @throws BatchRuntimeException if any errors when reading job definition
      */
     public static Job toJob(final String json) throws BatchRuntimeException {
-        final ObjectMapper objectMapper = new ObjectMapper();
-        final JsonNode jobNode;
+        final JsonNode rootNode;
         try {
-            jobNode = objectMapper.readTree(json).get(XmlElement.JOB.getLocalName());
+            rootNode = objectMapper.readTree(json);
         } catch (IOException e) {
             throw RestCommonsMessages.MESSAGES.failToReadJobDefinition(e);
         }
+        return toJob(rootNode);
+    }
+
+    /**
+     * Converts the job definition tree to {@link Job} object. The tree may have been
+     * read from JSON, or from any other format with the same structure, such as YAML.
+     *
+     * @param rootNode the root node of the batch job definition
+     * @return a {@link Job} converted from {@code rootNode}
+     *
+     * @throws BatchRuntimeException if any errors when reading job definition
+     *
+     * @since 3.0.1.Final
+     */
+    public static Job toJob(final JsonNode rootNode) throws BatchRuntimeException {
+        final JsonNode jobNode = rootNode.get(XmlElement.JOB.getLocalName());
 
         final String jobId = getRequiredTextValue(jobNode, XmlAttribute.ID, XmlElement.JOB);
         JobBuilder jobBuilder = new JobBuilder(jobId);
         mapJob(jobNode, jobBuilder);
-        return jobBuilder.build();
+        final Job job = jobBuilder.build();
+        applyTextualValue(jobNode, XmlAttribute.RESTARTABLE, job::setRestartable);
+        return job;
+    }
+
+    /**
+     * Converts the {@link Job} object to its JSON representation, which can be converted
+     * back with {@link #toJob(JsonNode)}. Steps, flows, splits, decisions and transitions
+     * are always written as arrays, grouped by element type. Numeric and boolean attributes
+     * whose values are not numbers or booleans, such as attribute values referencing job
+     * parameters, are written as text. Inline scripts, which cannot be expressed in JSON
+     * job definitions, are not written.
+     *
+     * @param job the job to convert
+     * @return the root node of the JSON job definition
+     *
+     * @since 3.0.1.Final
+     */
+    public static ObjectNode toJson(final Job job) {
+        final ObjectNode jobNode = objectMapper.createObjectNode();
+        jobNode.put(XmlAttribute.ID.getLocalName(), job.getId());
+        writeBooleanValue(jobNode, XmlAttribute.RESTARTABLE, job.getRestartable());
+        writeProperties(jobNode, job.getProperties());
+        writeListeners(jobNode, job.getListeners());
+        writeJobElements(jobNode, job.getJobElements());
+
+        final ObjectNode rootNode = objectMapper.createObjectNode();
+        rootNode.set(XmlElement.JOB.getLocalName(), jobNode);
+        return rootNode;
+    }
+
+    /**
+     * Converts the JSON representation of a single step, flow, split or decision.
+     *
+     * @param elementName the element name, i.e., {@code step}, {@code flow}, {@code split} or {@code decision}
+     * @param elementNode the node of the element
+     * @return the converted step, flow, split or decision
+     */
+    static JobElement toJobElement(final String elementName, final JsonNode elementNode) {
+        final JobElement[] result = new JobElement[1];
+        if (XmlElement.STEP.getLocalName().equals(elementName)) {
+            mapSingleStep(elementNode, step -> result[0] = step);
+        } else if (XmlElement.FLOW.getLocalName().equals(elementName)) {
+            mapSingleFlow(elementNode, flow -> result[0] = flow);
+        } else if (XmlElement.SPLIT.getLocalName().equals(elementName)) {
+            mapSingleSplit(elementNode, split -> result[0] = split);
+        } else {
+            mapSingleDecision(elementNode, decision -> result[0] = decision);
+        }
+        return result[0];
+    }
+
+    private static void writeJobElements(final ObjectNode parentNode, final List<? extends JobElement> jobElements) {
+        for (final JobElement e : jobElements) {
+            final ObjectNode node;
+            if (e instanceof Step) {
+                node = writeStep((Step) e);
+            } else if (e instanceof Flow) {
+                node = writeFlow((Flow) e);
+            } else if (e instanceof Split) {
+                node = writeSplit((Split) e);
+            } else {
+                node = writeDecision((Decision) e);
+            }
+            parentNode.withArray(elementName(e)).add(node);
+        }
+    }
+
+    /**
+     * Gets the JSON element name of a step, flow, split or decision.
+     *
+     * @param jobElement the step, flow, split or decision
+     * @return the element name
+     */
+    static String elementName(final JobElement jobElement) {
+        if (jobElement instanceof Step) {
+            return XmlElement.STEP.getLocalName();
+        }
+        if (jobElement instanceof Flow) {
+            return XmlElement.FLOW.getLocalName();
+        }
+        if (jobElement instanceof Split) {
+            return XmlElement.SPLIT.getLocalName();
+        }
+        return XmlElement.DECISION.getLocalName();
+    }
+
+    private static ObjectNode writeStep(final Step step) {
+        final ObjectNode stepNode = objectMapper.createObjectNode();
+        stepNode.put(XmlAttribute.ID.getLocalName(), step.getId());
+        writeIntValue(stepNode, XmlAttribute.START_LIMIT, step.getStartLimit());
+        writeBooleanValue(stepNode, XmlAttribute.ALLOW_START_IF_COMPLETE, step.getAllowStartIfComplete());
+        writeTextValue(stepNode, XmlAttribute.NEXT, step.getAttributeNext());
+        writeProperties(stepNode, step.getProperties());
+        writeListeners(stepNode, step.getListeners());
+        writeRefArtifact(stepNode, XmlElement.BATCHLET, step.getBatchlet());
+
+        final Chunk chunk = step.getChunk();
+        if (chunk != null) {
+            final ObjectNode chunkNode = stepNode.putObject(XmlElement.CHUNK.getLocalName());
+            writeIntValue(chunkNode, XmlAttribute.RETRY_LIMIT, chunk.getRetryLimit());
+            writeIntValue(chunkNode, XmlAttribute.SKIP_LIMIT, chunk.getSkipLimit());
+            writeIntValue(chunkNode, XmlAttribute.TIME_LIMIT, chunk.getTimeLimit());
+            writeIntValue(chunkNode, XmlAttribute.ITEM_COUNT, chunk.getItemCount());
+            writeTextValue(chunkNode, XmlAttribute.CHECKPOINT_POLICY, chunk.getCheckpointPolicy());
+            writeRefArtifact(chunkNode, XmlElement.READER, chunk.getReader());
+            writeRefArtifact(chunkNode, XmlElement.PROCESSOR, chunk.getProcessor());
+            writeRefArtifact(chunkNode, XmlElement.WRITER, chunk.getWriter());
+            writeRefArtifact(chunkNode, XmlElement.CHECKPOINT_ALGORITHM, chunk.getCheckpointAlgorithm());
+            writeExceptionFilter(chunkNode, XmlElement.SKIPPABLE_EXCEPTION_CLASSES, chunk.getSkippableExceptionClasses());
+            writeExceptionFilter(chunkNode, XmlElement.RETRYABLE_EXCEPTION_CLASSES, chunk.getRetryableExceptionClasses());
+            writeExceptionFilter(chunkNode, XmlElement.NO_ROLLBACK_EXCEPTION_CLASSES, chunk.getNoRollbackExceptionClasses());
+        }
+
+        final Partition partition = step.getPartition();
+        if (partition != null) {
+            final ObjectNode partitionNode = stepNode.putObject(XmlElement.PARTITION.getLocalName());
+            writeRefArtifact(partitionNode, XmlElement.MAPPER, partition.getMapper());
+            final PartitionPlan plan = partition.getPlan();
+            if (plan != null) {
+                final ObjectNode planNode = partitionNode.putObject(XmlElement.PLAN.getLocalName());
+                writeIntValue(planNode, XmlAttribute.PARTITIONS, plan.getPartitions());
+                writeIntValue(planNode, XmlAttribute.THREADS, plan.getThreads());
+                if (plan.getPropertiesList() instanceof PartitionPropertiesTemplate) {
+                    final ObjectNode templateNode = planNode.putObject(PROPERTIES_TEMPLATE);
+                    final ArrayNode propertyArray = templateNode.putArray(XmlElement.PROPERTY.getLocalName());
+                    for (final Map.Entry<String, String> e :
+                            ((PartitionPropertiesTemplate) plan.getPropertiesList()).getTemplate().entrySet()) {
+                        propertyArray.addObject()
+                                .put(XmlAttribute.NAME.getLocalName(), e.getKey())
+                                .put(XmlAttribute.VALUE.getLocalName(), e.getValue());
+                    }
+                } else if (plan.getPropertiesList() != null && !plan.getPropertiesList().isEmpty()) {
+                    final ArrayNode propertiesArray = planNode.putArray(XmlElement.PROPERTIES.getLocalName());
+                    for (final org.jberet.job.model.Properties p : plan.getPropertiesList()) {
+                        final ObjectNode propertiesNode = propertiesArray.addObject();
+                        writeTextValue(propertiesNode, XmlAttribute.PARTITION, p.getPartition());
+                        writePropertyEntries(propertiesNode, p);
+                    }
+                }
+            }
+            writeRefArtifact(partitionNode, XmlElement.COLLECTOR, partition.getCollector());
+            writeRefArtifact(partitionNode, XmlElement.ANALYZER, partition.getAnalyzer());
+            writeRefArtifact(partitionNode, XmlElement.REDUCER, partition.getReducer());
+        }
+
+        writeTransitions(stepNode, step.getTransitionElements());
+        return stepNode;
+    }
+
+    private static ObjectNode writeFlow(final Flow flow) {
+        final ObjectNode flowNode = objectMapper.createObjectNode();
+        flowNode.put(XmlAttribute.ID.getLocalName(), flow.getId());
+        writeTextValue(flowNode, XmlAttribute.NEXT, flow.getAttributeNext());
+        writeTransitions(flowNode, flow.getTransitionElements());
+        writeJobElements(flowNode, flow.getJobElements());
+        return flowNode;
+    }
+
+    private static ObjectNode writeSplit(final Split split) {
+        final ObjectNode splitNode = objectMapper.createObjectNode();
+        splitNode.put(XmlAttribute.ID.getLocalName(), split.getId());
+        writeTextValue(splitNode, XmlAttribute.NEXT, split.getAttributeNext());
+        writeJobElements(splitNode, split.getFlows());
+        return splitNode;
+    }
+
+    private static ObjectNode writeDecision(final Decision decision) {
+        final ObjectNode decisionNode = objectMapper.createObjectNode();
+        decisionNode.put(XmlAttribute.ID.getLocalName(), decision.getId());
+        decisionNode.put(XmlAttribute.REF.getLocalName(), decision.getRef());
+        writeProperties(decisionNode, decision.getProperties());
+        writeTransitions(decisionNode, decision.getTransitionElements());
+        return decisionNode;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static void writeTransitions(final ObjectNode parentNode, final List<Transition> transitions) {
+        //the next attribute and next transition elements share the same JSON name,
+        //so next transition elements are only written without the next attribute
+        final boolean hasNextAttribute = parentNode.has(XmlAttribute.NEXT.getLocalName());
+        for (final Transition t : transitions) {
+            final ObjectNode transitionNode;
+            if (t instanceof Transition.Next) {
+                if (hasNextAttribute) {
+                    continue;
+                }
+                transitionNode = parentNode.withArray(XmlElement.NEXT.getLocalName()).addObject();
+                transitionNode.put(XmlAttribute.ON.getLocalName(), t.getOn());
+                transitionNode.put(XmlAttribute.TO.getLocalName(), ((Transition.Next) t).getTo());
+                continue;
+            }
+            if (t instanceof Transition.End) {
+                transitionNode = parentNode.withArray(XmlElement.END.getLocalName()).addObject();
+                transitionNode.put(XmlAttribute.ON.getLocalName(), t.getOn());
+            } else if (t instanceof Transition.Fail) {
+                transitionNode = parentNode.withArray(XmlElement.FAIL.getLocalName()).addObject();
+                transitionNode.put(XmlAttribute.ON.getLocalName(), t.getOn());
+            } else {
+                transitionNode = parentNode.withArray(XmlElement.STOP.getLocalName()).addObject();
+                transitionNode.put(XmlAttribute.ON.getLocalName(), t.getOn());
+                writeTextValue(transitionNode, XmlAttribute.RESTART, ((Transition.Stop) t).getRestart());
+            }
+            writeTextValue(transitionNode, XmlAttribute.EXIT_STATUS, ((Transition.Termination) t).getExitStatus());
+        }
+    }
+
+    private static void writeRefArtifact(final ObjectNode parentNode, final XmlElement element,
+                                         final RefArtifact refArtifact) {
+        if (refArtifact != null) {
+            final ObjectNode artifactNode = parentNode.putObject(element.getLocalName());
+            artifactNode.put(XmlAttribute.REF.getLocalName(), refArtifact.getRef());
+            writeProperties(artifactNode, refArtifact.getProperties());
+        }
+    }
+
+    private static void writeListeners(final ObjectNode parentNode, final Listeners listeners) {
+        if (listeners != null && listeners.getListeners() != null && !listeners.getListeners().isEmpty()) {
+            final ArrayNode listenerArray = parentNode.putObject(XmlElement.LISTENERS.getLocalName())
+                    .putArray(XmlElement.LISTENER.getLocalName());
+            for (final RefArtifact listener : listeners.getListeners()) {
+                final ObjectNode listenerNode = listenerArray.addObject();
+                listenerNode.put(XmlAttribute.REF.getLocalName(), listener.getRef());
+                writeProperties(listenerNode, listener.getProperties());
+            }
+        }
+    }
+
+    private static void writeExceptionFilter(final ObjectNode parentNode, final XmlElement element,
+                                             final ExceptionClassFilter filter) {
+        if (filter != null) {
+            final ObjectNode filterNode = parentNode.putObject(element.getLocalName());
+            writeClassNames(filterNode, XmlElement.INCLUDE, filter.getInclude());
+            writeClassNames(filterNode, XmlElement.EXCLUDE, filter.getExclude());
+        }
+    }
+
+    private static void writeClassNames(final ObjectNode parentNode, final XmlElement element,
+                                        final List<String> classNames) {
+        if (classNames != null && !classNames.isEmpty()) {
+            final ArrayNode classArray = parentNode.putArray(element.getLocalName());
+            for (final String className : classNames) {
+                classArray.addObject().put(XmlAttribute.CLASS.getLocalName(), className);
+            }
+        }
+    }
+
+    private static void writeProperties(final ObjectNode parentNode, final org.jberet.job.model.Properties properties) {
+        if (properties != null && properties.size() > 0) {
+            writePropertyEntries(parentNode.putObject(XmlElement.PROPERTIES.getLocalName()), properties);
+        }
+    }
+
+    private static void writePropertyEntries(final ObjectNode propertiesNode,
+                                             final org.jberet.job.model.Properties properties) {
+        final ArrayNode propertyArray = propertiesNode.putArray(XmlElement.PROPERTY.getLocalName());
+        for (final Map.Entry<String, String> e : properties.getNameValues().entrySet()) {
+            propertyArray.addObject()
+                    .put(XmlAttribute.NAME.getLocalName(), e.getKey())
+                    .put(XmlAttribute.VALUE.getLocalName(), e.getValue());
+        }
+    }
+
+    /**
+     * Writes a numeric attribute as a number, or as text if it is not a number,
+     * such as an attribute value referencing job parameters.
+     */
+    private static void writeIntValue(final ObjectNode parentNode, final XmlAttribute attr, final String value) {
+        if (value != null) {
+            try {
+                parentNode.put(attr.getLocalName(), Integer.parseInt(value));
+            } catch (NumberFormatException e) {
+                parentNode.put(attr.getLocalName(), value);
+            }
+        }
+    }
+
+    /**
+     * Writes a boolean attribute as a boolean, or as text if it is not a boolean,
+     * such as an attribute value referencing job parameters.
+     */
+    private static void writeBooleanValue(final ObjectNode parentNode, final XmlAttribute attr, final String value) {
+        if (value != null) {
+            if (value.equalsIgnoreCase("true") || value.equalsIgnoreCase("false")) {
+                parentNode.put(attr.getLocalName(), Boolean.parseBoolean(value));
+            } else {
+                parentNode.put(attr.getLocalName(), value);
+            }
+        }
+    }
+
+    private static void writeTextValue(final ObjectNode parentNode, final XmlAttribute attr, final String value) {
+        if (value != null) {
+            parentNode.put(attr.getLocalName(), value);
+        }
     }
 
     private static void mapJob(final JsonNode jobNode, final JobBuilder jobBuilder) {
@@ -77,7 +429,7 @@ public final class JsonJobMapper {
         applyBooleanValue(jobNode, XmlAttribute.RESTARTABLE, jobBuilder::restartable);
 
         // job elements
-        jobBuilder.properties(parseProperties(jobNode, null));
+        jobBuilder.properties(parseProperties(jobNode));
         mapListeners(jobNode.get(XmlElement.LISTENERS.getLocalName()), jobBuilder::listener);
         mapFlows(jobNode.get(XmlElement.FLOW.getLocalName()), jobBuilder::flow);
         mapSplits(jobNode.get(XmlElement.SPLIT.getLocalName()), jobBuilder::split);
@@ -152,7 +504,7 @@ public final class JsonJobMapper {
         final DecisionBuilder decisionBuilder = new DecisionBuilder(
                 getRequiredTextValue(singleDecisionNode, XmlAttribute.ID, XmlElement.JOB, XmlElement.DECISION),
                 getRequiredTextValue(singleDecisionNode, XmlAttribute.REF, XmlElement.JOB, XmlElement.DECISION));
-        decisionBuilder.properties(parseProperties(singleDecisionNode, null));
+        decisionBuilder.properties(parseProperties(singleDecisionNode));
         mapTransitions(singleDecisionNode, null, null, decisionBuilder);
         applyMethod.accept(decisionBuilder.build());
     }
@@ -264,16 +616,35 @@ public final class JsonJobMapper {
         applyBooleanValue(step1Node, XmlAttribute.ALLOW_START_IF_COMPLETE, stepBuilder::allowStartIfComplete);
         applyTextValue(step1Node, XmlAttribute.NEXT, stepBuilder::next);
 
-        stepBuilder.properties(parseProperties(step1Node, null));
+        stepBuilder.properties(parseProperties(step1Node));
         applyRefArtifactWithProperties(step1Node.get(XmlElement.BATCHLET.getLocalName()), stepBuilder::batchlet,
                 XmlElement.STEP, XmlElement.BATCHLET);
 
         mapListeners(step1Node.get(XmlElement.LISTENERS.getLocalName()), stepBuilder::listener);
         mapChunk(step1Node.get(XmlElement.CHUNK.getLocalName()), stepBuilder);
-        mapPartition(step1Node.get(XmlElement.PARTITION.getLocalName()), stepBuilder);
+        final List<org.jberet.job.model.Properties> partitionPropertiesList =
+                mapPartition(step1Node.get(XmlElement.PARTITION.getLocalName()), stepBuilder);
         mapTransitions(step1Node, stepBuilder, null, null);
 
-        applyMethod.accept(stepBuilder.build());
+        final Step step = stepBuilder.build();
+        applyTextualValue(step1Node, XmlAttribute.START_LIMIT, step::setStartLimit);
+        applyTextualValue(step1Node, XmlAttribute.ALLOW_START_IF_COMPLETE, step::setAllowStartIfComplete);
+        final Chunk chunk = step.getChunk();
+        if (chunk != null) {
+            final JsonNode chunkNode = step1Node.get(XmlElement.CHUNK.getLocalName());
+            applyTextualValue(chunkNode, XmlAttribute.RETRY_LIMIT, chunk::setRetryLimit);
+            applyTextualValue(chunkNode, XmlAttribute.SKIP_LIMIT, chunk::setSkipLimit);
+            applyTextualValue(chunkNode, XmlAttribute.TIME_LIMIT, chunk::setTimeLimit);
+            applyTextualValue(chunkNode, XmlAttribute.ITEM_COUNT, chunk::setItemCount);
+        }
+        if (partitionPropertiesList != null) {
+            final PartitionPlan plan = step.getPartition().getPlan();
+            plan.setPropertiesList(partitionPropertiesList);
+            final JsonNode planNode = step1Node.get(XmlElement.PARTITION.getLocalName()).get(XmlElement.PLAN.getLocalName());
+            applyTextualValue(planNode, XmlAttribute.PARTITIONS, plan::setPartitions);
+            applyTextualValue(planNode, XmlAttribute.THREADS, plan::setThreads);
+        }
+        applyMethod.accept(step);
     }
 
     private static void mapSteps(final JsonNode stepNode, final Consumer<Step> applyMethod) {
@@ -338,7 +709,15 @@ public final class JsonJobMapper {
         }
     }
 
-    private static void mapPartition(final JsonNode partitionNode, final StepBuilder stepBuilder) {
+    /**
+     * Maps the partition of a step. Partition plan properties are created directly,
+     * rather than passed to {@code stepBuilder} as {@code java.util.Properties} to be
+     * copied, and are returned to be set after the step is built.
+     *
+     * @return partition plan properties list, or null if there is no partition plan
+     */
+    private static List<org.jberet.job.model.Properties> mapPartition(final JsonNode partitionNode,
+                                                                      final StepBuilder stepBuilder) {
         if (partitionNode != null) {
             applyRefArtifactWithProperties(partitionNode.get(XmlElement.COLLECTOR.getLocalName()),
                     stepBuilder::partitionCollector, XmlElement.PARTITION, XmlElement.COLLECTOR);
@@ -364,11 +743,70 @@ public final class JsonJobMapper {
                 if (threadsNode != null) {
                     threads = threadsNode.asInt();
                 }
-                List<Properties> partitionPropertiesList = new ArrayList<>();
-                parseProperties(planNode, partitionPropertiesList);
-                stepBuilder.partitionPlan(partitions, threads, partitionPropertiesList);
+                stepBuilder.partitionPlan(partitions, threads, null);
+                return mapPartitionProperties(planNode, partitions);
+            }
+        }
+        return null;
+    }
+
+    private static List<org.jberet.job.model.Properties> mapPartitionProperties(final JsonNode planNode,
+                                                                                final int partitions) {
+        final JsonNode propertiesNode = planNode.get(XmlElement.PROPERTIES.getLocalName());
+        if (propertiesNode != null && propertiesNode.isArray()) {
+            final List<org.jberet.job.model.Properties> propertiesList = new ArrayList<>(propertiesNode.size());
+            for (int i = 0; i < propertiesNode.size(); i++) {
+                final org.jberet.job.model.Properties properties = newPartitionProperties(i);
+                parsePropertyEntries(propertiesNode.get(i), properties.getNameValues()::put);
+                propertiesList.add(properties);
+            }
+            return propertiesList;
+        }
+
+        final JsonNode tableNode = planNode.get(PROPERTIES_TABLE);
+        if (tableNode != null) {
+            final JsonNode namesNode = tableNode.path(NAMES);
+            final String[] names = new String[namesNode.size()];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = namesNode.get(i).asText();
+            }
+            final JsonNode valuesNode = tableNode.path(VALUES);
+            final List<org.jberet.job.model.Properties> propertiesList = new ArrayList<>(valuesNode.size());
+            for (int i = 0; i < valuesNode.size(); i++) {
+                final JsonNode rowNode = valuesNode.get(i);
+                final org.jberet.job.model.Properties properties = newPartitionProperties(i);
+                final Map<String, String> nameValues = properties.getNameValues();
+                for (int j = 0; j < names.length; j++) {
+                    final JsonNode valueNode = rowNode.get(j);
+                    if (valueNode == null) {
+                        throw RestCommonsMessages.MESSAGES.expectingJsonElement(names[j],
+                                XmlElement.PLAN.getLocalName(), PROPERTIES_TABLE, VALUES);
+                    }
+                    nameValues.put(names[j], valueNode.asText());
+                }
+                propertiesList.add(properties);
             }
+            return propertiesList;
+        }
+
+        final JsonNode templateNode = planNode.get(PROPERTIES_TEMPLATE);
+        if (templateNode != null) {
+            final List<String> names = new ArrayList<>();
+            final List<String> values = new ArrayList<>();
+            parsePropertyEntries(templateNode, (name, value) -> {
+                names.add(name);
+                values.add(value);
+            });
+            return new PartitionPropertiesTemplate(names.toArray(EMPTY_STRING_ARRAY),
+                    values.toArray(EMPTY_STRING_ARRAY), partitions);
         }
+        return new ArrayList<>();
+    }
+
+    private static org.jberet.job.model.Properties newPartitionProperties(final int partition) {
+        final org.jberet.job.model.Properties properties = new org.jberet.job.model.Properties();
+        properties.setPartition(String.valueOf(partition));
+        return properties;
     }
 
     private static void mapListeners(final JsonNode listenersNode,
@@ -395,26 +833,47 @@ public final class JsonJobMapper {
                                                        final XmlElement... parentElements) {
         if (artifactNode != null) {
             final String ref = getRequiredTextValue(artifactNode, XmlAttribute.REF, parentElements);
-            final Properties properties = parseProperties(artifactNode, null);
+            final Properties properties = parseProperties(artifactNode);
             applyMethod.accept(ref, properties);
         }
     }
 
+    /**
+     * Applies a numeric attribute given as a number. Attributes given as text are
+     * applied by {@link #applyTextualValue(JsonNode, XmlAttribute, Consumer)} instead.
+     */
     private static void applyIntValue(final JsonNode parentNode,
                                       final XmlAttribute attr,
                                       final Consumer<Integer> applyMethod) {
         final JsonNode attrNode = parentNode.get(attr.getLocalName());
-        if (attrNode != null) {
+        if (attrNode != null && !attrNode.isTextual()) {
             final int intValue = attrNode.intValue();
             applyMethod.accept(intValue);
         }
     }
 
+    /**
+     * Applies a numeric or boolean attribute given as text, such as an attribute value
+     * referencing job parameters, to the built job element as is.
+     */
+    private static void applyTextualValue(final JsonNode parentNode,
+                                     final XmlAttribute attr,
+                                     final Consumer<String> applyMethod) {
+        final JsonNode attrNode = parentNode == null ? null : parentNode.get(attr.getLocalName());
+        if (attrNode != null && attrNode.isTextual()) {
+            applyMethod.accept(attrNode.textValue());
+        }
+    }
+
+    /**
+     * Applies a boolean attribute given as a boolean. Attributes given as text are
+     * applied by {@link #applyTextualValue(JsonNode, XmlAttribute, Consumer)} instead.
+     */
     private static void applyBooleanValue(final JsonNode parentNode,
                                           final XmlAttribute attr,
                                           final Consumer<Boolean> applyMethod) {
         final JsonNode attrNode = parentNode.get(attr.getLocalName());
-        if (attrNode != null) {
+        if (attrNode != null && !attrNode.isTextual()) {
             final boolean booleanValue = attrNode.booleanValue();
             applyMethod.accept(booleanValue);
         }
@@ -432,8 +891,7 @@ public final class JsonJobMapper {
         }
     }
 
-    private static java.util.Properties parseProperties(final JsonNode containingNode,
-                                                        final List<Properties> propertiesList) {
+    private static java.util.Properties parseProperties(final JsonNode containingNode) {
         if (containingNode == null) {
             return null;
         }
@@ -443,24 +901,18 @@ public final class JsonJobMapper {
         }
 
         if (propertiesNode.isArray()) {
-            //this is a list of properties under a partition plan
-            final Iterator<JsonNode> elements = propertiesNode.elements();
-            while (elements.hasNext()) {
-                final JsonNode next = elements.next();
-                final Properties properties = new Properties();
-                parsePropertyEntries(next, properties);
-                propertiesList.add(properties);
-            }
+            //this is a list of properties under a partition plan, see mapPartitionProperties
             return null;
         } else {
             //this is a normal properties that contains one or more entries
             final Properties properties = new Properties();
-            parsePropertyEntries(propertiesNode, properties);
+            parsePropertyEntries(propertiesNode, properties::setProperty);
             return properties;
         }
     }
 
-    private static void parsePropertyEntries(final JsonNode containingNode, final Properties properties) {
+    private static void parsePropertyEntries(final JsonNode containingNode,
+                                             final BiConsumer<String, String> applyMethod) {
         JsonNode propertyNode = containingNode.get(XmlElement.PROPERTY.getLocalName());
         if (propertyNode != null) {
             if (propertyNode.isArray()) {
@@ -468,14 +920,14 @@ public final class JsonJobMapper {
                 final Iterator<JsonNode> elements = propertyNode.elements();
                 while (elements.hasNext()) {
                     final JsonNode next = elements.next();
-                    properties.setProperty(getRequiredTextValue(next, XmlAttribute.NAME,
+                    applyMethod.accept(getRequiredTextValue(next, XmlAttribute.NAME,
                             XmlElement.PROPERTIES, XmlElement.PROPERTY),
                             getRequiredTextValue(next, XmlAttribute.VALUE,
                                     XmlElement.PROPERTIES, XmlElement.PROPERTY));
                 }
             } else {
                 //there is only one entry under this properties
-                properties.setProperty(getRequiredTextValue(propertyNode, XmlAttribute.NAME,
+                applyMethod.accept(getRequiredTextValue(propertyNode, XmlAttribute.NAME,
                         XmlElement.PROPERTIES, XmlElement.PROPERTY),
                         getRequiredTextValue(propertyNode, XmlAttribute.VALUE,
                                 XmlElement.PROPERTIES, XmlElement.PROPERTY));
@@ -490,6 +942,10 @@ public final class JsonJobMapper {
             final String[] parentsAsStrings = Arrays.stream(parents).map(XmlElement::getLocalName).toArray(String[]::new);
             throw RestCommonsMessages.MESSAGES.expectingJsonElement(attr.getLocalName(), parentsAsStrings);
         }
+        //unquoted YAML scalars, such as property value 10, are read as number or boolean nodes
+        if (node1.isNumber() || node1.isBoolean()) {
+            return node1.asText();
+        }
         return node1.textValue();
     }
 
@@ -0,0 +1,461 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.commons.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.jberet.job.model.Chunk;
+import org.jberet.job.model.Flow;
+import org.jberet.job.model.Job;
+import org.jberet.job.model.JobElement;
+import org.jberet.job.model.Listeners;
+import org.jberet.job.model.Partition;
+import org.jberet.job.model.RefArtifact;
+import org.jberet.job.model.Split;
+import org.jberet.job.model.Step;
+import org.jberet.job.model.XmlAttribute;
+import org.jberet.job.model.XmlElement;
+import org.jberet.rest.commons._private.RestCommonsMessages;
+
+/**
+ * Applies a JSON Patch (RFC 6902) or JSON Merge Patch (RFC 7386) to a {@link Job} object,
+ * without the client sending, or the server parsing, the whole job definition again.
+ * <p>
+ * The patch is applied to the JSON representation of the job from
+ * {@link JsonJobMapper#toJson(Job)}, in which steps, flows, splits and decisions are keyed
+ * by their id instead of listed in arrays, so that patches address them by id, and stay
+ * valid when other elements are added or removed. For example, the JSON Patch operation
+ * {@code {"op": "replace", "path": "/job/step/step1/chunk/item-count", "value": 50}}, and
+ * the JSON Merge Patch {@code {"job": {"step": {"step1": {"chunk": {"item-count": 50}}}}}}
+ * both change the item count of step {@code step1}. An element is removed by removing its
+ * key, and added by adding a new key, which is also its id.
+ * <p>
+ * Only the top-level steps, flows, splits and decisions whose JSON representation changed
+ * are converted again; all others are kept as is, in their original order. Added elements
+ * follow the existing ones. Likewise, the job attributes, properties and listeners are only
+ * converted again if the patch changed them. The patched job definition is checked with
+ * {@link JsonJobValidator} before it is converted.
+ * <p>
+ * A job loaded from XML may have inline scripts, which cannot be represented in JSON.
+ * A patch that changes the job listeners, or a step, flow or split, containing scripts
+ * is rejected, instead of dropping the scripts when they are converted again.
+ *
+ * @since 3.0.1.Final
+ */
+public final class JsonJobPatcher {
+    /**
+     * Media type of JSON Patch documents.
+     */
+    public static final String JSON_PATCH = "application/json-patch+json";
+
+    /**
+     * Media type of JSON Merge Patch documents.
+     */
+    public static final String MERGE_PATCH = "application/merge-patch+json";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final String[] ELEMENT_NAMES = {
+            XmlElement.STEP.getLocalName(), XmlElement.FLOW.getLocalName(),
+            XmlElement.SPLIT.getLocalName(), XmlElement.DECISION.getLocalName()
+    };
+
+    private static final String ID = XmlAttribute.ID.getLocalName();
+
+    private JsonJobPatcher() {
+    }
+
+    /**
+     * Applies the patch to the job.
+     *
+     * @param job the job to patch, which is not modified
+     * @param mediaType media type of the patch, {@value #JSON_PATCH} or {@value #MERGE_PATCH}
+     * @param patch the patch document
+     * @return the patched job, or {@code job} itself if the patch does not change it
+     *
+     * @throws IllegalArgumentException if the patch cannot be applied, or the patched job definition is invalid
+     */
+    public static Job patch(final Job job, final String mediaType, final String patch) throws IllegalArgumentException {
+        final JsonNode patchNode;
+        try {
+            patchNode = objectMapper.readTree(patch);
+        } catch (JsonProcessingException e) {
+            throw RestCommonsMessages.MESSAGES.failToReadPatch(e);
+        }
+
+        final ObjectNode original = JsonJobMapper.toJson(job);
+        final ObjectNode keyed = original.deepCopy();
+        toKeyed((ObjectNode) keyed.get(XmlElement.JOB.getLocalName()));
+
+        final String type = mediaType == null ? "" : mediaType.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+        final JsonNode patched;
+        if (type.equals(JSON_PATCH)) {
+            patched = applyJsonPatch(keyed, patchNode);
+        } else if (type.equals(MERGE_PATCH)) {
+            patched = applyMergePatch(keyed, patchNode);
+        } else {
+            throw RestCommonsMessages.MESSAGES.unsupportedPatchMediaType(mediaType, JSON_PATCH, MERGE_PATCH);
+        }
+        final JsonNode patchedJob = patched.get(XmlElement.JOB.getLocalName());
+        if (patchedJob instanceof ObjectNode) {
+            fromKeyed((ObjectNode) patchedJob);
+        }
+        if (patched.equals(original)) {
+            return job;
+        }
+
+        checkPatchable(job, (ObjectNode) original.get(XmlElement.JOB.getLocalName()), patchedJob);
+        final List<String> errors = JsonJobValidator.validate(patched);
+        if (!errors.isEmpty()) {
+            throw RestCommonsMessages.MESSAGES.invalidPatchedJobDefinition(String.join("; ", errors));
+        }
+        final String patchedId = patchedJob.get(ID).textValue();
+        if (!patchedId.equals(job.getId())) {
+            throw RestCommonsMessages.MESSAGES.jobIdChangedByPatch(job.getId(), patchedId);
+        }
+        return rebuild(job, (ObjectNode) original.get(XmlElement.JOB.getLocalName()), (ObjectNode) patchedJob);
+    }
+
+    /**
+     * Builds the patched job, reusing the original steps, flows, splits and decisions
+     * whose JSON representation did not change, and the original job attributes,
+     * properties and listeners if the patch did not change them.
+     */
+    private static Job rebuild(final Job job, final ObjectNode originalJob, final ObjectNode patchedJob) {
+        final ObjectNode shell = patchedJob.deepCopy();
+        final Map<String, JsonNode> originalElements = new HashMap<>();
+        final Map<String, JsonNode> patchedElements = new LinkedHashMap<>();
+        for (final String name : ELEMENT_NAMES) {
+            shell.remove(name);
+            for (final JsonNode e : originalJob.path(name)) {
+                originalElements.put(name + '/' + e.get(ID).textValue(), e);
+            }
+            for (final JsonNode e : patchedJob.path(name)) {
+                patchedElements.put(name + '/' + e.get(ID).textValue(), e);
+            }
+        }
+        final ObjectNode shellRoot = objectMapper.createObjectNode();
+        shellRoot.set(XmlElement.JOB.getLocalName(), shell);
+        final Job patchedShell = JsonJobMapper.toJob(shellRoot);
+
+        final Job result = new Job(job.getId());
+        result.setJobXmlName(job.getJobXmlName());
+        result.setRestartable(changed(originalJob, patchedJob, XmlAttribute.RESTARTABLE.getLocalName())
+                ? patchedShell.getRestartable() : job.getRestartable());
+        result.setProperties(changed(originalJob, patchedJob, XmlElement.PROPERTIES.getLocalName())
+                ? patchedShell.getProperties() : job.getProperties());
+        result.setListeners(changed(originalJob, patchedJob, XmlElement.LISTENERS.getLocalName())
+                ? patchedShell.getListeners() : job.getListeners());
+
+        final List<JobElement> jobElements = new ArrayList<>();
+        for (final JobElement e : job.getJobElements()) {
+            final String name = JsonJobMapper.elementName(e);
+            final String key = name + '/' + e.getId();
+            final JsonNode patchedElement = patchedElements.remove(key);
+            if (patchedElement != null) {
+                jobElements.add(patchedElement.equals(originalElements.get(key)) ? e
+                        : JsonJobMapper.toJobElement(name, patchedElement));
+            }
+        }
+        for (final Map.Entry<String, JsonNode> e : patchedElements.entrySet()) {
+            final String key = e.getKey();
+            jobElements.add(JsonJobMapper.toJobElement(key.substring(0, key.indexOf('/')), e.getValue()));
+        }
+        result.setJobElements(jobElements);
+        return result;
+    }
+
+    /**
+     * Checks that the job listeners, if changed by the patch, and the steps, flows and
+     * splits changed by the patch have no content that {@link JsonJobMapper#toJson(Job)}
+     * cannot represent, and so would be lost when they are converted again from their
+     * patched JSON representation. Removed elements are not checked.
+     *
+     * @throws IllegalArgumentException if a changed element has such content
+     */
+    private static void checkPatchable(final Job job, final JsonNode originalJob, final JsonNode patchedJob)
+            throws IllegalArgumentException {
+        if (patchedJob == null) {
+            return;
+        }
+        if (changed(originalJob, patchedJob, XmlElement.LISTENERS.getLocalName())) {
+            checkListeners(job.getId(), job.getListeners());
+        }
+        final Map<String, JsonNode> originalElements = new HashMap<>();
+        final Map<String, JsonNode> patchedElements = new HashMap<>();
+        for (final String name : ELEMENT_NAMES) {
+            for (final JsonNode e : originalJob.path(name)) {
+                originalElements.put(name + '/' + e.get(ID).textValue(), e);
+            }
+            for (final JsonNode e : patchedJob.path(name)) {
+                patchedElements.put(name + '/' + e.path(ID).textValue(), e);
+            }
+        }
+        for (final JobElement e : job.getJobElements()) {
+            final String key = JsonJobMapper.elementName(e) + '/' + e.getId();
+            final JsonNode patchedElement = patchedElements.get(key);
+            if (patchedElement != null && !patchedElement.equals(originalElements.get(key))) {
+                checkRepresentable(e);
+            }
+        }
+    }
+
+    private static boolean changed(final JsonNode originalNode, final JsonNode patchedNode, final String name) {
+        return !Objects.equals(originalNode.get(name), patchedNode.get(name));
+    }
+
+    /**
+     * Checks that the job element has no content that {@link JsonJobMapper#toJson(Job)}
+     * cannot represent, and so would be lost when the element is converted again from
+     * its patched JSON representation.
+     *
+     * @throws IllegalArgumentException if the job element has such content
+     */
+    private static void checkRepresentable(final JobElement jobElement) throws IllegalArgumentException {
+        if (jobElement instanceof Step) {
+            final Step step = (Step) jobElement;
+            checkListeners(step.getId(), step.getListeners());
+            final List<RefArtifact> artifacts = new ArrayList<>();
+            artifacts.add(step.getBatchlet());
+            final Chunk chunk = step.getChunk();
+            if (chunk != null) {
+                artifacts.addAll(Arrays.asList(chunk.getReader(), chunk.getProcessor(),
+                        chunk.getWriter(), chunk.getCheckpointAlgorithm()));
+            }
+            final Partition partition = step.getPartition();
+            if (partition != null) {
+                artifacts.addAll(Arrays.asList(partition.getMapper(), partition.getCollector(),
+                        partition.getAnalyzer(), partition.getReducer()));
+            }
+            for (final RefArtifact artifact : artifacts) {
+                if (artifact != null && artifact.getScript() != null) {
+                    throw RestCommonsMessages.MESSAGES.unpatchableJobElement(step.getId(), XmlElement.SCRIPT.getLocalName());
+                }
+            }
+        } else if (jobElement instanceof Flow) {
+            for (final JobElement e : ((Flow) jobElement).getJobElements()) {
+                checkRepresentable(e);
+            }
+        } else if (jobElement instanceof Split) {
+            for (final Flow f : ((Split) jobElement).getFlows()) {
+                checkRepresentable(f);
+            }
+        }
+    }
+
+    private static void checkListeners(final String id, final Listeners listeners) throws IllegalArgumentException {
+        if (listeners != null) {
+            for (final RefArtifact listener : listeners.getListeners()) {
+                if (listener.getScript() != null) {
+                    throw RestCommonsMessages.MESSAGES.unpatchableJobElement(id, XmlElement.SCRIPT.getLocalName());
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the arrays of steps, flows, splits and decisions in {@code containerNode}
+     * and its descendants with objects keyed by element id.
+     */
+    private static void toKeyed(final ObjectNode containerNode) {
+        for (final String name : ELEMENT_NAMES) {
+            final JsonNode elements = containerNode.get(name);
+            if (elements instanceof ArrayNode) {
+                final ObjectNode byId = objectMapper.createObjectNode();
+                for (final JsonNode e : elements) {
+                    toKeyed((ObjectNode) e);
+                    byId.set(e.get(ID).textValue(), e);
+                }
+                containerNode.set(name, byId);
+            }
+        }
+    }
+
+    /**
+     * Reverts {@link #toKeyed(ObjectNode)}, setting the id of each element to its key.
+     */
+    private static void fromKeyed(final ObjectNode containerNode) {
+        for (final String name : ELEMENT_NAMES) {
+            final JsonNode elements = containerNode.get(name);
+            if (elements instanceof ObjectNode) {
+                final ArrayNode array = containerNode.arrayNode();
+                final Iterator<Map.Entry<String, JsonNode>> it = elements.fields();
+                while (it.hasNext()) {
+                    final Map.Entry<String, JsonNode> e = it.next();
+                    if (e.getValue() instanceof ObjectNode) {
+                        final ObjectNode element = (ObjectNode) e.getValue();
+                        element.put(ID, e.getKey());
+                        fromKeyed(element);
+                    }
+                    array.add(e.getValue());
+                }
+                containerNode.set(name, array);
+            }
+        }
+    }
+
+    /**
+     * Applies a JSON Patch (RFC 6902) to the target, which may be modified.
+     *
+     * @param target the target document
+     * @param patch the JSON Patch document, an array of operations
+     * @return the patched document
+     */
+    static JsonNode applyJsonPatch(final JsonNode target, final JsonNode patch) {
+        if (!patch.isArray()) {
+            throw RestCommonsMessages.MESSAGES.invalidJsonPatchOperation(patch.toString());
+        }
+        JsonNode root = target;
+        for (final JsonNode operation : patch) {
+            final String op = operation.path("op").textValue();
+            final JsonPointer path = pointer(operation, "path");
+            if (op == null) {
+                throw RestCommonsMessages.MESSAGES.invalidJsonPatchOperation(operation.toString());
+            }
+            switch (op) {
+                case "add":
+                    root = add(root, path, value(operation));
+                    break;
+                case "remove":
+                    root = remove(root, path);
+                    break;
+                case "replace":
+                    root = add(remove(root, path), path, value(operation));
+                    break;
+                case "move": {
+                    final JsonPointer from = pointer(operation, "from");
+                    if (path.toString().startsWith(from.toString() + '/')) {
+                        throw RestCommonsMessages.MESSAGES.invalidJsonPatchOperation(operation.toString());
+                    }
+                    final JsonNode value = get(root, from);
+                    root = add(remove(root, from), path, value);
+                    break;
+                }
+                case "copy":
+                    root = add(root, path, get(root, pointer(operation, "from")).deepCopy());
+                    break;
+                case "test":
+                    if (!get(root, path).equals(value(operation))) {
+                        throw RestCommonsMessages.MESSAGES.jsonPatchTestFailed(path.toString());
+                    }
+                    break;
+                default:
+                    throw RestCommonsMessages.MESSAGES.invalidJsonPatchOperation(operation.toString());
+            }
+        }
+        return root;
+    }
+
+    /**
+     * Applies a JSON Merge Patch (RFC 7386) to the target, which may be modified.
+     *
+     * @param target the target document, may be null
+     * @param patch the JSON Merge Patch document
+     * @return the patched document
+     */
+    static JsonNode applyMergePatch(final JsonNode target, final JsonNode patch) {
+        if (!patch.isObject()) {
+            return patch.deepCopy();
+        }
+        final ObjectNode result = target instanceof ObjectNode ? (ObjectNode) target : objectMapper.createObjectNode();
+        final Iterator<Map.Entry<String, JsonNode>> it = patch.fields();
+        while (it.hasNext()) {
+            final Map.Entry<String, JsonNode> e = it.next();
+            if (e.getValue().isNull()) {
+                result.remove(e.getKey());
+            } else {
+                result.set(e.getKey(), applyMergePatch(result.get(e.getKey()), e.getValue()));
+            }
+        }
+        return result;
+    }
+
+    private static JsonPointer pointer(final JsonNode operation, final String member) {
+        final String value = operation.path(member).textValue();
+        if (value == null) {
+            throw RestCommonsMessages.MESSAGES.invalidJsonPatchOperation(operation.toString());
+        }
+        try {
+            return JsonPointer.compile(value);
+        } catch (IllegalArgumentException e) {
+            throw RestCommonsMessages.MESSAGES.invalidJsonPatchOperation(operation.toString());
+        }
+    }
+
+    private static JsonNode value(final JsonNode operation) {
+        final JsonNode value = operation.get("value");
+        if (value == null) {
+            throw RestCommonsMessages.MESSAGES.invalidJsonPatchOperation(operation.toString());
+        }
+        return value;
+    }
+
+    private static JsonNode get(final JsonNode root, final JsonPointer path) {
+        final JsonNode node = root.at(path);
+        if (node.isMissingNode()) {
+            throw RestCommonsMessages.MESSAGES.jsonPatchPathNotFound(path.toString());
+        }
+        return node;
+    }
+
+    private static JsonNode add(final JsonNode root, final JsonPointer path, final JsonNode value) {
+        if (path.matches()) {
+            return value;
+        }
+        final JsonNode parent = root.at(path.head());
+        final String name = path.last().getMatchingProperty();
+        if (parent instanceof ObjectNode) {
+            ((ObjectNode) parent).set(name, value);
+        } else if (parent instanceof ArrayNode) {
+            final ArrayNode array = (ArrayNode) parent;
+            if ("-".equals(name)) {
+                array.add(value);
+            } else {
+                final int index = path.last().getMatchingIndex();
+                if (index < 0 || index > array.size()) {
+                    throw RestCommonsMessages.MESSAGES.jsonPatchPathNotFound(path.toString());
+                }
+                array.insert(index, value);
+            }
+        } else {
+            throw RestCommonsMessages.MESSAGES.jsonPatchPathNotFound(path.toString());
+        }
+        return root;
+    }
+
+    private static JsonNode remove(final JsonNode root, final JsonPointer path) {
+        get(root, path);
+        if (path.matches()) {
+            return objectMapper.createObjectNode();
+        }
+        final JsonNode parent = root.at(path.head());
+        if (parent instanceof ObjectNode) {
+            ((ObjectNode) parent).remove(path.last().getMatchingProperty());
+        } else {
+            ((ArrayNode) parent).remove(path.last().getMatchingIndex());
+        }
+        return root;
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.commons.util;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jberet.job.model.XmlAttribute;
+import org.jberet.job.model.XmlElement;
+import org.jberet.rest.commons._private.RestCommonsMessages;
+
+/**
+ * Validates the structure of a JSON job definition, as accepted by
+ * {@link JsonJobMapper#toJob(String)}, without building the job or starting anything.
+ * <p>
+ * Unlike {@link JsonJobMapper}, which stops at the first error, the validator walks the
+ * JSON tree once and reports all errors it finds:
+ * <ul>
+ *     <li>missing job, step, flow, split or decision ids, and duplicate ids;
+ *     <li>missing {@code ref} of decisions, batchlets, chunk artifacts, partition artifacts
+ *     and listeners, and missing chunk reader or writer;
+ *     <li>missing {@code on} of transitions, and missing name or value of properties;
+ *     <li>{@code next} transitions to elements not in the same scope, and {@code stop}
+ *     transitions restarting from elements that are not at job level.
+ * </ul>
+ * Batch artifact refs are resolved by the batch runtime when the job runs, so the validator
+ * only checks that they are present. Each error is prefixed with the JSON pointer of the
+ * element it concerns, e.g., {@code /job/step/1/chunk: missing 'writer'}.
+ *
+ * @since 3.0.1.Final
+ */
+public final class JsonJobValidator {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final List<String> errors = new ArrayList<>();
+
+    /**
+     * Ids of all steps, flows, splits and decisions seen so far, to detect duplicates.
+     */
+    private final Set<String> allIds = new HashSet<>();
+
+    /**
+     * Paths and {@code restart} values of {@code stop} transitions, checked once the
+     * job-level ids are known.
+     */
+    private final List<String[]> restartPositions = new ArrayList<>();
+
+    private JsonJobValidator() {
+    }
+
+    /**
+     * Validates the JSON job definition.
+     *
+     * @param json the JSON string representing the batch job definition
+     * @return errors found in {@code json}, or empty list if it is valid
+     */
+    public static List<String> validate(final String json) {
+        final JsonNode rootNode;
+        try {
+            rootNode = objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            final List<String> errors = new ArrayList<>();
+            errors.add(RestCommonsMessages.MESSAGES.invalidJson(e.getOriginalMessage()));
+            return errors;
+        }
+        return validate(rootNode);
+    }
+
+    /**
+     * Validates the JSON job definition already parsed into a tree.
+     *
+     * @param rootNode the root node of the JSON job definition
+     * @return errors found in {@code rootNode}, or empty list if it is valid
+     */
+    public static List<String> validate(final JsonNode rootNode) {
+        final JsonJobValidator validator = new JsonJobValidator();
+        validator.validateJob(rootNode);
+        return validator.errors;
+    }
+
+    private void validateJob(final JsonNode rootNode) {
+        final JsonNode jobNode = rootNode == null ? null : rootNode.get(XmlElement.JOB.getLocalName());
+        if (jobNode == null || !jobNode.isObject()) {
+            errors.add(RestCommonsMessages.MESSAGES.missingJsonValue("", XmlElement.JOB.getLocalName()));
+            return;
+        }
+        final String path = "/" + XmlElement.JOB.getLocalName();
+        requireText(jobNode, XmlAttribute.ID, path);
+        validateProperties(jobNode, path);
+        validateListeners(jobNode, path);
+
+        final Set<String> jobLevelIds = validateScope(jobNode, path);
+        for (final String[] restartPosition : restartPositions) {
+            if (!jobLevelIds.contains(restartPosition[1])) {
+                errors.add(RestCommonsMessages.MESSAGES.unknownRestartPosition(restartPosition[0], restartPosition[1]));
+            }
+        }
+    }
+
+    /**
+     * Validates the steps, flows, splits and decisions directly contained in a job, flow
+     * or split, and the {@code next} transitions between them.
+     *
+     * @param containingNode the job, flow or split node
+     * @param path JSON pointer of {@code containingNode}
+     * @return ids of the elements directly contained in {@code containingNode}
+     */
+    private Set<String> validateScope(final JsonNode containingNode, final String path) {
+        final Set<String> ids = new HashSet<>();
+        final List<String[]> nextTargets = new ArrayList<>();
+
+        forEach(containingNode, XmlElement.STEP.getLocalName(), path, (stepNode, stepPath) -> {
+            addId(stepNode, stepPath, ids);
+            validateStep(stepNode, stepPath);
+            validateTransitions(stepNode, stepPath, nextTargets);
+        });
+        forEach(containingNode, XmlElement.FLOW.getLocalName(), path, (flowNode, flowPath) -> {
+            addId(flowNode, flowPath, ids);
+            validateTransitions(flowNode, flowPath, nextTargets);
+            validateScope(flowNode, flowPath);
+        });
+        forEach(containingNode, XmlElement.SPLIT.getLocalName(), path, (splitNode, splitPath) -> {
+            addId(splitNode, splitPath, ids);
+            addNextAttribute(splitNode, splitPath, nextTargets);
+            validateScope(splitNode, splitPath);
+        });
+        forEach(containingNode, XmlElement.DECISION.getLocalName(), path, (decisionNode, decisionPath) -> {
+            addId(decisionNode, decisionPath, ids);
+            requireText(decisionNode, XmlAttribute.REF, decisionPath);
+            validateProperties(decisionNode, decisionPath);
+            validateTransitions(decisionNode, decisionPath, nextTargets);
+        });
+
+        for (final String[] nextTarget : nextTargets) {
+            if (!ids.contains(nextTarget[1])) {
+                errors.add(RestCommonsMessages.MESSAGES.unknownTransitionTarget(nextTarget[0], nextTarget[1]));
+            }
+        }
+        return ids;
+    }
+
+    private void addId(final JsonNode node, final String path, final Set<String> ids) {
+        final String id = requireText(node, XmlAttribute.ID, path);
+        if (id != null) {
+            if (!allIds.add(id)) {
+                errors.add(RestCommonsMessages.MESSAGES.duplicateId(path, id));
+            }
+            ids.add(id);
+        }
+    }
+
+    private void validateStep(final JsonNode stepNode, final String stepPath) {
+        validateProperties(stepNode, stepPath);
+        validateListeners(stepNode, stepPath);
+        validateArtifact(stepNode, XmlElement.BATCHLET, stepPath);
+
+        final JsonNode chunkNode = stepNode.get(XmlElement.CHUNK.getLocalName());
+        if (chunkNode != null) {
+            final String chunkPath = stepPath + "/" + XmlElement.CHUNK.getLocalName();
+            if (chunkNode.get(XmlElement.READER.getLocalName()) == null) {
+                errors.add(RestCommonsMessages.MESSAGES.missingJsonValue(chunkPath, XmlElement.READER.getLocalName()));
+            }
+            if (chunkNode.get(XmlElement.WRITER.getLocalName()) == null) {
+                errors.add(RestCommonsMessages.MESSAGES.missingJsonValue(chunkPath, XmlElement.WRITER.getLocalName()));
+            }
+            validateArtifact(chunkNode, XmlElement.READER, chunkPath);
+            validateArtifact(chunkNode, XmlElement.PROCESSOR, chunkPath);
+            validateArtifact(chunkNode, XmlElement.WRITER, chunkPath);
+            validateArtifact(chunkNode, XmlElement.CHECKPOINT_ALGORITHM, chunkPath);
+        }
+
+        final JsonNode partitionNode = stepNode.get(XmlElement.PARTITION.getLocalName());
+        if (partitionNode != null) {
+            final String partitionPath = stepPath + "/" + XmlElement.PARTITION.getLocalName();
+            validateArtifact(partitionNode, XmlElement.MAPPER, partitionPath);
+            validateArtifact(partitionNode, XmlElement.COLLECTOR, partitionPath);
+            validateArtifact(partitionNode, XmlElement.ANALYZER, partitionPath);
+            validateArtifact(partitionNode, XmlElement.REDUCER, partitionPath);
+            final JsonNode planNode = partitionNode.get(XmlElement.PLAN.getLocalName());
+            if (planNode != null) {
+                validatePlan(planNode, partitionPath + "/" + XmlElement.PLAN.getLocalName());
+            }
+        }
+    }
+
+    private void validatePlan(final JsonNode planNode, final String planPath) {
+        validateProperties(planNode, planPath);
+        int forms = planNode.has(XmlElement.PROPERTIES.getLocalName()) ? 1 : 0;
+
+        final JsonNode tableNode = planNode.get(JsonJobMapper.PROPERTIES_TABLE);
+        if (tableNode != null) {
+            forms++;
+            final String tablePath = planPath + "/" + JsonJobMapper.PROPERTIES_TABLE;
+            final JsonNode namesNode = tableNode.get(JsonJobMapper.NAMES);
+            final JsonNode valuesNode = tableNode.get(JsonJobMapper.VALUES);
+            if (namesNode == null || !namesNode.isArray()) {
+                errors.add(RestCommonsMessages.MESSAGES.missingJsonValue(tablePath, JsonJobMapper.NAMES));
+            } else {
+                for (int i = 0; i < namesNode.size(); i++) {
+                    if (!namesNode.get(i).isTextual() || namesNode.get(i).textValue().isEmpty()) {
+                        errors.add(RestCommonsMessages.MESSAGES.missingJsonValue(
+                                tablePath + "/" + JsonJobMapper.NAMES + "/" + i, XmlAttribute.NAME.getLocalName()));
+                    }
+                }
+            }
+            if (valuesNode == null || !valuesNode.isArray()) {
+                errors.add(RestCommonsMessages.MESSAGES.missingJsonValue(tablePath, JsonJobMapper.VALUES));
+            } else if (namesNode != null && namesNode.isArray()) {
+                for (int i = 0; i < valuesNode.size(); i++) {
+                    final JsonNode rowNode = valuesNode.get(i);
+                    final int size = rowNode.isArray() ? rowNode.size() : 1;
+                    if (size != namesNode.size()) {
+                        errors.add(RestCommonsMessages.MESSAGES.partitionValuesSize(
+                                tablePath + "/" + JsonJobMapper.VALUES + "/" + i, size, namesNode.size()));
+                    }
+                }
+            }
+        }
+
+        final JsonNode templateNode = planNode.get(JsonJobMapper.PROPERTIES_TEMPLATE);
+        if (templateNode != null) {
+            forms++;
+            final String templatePath = planPath + "/" + JsonJobMapper.PROPERTIES_TEMPLATE;
+            forEach(templateNode, XmlElement.PROPERTY.getLocalName(), templatePath, this::validateProperty);
+            if (!planNode.has(XmlAttribute.PARTITIONS.getLocalName())) {
+                errors.add(RestCommonsMessages.MESSAGES.missingJsonValue(planPath,
+                        XmlAttribute.PARTITIONS.getLocalName()));
+            }
+        }
+        if (forms > 1) {
+            errors.add(RestCommonsMessages.MESSAGES.conflictingPartitionProperties(planPath));
+        }
+    }
+
+    private void validateTransitions(final JsonNode node, final String path, final List<String[]> nextTargets) {
+        addNextAttribute(node, path, nextTargets);
+        forEach(node, XmlElement.NEXT.getLocalName(), path, (nextNode, nextPath) -> {
+            if (nextNode.isObject()) {
+                requireText(nextNode, XmlAttribute.ON, nextPath);
+                final String to = requireText(nextNode, XmlAttribute.TO, nextPath);
+                if (to != null) {
+                    nextTargets.add(new String[]{nextPath, to});
+                }
+            }
+        });
+        forEach(node, XmlElement.END.getLocalName(), path,
+                (endNode, endPath) -> requireText(endNode, XmlAttribute.ON, endPath));
+        forEach(node, XmlElement.FAIL.getLocalName(), path,
+                (failNode, failPath) -> requireText(failNode, XmlAttribute.ON, failPath));
+        forEach(node, XmlElement.STOP.getLocalName(), path, (stopNode, stopPath) -> {
+            requireText(stopNode, XmlAttribute.ON, stopPath);
+            final JsonNode restartNode = stopNode.get(XmlAttribute.RESTART.getLocalName());
+            if (restartNode != null && restartNode.isTextual()) {
+                restartPositions.add(new String[]{stopPath, restartNode.textValue()});
+            }
+        });
+    }
+
+    /**
+     * Adds the {@code next} attribute, which shares its JSON name with {@code next}
+     * transition elements, and is told apart from them by being a string.
+     */
+    private static void addNextAttribute(final JsonNode node, final String path, final List<String[]> nextTargets) {
+        final JsonNode nextNode = node.get(XmlAttribute.NEXT.getLocalName());
+        if (nextNode != null && nextNode.isTextual()) {
+            nextTargets.add(new String[]{path, nextNode.textValue()});
+        }
+    }
+
+    private void validateArtifact(final JsonNode parentNode, final XmlElement element, final String parentPath) {
+        final JsonNode artifactNode = parentNode.get(element.getLocalName());
+        if (artifactNode != null) {
+            final String artifactPath = parentPath + "/" + element.getLocalName();
+            requireText(artifactNode, XmlAttribute.REF, artifactPath);
+            validateProperties(artifactNode, artifactPath);
+        }
+    }
+
+    private void validateListeners(final JsonNode node, final String path) {
+        final JsonNode listenersNode = node.get(XmlElement.LISTENERS.getLocalName());
+        if (listenersNode != null) {
+            forEach(listenersNode, XmlElement.LISTENER.getLocalName(),
+                    path + "/" + XmlElement.LISTENERS.getLocalName(), (listenerNode, listenerPath) -> {
+                        requireText(listenerNode, XmlAttribute.REF, listenerPath);
+                        validateProperties(listenerNode, listenerPath);
+                    });
+        }
+    }
+
+    private void validateProperties(final JsonNode node, final String path) {
+        //a partition plan has an array of properties, and other elements a single one
+        forEach(node, XmlElement.PROPERTIES.getLocalName(), path, (propertiesNode, propertiesPath) ->
+                forEach(propertiesNode, XmlElement.PROPERTY.getLocalName(), propertiesPath, this::validateProperty));
+    }
+
+    private void validateProperty(final JsonNode propertyNode, final String propertyPath) {
+        requireText(propertyNode, XmlAttribute.NAME, propertyPath);
+        if (propertyNode.get(XmlAttribute.VALUE.getLocalName()) == null) {
+            errors.add(RestCommonsMessages.MESSAGES.missingJsonValue(propertyPath,
+                    XmlAttribute.VALUE.getLocalName()));
+        }
+    }
+
+    /**
+     * Gets the non-empty text value of an attribute, and records an error if there is none.
+     *
+     * @return the text value, or null if missing
+     */
+    private String requireText(final JsonNode node, final XmlAttribute attr, final String path) {
+        final JsonNode valueNode = node.get(attr.getLocalName());
+        if (valueNode == null || !valueNode.isTextual() || valueNode.textValue().isEmpty()) {
+            errors.add(RestCommonsMessages.MESSAGES.missingJsonValue(path, attr.getLocalName()));
+            return null;
+        }
+        return valueNode.textValue();
+    }
+
+    /**
+     * Applies {@code action} to the single element or each element of the array under
+     * {@code name} in {@code parentNode}, along with its JSON pointer.
+     */
+    private static void forEach(final JsonNode parentNode, final String name, final String parentPath,
+                                final BiConsumer<JsonNode, String> action) {
+        final JsonNode node = parentNode.get(name);
+        if (node == null) {
+            return;
+        }
+        final String path = parentPath + "/" + name;
+        if (node.isArray()) {
+            for (int i = 0; i < node.size(); i++) {
+                action.accept(node.get(i), path + "/" + i);
+            }
+        } else {
+            action.accept(node, path);
+        }
+    }
+}
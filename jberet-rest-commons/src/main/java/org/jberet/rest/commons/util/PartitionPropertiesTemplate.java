@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.commons.util;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import org.jberet.job.model.Properties;
+
+/**
+ * Partition plan properties list generated from a template, as the
+ * {@code properties-template} of a JSON partition plan. The properties of each
+ * partition are created when they are retrieved, with {@value #PARTITION_PLACEHOLDER}
+ * in each template value replaced by the partition index, so a job definition with
+ * a large number of partitions holds only the template.
+ * <p>
+ * The properties of a partition are created again each time they are retrieved.
+ * Cloning the partition plan, as the batch runtime does before resolving the job
+ * definition of each job execution, copies them into a regular list.
+ *
+ * @since 3.0.1.Final
+ */
+final class PartitionPropertiesTemplate extends AbstractList<Properties> implements RandomAccess, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Placeholder in template values for the partition index.
+     */
+    static final String PARTITION_PLACEHOLDER = "{partition}";
+
+    private final String[] names;
+
+    private final String[] values;
+
+    private final int partitions;
+
+    /**
+     * Creates the template.
+     *
+     * @param names property names
+     * @param values template values, in the same order as {@code names}
+     * @param partitions number of partitions
+     */
+    PartitionPropertiesTemplate(final String[] names, final String[] values, final int partitions) {
+        this.names = names;
+        this.values = values;
+        this.partitions = partitions;
+    }
+
+    /**
+     * Gets the template property names and values.
+     *
+     * @return property names mapped to template values
+     */
+    LinkedHashMap<String, String> getTemplate() {
+        final LinkedHashMap<String, String> template = new LinkedHashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            template.put(names[i], values[i]);
+        }
+        return template;
+    }
+
+    @Override
+    public Properties get(final int index) {
+        Objects.checkIndex(index, partitions);
+        final String partition = String.valueOf(index);
+        final Properties properties = new Properties();
+        properties.setPartition(partition);
+        final LinkedHashMap<String, String> nameValues = properties.getNameValues();
+        for (int i = 0; i < names.length; i++) {
+            nameValues.put(names[i], values[i].replace(PARTITION_PLACEHOLDER, partition));
+        }
+        return properties;
+    }
+
+    @Override
+    public int size() {
+        return partitions;
+    }
+}
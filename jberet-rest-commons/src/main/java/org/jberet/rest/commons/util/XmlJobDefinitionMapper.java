@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.commons.util;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import javax.xml.stream.XMLStreamException;
+import jakarta.batch.operations.BatchRuntimeException;
+
+import org.jberet.job.model.Job;
+import org.jberet.job.model.JobParser;
+import org.jberet.rest.commons._private.RestCommonsMessages;
+
+/**
+ * Maps inline job XML content with {@code org.jberet.job.model.JobParser}, the StAX
+ * parser the batch runtime uses for job XML files. Since the content is not loaded from
+ * a job XML file, job elements cannot inherit from parent elements in other job XML files.
+ * <p>
+ * {@code JobParser} does not disable DTD processing, so content with a document type
+ * declaration is rejected before parsing, which also rules out external entities.
+ *
+ * @since 3.0.1.Final
+ */
+final class XmlJobDefinitionMapper implements JobDefinitionMapper {
+    private static final String DOCTYPE = "<!DOCTYPE";
+
+    private final List<String> mediaTypes;
+
+    XmlJobDefinitionMapper(final String... mediaTypes) {
+        this.mediaTypes = List.of(mediaTypes);
+    }
+
+    @Override
+    public List<String> getMediaTypes() {
+        return mediaTypes;
+    }
+
+    @Override
+    public Job toJob(final String content) throws BatchRuntimeException {
+        if (content.contains(DOCTYPE)) {
+            throw RestCommonsMessages.MESSAGES.doctypeNotAllowed();
+        }
+        try {
+            return JobParser.parseJob(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+                    XmlJobDefinitionMapper.class.getClassLoader(), null);
+        } catch (BatchRuntimeException e) {
+            throw e;
+        } catch (XMLStreamException | RuntimeException e) {
+            throw RestCommonsMessages.MESSAGES.failToReadJobDefinition(e);
+        }
+    }
+}
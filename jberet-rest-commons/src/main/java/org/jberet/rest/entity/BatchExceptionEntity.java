@@ -14,7 +14,10 @@ import java.io.PrintWriter;
 import java.io.Serializable;
 import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 
 import jakarta.batch.operations.BatchRuntimeException;
@@ -51,6 +54,31 @@ public final class BatchExceptionEntity implements Serializable {
         stackTrace = toString(ex);
     }
 
+    /**
+     * Constructs {@code BatchExceptionEntity} with a bounded, or without, stack trace text.
+     *
+     * @param ex the batch exception
+     * @param includeStackTrace whether to include stack trace text; if false, the stack
+     *                          trace of {@code ex} is not accessed at all
+     * @param maxDepth max number of stack frames to include for {@code ex} and each of its causes
+     *                 and suppressed exceptions; 0 or negative means no limit
+     * @param maxLength max length of stack trace text; 0 or negative means no limit
+     *
+     * @since 3.0.1.Final
+     */
+    public BatchExceptionEntity(final BatchRuntimeException ex,
+                                final boolean includeStackTrace, final int maxDepth, final int maxLength) {
+        type = ex.getClass();
+        message = ex.getMessage();
+        if (!includeStackTrace) {
+            stackTrace = null;
+        } else if (maxDepth <= 0 && maxLength <= 0) {
+            stackTrace = toString(ex);
+        } else {
+            stackTrace = toString(ex, maxDepth, maxLength);
+        }
+    }
+
     public Class<? extends BatchRuntimeException> getType() {
         return type;
     }
@@ -72,6 +100,50 @@ public final class BatchExceptionEntity implements Serializable {
         }
     }
 
+    /**
+     * Formats the stack trace like {@code Throwable.printStackTrace()}, including causes
+     * and suppressed exceptions, but with at most {@code maxDepth} frames of each exception,
+     * and truncated to {@code maxLength}. An exception already printed, as in a loop of
+     * causes, is printed as a circular reference, without its frames.
+     */
+    private static String toString(final Throwable origin, final int maxDepth, final int maxLength) {
+        final int depth = maxDepth <= 0 ? Integer.MAX_VALUE : maxDepth;
+        final int length = maxLength <= 0 ? Integer.MAX_VALUE : maxLength;
+        final StringBuilder sb = new StringBuilder();
+        append(sb, origin, "", "", Collections.newSetFromMap(new IdentityHashMap<>()), depth, length);
+        if (sb.length() > length) {
+            sb.setLength(length);
+        }
+        return sb.toString();
+    }
+
+    private static void append(final StringBuilder sb, final Throwable t, final String caption, final String prefix,
+                               final Set<Throwable> printed, final int depth, final int length) {
+        if (sb.length() >= length) {
+            return;
+        }
+        if (!printed.add(t)) {
+            sb.append(prefix).append(caption).append("[CIRCULAR REFERENCE: ").append(t).append(']')
+                    .append(System.lineSeparator());
+            return;
+        }
+        sb.append(prefix).append(caption).append(t).append(System.lineSeparator());
+        final StackTraceElement[] frames = t.getStackTrace();
+        final int n = Math.min(frames.length, depth);
+        for (int j = 0; j < n && sb.length() < length; j++) {
+            sb.append(prefix).append("\tat ").append(frames[j]).append(System.lineSeparator());
+        }
+        if (n < frames.length) {
+            sb.append(prefix).append("\t... ").append(frames.length - n).append(" more").append(System.lineSeparator());
+        }
+        for (final Throwable suppressed : t.getSuppressed()) {
+            append(sb, suppressed, "Suppressed: ", prefix + "\t", printed, depth, length);
+        }
+        if (t.getCause() != null) {
+            append(sb, t.getCause(), "Caused by: ", prefix, printed, depth, length);
+        }
+    }
+
     private static Throwable getRootCause(Throwable origin) {
         final List<Throwable> list = getThrowableList(origin);
         return list.isEmpty() ? null : list.get(list.size() - 1);
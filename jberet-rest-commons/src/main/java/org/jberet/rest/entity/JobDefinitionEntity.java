@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.entity;
+
+import java.io.Serializable;
+import java.util.Date;
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlType;
+
+/**
+ * Represents a job definition in the job definition registry, which includes the
+ * name it is registered under, the id of the job it defines, its version, which
+ * starts at 1 and is incremented each time the job definition is replaced, and the
+ * times it was first registered and last replaced.
+ *
+ * @since 3.0.1.Final
+ */
+@XmlRootElement
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(propOrder = {"name", "jobName", "version", "createTime", "lastUpdatedTime"})
+public final class JobDefinitionEntity implements Serializable {
+    private static final long serialVersionUID = -3390215386217462571L;
+
+    @XmlElement
+    private String name;
+
+    @XmlElement
+    private String jobName;
+
+    @XmlElement
+    private int version;
+
+    @XmlElement
+    private Date createTime;
+
+    @XmlElement
+    private Date lastUpdatedTime;
+
+    public JobDefinitionEntity() {
+    }
+
+    public JobDefinitionEntity(final String name, final String jobName, final int version,
+                               final Date createTime, final Date lastUpdatedTime) {
+        this.name = name;
+        this.jobName = jobName;
+        this.version = version;
+        this.createTime = createTime;
+        this.lastUpdatedTime = lastUpdatedTime;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the id of the job defined by this job definition, which is the job name
+     * of the job executions started from it.
+     *
+     * @return the job name
+     */
+    public String getJobName() {
+        return jobName;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public Date getCreateTime() {
+        return createTime;
+    }
+
+    public Date getLastUpdatedTime() {
+        return lastUpdatedTime;
+    }
+}
@@ -56,6 +56,14 @@ public final class JobInstanceEntity implements JobInstance, Serializable {
         }
     }
 
+    public JobInstanceEntity(final JobInstance jobInstance, final int numberOfJobExecutions,
+                             final long latestJobExecutionId) {
+        this.instanceId = jobInstance.getInstanceId();
+        this.jobName = jobInstance.getJobName();
+        this.numberOfJobExecutions = numberOfJobExecutions;
+        this.latestJobExecutionId = latestJobExecutionId;
+    }
+
     public long getInstanceId() {
         return instanceId;
     }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.entity;
+
+import java.io.Serializable;
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlType;
+
+/**
+ * Represents the result of one item of a bulk job schedule operation, which includes
+ * the index of the item in the request, job schedule id, job schedule status after
+ * the operation, whether the operation succeeded, and error message if it failed.
+ *
+ * @since 3.0.1.Final
+ */
+@XmlRootElement
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(propOrder = {"index", "scheduleId", "status", "success", "error"})
+public final class JobScheduleResultEntity implements Serializable {
+    private static final long serialVersionUID = 5937154402387612308L;
+
+    @XmlElement
+    private int index;
+
+    @XmlElement
+    private String scheduleId;
+
+    @XmlElement
+    private String status;
+
+    @XmlElement
+    private boolean success;
+
+    @XmlElement
+    private String error;
+
+    public JobScheduleResultEntity() {
+    }
+
+    public JobScheduleResultEntity(final int index, final String scheduleId, final String status,
+                                   final boolean success, final String error) {
+        this.index = index;
+        this.scheduleId = scheduleId;
+        this.status = status;
+        this.success = success;
+        this.error = error;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getScheduleId() {
+        return scheduleId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
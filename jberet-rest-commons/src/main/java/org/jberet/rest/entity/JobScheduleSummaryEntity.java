@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.entity;
+
+import java.io.Serializable;
+import java.util.Date;
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlType;
+
+/**
+ * Represents a summary of a job schedule, which includes job schedule id, job name
+ * or job execution id to restart, status, create time, next run time, whether it
+ * is repeating, number of job executions, and latest job execution id.
+ * The full job schedule config is not included.
+ *
+ * @since 3.0.1.Final
+ */
+@XmlRootElement
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(propOrder = {"id", "jobName", "jobExecutionId", "status", "createTime", "nextRunTime",
+        "repeating", "numberOfJobExecutions", "latestJobExecutionId"})
+public final class JobScheduleSummaryEntity implements Serializable {
+    private static final long serialVersionUID = -3406225312377498536L;
+
+    @XmlElement
+    private String id;
+
+    @XmlElement
+    private String jobName;
+
+    @XmlElement
+    private long jobExecutionId;
+
+    @XmlElement
+    private String status;
+
+    @XmlElement
+    private Date createTime;
+
+    @XmlElement
+    private Date nextRunTime;
+
+    @XmlElement
+    private boolean repeating;
+
+    @XmlElement
+    private int numberOfJobExecutions;
+
+    @XmlElement
+    private long latestJobExecutionId;
+
+    public JobScheduleSummaryEntity() {
+    }
+
+    public JobScheduleSummaryEntity(final String id, final String jobName, final long jobExecutionId,
+                                    final String status, final Date createTime, final Date nextRunTime,
+                                    final boolean repeating, final int numberOfJobExecutions,
+                                    final long latestJobExecutionId) {
+        this.id = id;
+        this.jobName = jobName;
+        this.jobExecutionId = jobExecutionId;
+        this.status = status;
+        this.createTime = createTime;
+        this.nextRunTime = nextRunTime;
+        this.repeating = repeating;
+        this.numberOfJobExecutions = numberOfJobExecutions;
+        this.latestJobExecutionId = latestJobExecutionId;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public long getJobExecutionId() {
+        return jobExecutionId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public Date getCreateTime() {
+        return createTime;
+    }
+
+    /**
+     * Gets the time of the next run of the job schedule.
+     *
+     * @return the time of the next run, or null if not known or not scheduled to run again
+     */
+    public Date getNextRunTime() {
+        return nextRunTime;
+    }
+
+    public boolean isRepeating() {
+        return repeating;
+    }
+
+    public int getNumberOfJobExecutions() {
+        return numberOfJobExecutions;
+    }
+
+    public long getLatestJobExecutionId() {
+        return latestJobExecutionId;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.entity;
+
+import java.io.Serializable;
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlType;
+
+/**
+ * Represents the result of validating a job definition, which includes the id of
+ * the job if present, whether the job definition is valid, and all errors found.
+ *
+ * @since 3.0.1.Final
+ */
+@XmlRootElement
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(propOrder = {"jobName", "valid", "errors"})
+public final class JobValidationEntity implements Serializable {
+    private static final long serialVersionUID = 4728203186517937012L;
+
+    @XmlElement
+    private String jobName;
+
+    @XmlElement
+    private boolean valid;
+
+    @XmlElement
+    private String[] errors;
+
+    public JobValidationEntity() {
+    }
+
+    public JobValidationEntity(final String jobName, final String[] errors) {
+        this.jobName = jobName;
+        this.valid = errors.length == 0;
+        this.errors = errors;
+    }
+
+    /**
+     * Gets the id of the job defined by the validated job definition.
+     *
+     * @return the job name, or null if the job definition has no job id
+     */
+    public String getJobName() {
+        return jobName;
+    }
+
+    public boolean isValid() {
+        return valid;
+    }
+
+    public String[] getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.entity;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.Properties;
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlType;
+
+/**
+ * Represents a job start request in the job start queue, which includes its id,
+ * job name, job parameters, priority, status, the time it was queued, the time it
+ * was dispatched, and the id of the started job execution, or error message if
+ * the job failed to start.
+ * <p>
+ * The status is one of {@code QUEUED}, {@code STARTED}, {@code FAILED} or {@code CANCELLED}.
+ *
+ * @since 3.0.1.Final
+ */
+@XmlRootElement
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(propOrder = {"id", "jobName", "jobParameters", "priority", "status", "createTime", "startTime",
+        "jobExecutionId", "error"})
+public final class QueuedJobEntity implements Serializable {
+    private static final long serialVersionUID = 2719461587283145690L;
+
+    @XmlElement
+    private long id;
+
+    @XmlElement
+    private String jobName;
+
+    @XmlElement
+    private Properties jobParameters;
+
+    @XmlElement
+    private String priority;
+
+    @XmlElement
+    private String status;
+
+    @XmlElement
+    private Date createTime;
+
+    @XmlElement
+    private Date startTime;
+
+    @XmlElement
+    private long jobExecutionId;
+
+    @XmlElement
+    private String error;
+
+    public QueuedJobEntity() {
+    }
+
+    public QueuedJobEntity(final long id, final String jobName, final Properties jobParameters,
+                           final String priority, final String status, final Date createTime,
+                           final Date startTime, final long jobExecutionId, final String error) {
+        this.id = id;
+        this.jobName = jobName;
+        this.jobParameters = jobParameters;
+        this.priority = priority;
+        this.status = status;
+        this.createTime = createTime;
+        this.startTime = startTime;
+        this.jobExecutionId = jobExecutionId;
+        this.error = error;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public Properties getJobParameters() {
+        return jobParameters;
+    }
+
+    public String getPriority() {
+        return priority;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public Date getCreateTime() {
+        return createTime;
+    }
+
+    /**
+     * Gets the time the job start request was dispatched to the job operator.
+     *
+     * @return the dispatch time, or null if not dispatched yet
+     */
+    public Date getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Gets the id of the job execution started for this request.
+     *
+     * @return the job execution id, or 0 if not started yet, or failed to start
+     */
+    public long getJobExecutionId() {
+        return jobExecutionId;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.service;
+
+import java.util.Comparator;
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jberet.job.model.Job;
+import org.jberet.rest.commons.util.JsonJobMapper;
+import org.jberet.rest.entity.JobDefinitionEntity;
+
+/**
+ * In-memory registry of JSON job definitions, each of which is parsed once when
+ * registered, so that it can be started repeatedly without sending and parsing the
+ * job definition with each request. The parsed {@code org.jberet.job.model.Job} is
+ * shared by all job executions started from it, since the batch runtime works on a
+ * copy of the job for each job execution.
+ * <p>
+ * The registry is not persisted, and is empty after the server restarts. It is not
+ * shared with other servers using the same job repository, so clients with several
+ * REST URLs must send all requests on a registered job definition to the same server,
+ * as {@code org.jberet.rest.client.BatchClient} does.
+ *
+ * @since 3.0.1.Final
+ */
+public final class JobDefinitionRegistry {
+    private static final JobDefinitionRegistry instance = new JobDefinitionRegistry();
+
+    private final ConcurrentMap<String, Definition> definitions = new ConcurrentHashMap<>();
+
+    private JobDefinitionRegistry() {
+    }
+
+    public static JobDefinitionRegistry getInstance() {
+        return instance;
+    }
+
+    /**
+     * Registers a JSON job definition under the specified name, replacing any job
+     * definition already registered under the name.
+     *
+     * @param name the name to register the job definition under
+     * @param content the JSON job definition
+     * @return the registered job definition; its version is 1 if no job definition
+     * was registered under the name before
+     * @throws jakarta.batch.operations.BatchRuntimeException if the job definition cannot be parsed
+     */
+    public JobDefinitionEntity put(final String name, final String content) {
+        final Job job = JsonJobMapper.toJob(content);
+        final Date now = new Date();
+        return definitions.compute(name, (k, previous) -> previous == null
+                ? new Definition(name, content, job, 1, now, now)
+                : new Definition(name, content, job, previous.version + 1, previous.createTime, now))
+                .toEntity();
+    }
+
+    /**
+     * Gets the registered job definition.
+     *
+     * @param name the name of the job definition
+     * @return the registered job definition, or null if not found
+     */
+    public JobDefinitionEntity get(final String name) {
+        final Definition definition = definitions.get(name);
+        return definition == null ? null : definition.toEntity();
+    }
+
+    /**
+     * Gets all registered job definitions, ordered by name.
+     *
+     * @return registered job definitions
+     */
+    public JobDefinitionEntity[] getAll() {
+        return definitions.values().stream()
+                .map(Definition::toEntity)
+                .sorted(Comparator.comparing(JobDefinitionEntity::getName))
+                .toArray(JobDefinitionEntity[]::new);
+    }
+
+    /**
+     * Gets the JSON content of the registered job definition.
+     *
+     * @param name the name of the job definition
+     * @return the JSON job definition as registered, or null if not found
+     */
+    public String getContent(final String name) {
+        final Definition definition = definitions.get(name);
+        return definition == null ? null : definition.content;
+    }
+
+    /**
+     * Gets the parsed job of the registered job definition.
+     *
+     * @param name the name of the job definition
+     * @return the parsed job, or null if not found
+     */
+    public Job getJob(final String name) {
+        final Definition definition = definitions.get(name);
+        return definition == null ? null : definition.job;
+    }
+
+    /**
+     * Removes the registered job definition.
+     *
+     * @param name the name of the job definition
+     * @return true if the job definition was removed; false if not found
+     */
+    public boolean remove(final String name) {
+        return definitions.remove(name) != null;
+    }
+
+    private static final class Definition {
+        private final String name;
+        private final String content;
+        private final Job job;
+        private final int version;
+        private final Date createTime;
+        private final Date lastUpdatedTime;
+
+        private Definition(final String name, final String content, final Job job, final int version,
+                           final Date createTime, final Date lastUpdatedTime) {
+            this.name = name;
+            this.content = content;
+            this.job = job;
+            this.version = version;
+            this.createTime = createTime;
+            this.lastUpdatedTime = lastUpdatedTime;
+        }
+
+        private JobDefinitionEntity toEntity() {
+            return new JobDefinitionEntity(name, job.getId(), version, createTime, lastUpdatedTime);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import jakarta.batch.runtime.JobExecution;
+
+/**
+ * Cursor-based paging of job executions. Job repositories do not return job executions
+ * in a guaranteed order (for example, all job executions from a JDBC job repository,
+ * or from an in-memory job repository), so pages are selected by job execution id.
+ *
+ * @since 3.0.1.Final
+ */
+final class JobExecutionPaging {
+    private JobExecutionPaging() {
+    }
+
+    /**
+     * Selects the page of job executions preceding the cursor.
+     *
+     * @param jobExecutions job executions in any order
+     * @param afterExecutionId the cursor: only job executions with a smaller id are selected
+     * @param count maximum number of job executions to select; 0 or negative for all
+     * @return the selected job executions, from the latest to the earliest
+     */
+    static List<JobExecution> before(final List<JobExecution> jobExecutions, final long afterExecutionId,
+                                     final int count) {
+        final List<JobExecution> page = new ArrayList<>();
+        for (final JobExecution e : jobExecutions) {
+            if (e.getExecutionId() < afterExecutionId) {
+                page.add(e);
+            }
+        }
+        page.sort(Comparator.comparingLong(JobExecution::getExecutionId).reversed());
+        return count <= 0 || count >= page.size() ? page : page.subList(0, count);
+    }
+}
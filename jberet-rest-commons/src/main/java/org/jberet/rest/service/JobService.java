@@ -10,9 +10,21 @@
 
 package org.jberet.rest.service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
 import jakarta.batch.operations.JobExecutionAlreadyCompleteException;
 import jakarta.batch.operations.JobExecutionIsRunningException;
 import jakarta.batch.operations.JobExecutionNotMostRecentException;
@@ -25,19 +37,32 @@ import jakarta.batch.operations.NoSuchJobException;
 import jakarta.batch.operations.NoSuchJobExecutionException;
 import jakarta.batch.operations.NoSuchJobInstanceException;
 import jakarta.batch.runtime.BatchRuntime;
+import jakarta.batch.runtime.BatchStatus;
 import jakarta.batch.runtime.JobExecution;
 import jakarta.batch.runtime.JobInstance;
 import jakarta.batch.runtime.StepExecution;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jberet.creation.ArchiveXmlLoader;
 import org.jberet.job.model.Job;
+import org.jberet.job.model.XmlAttribute;
+import org.jberet.job.model.XmlElement;
 import org.jberet.operations.AbstractJobOperator;
 import org.jberet.operations.DelegatingJobOperator;
+import org.jberet.rest.commons._private.RestCommonsMessages;
 import org.jberet.rest.commons.util.JsonJobMapper;
+import org.jberet.rest.commons.util.JsonJobPatcher;
+import org.jberet.rest.commons.util.JsonJobValidator;
 import org.jberet.rest.entity.JobEntity;
 import org.jberet.rest.entity.JobExecutionEntity;
 import org.jberet.rest.entity.JobInstanceEntity;
+import org.jberet.rest.entity.JobValidationEntity;
 import org.jberet.rest.entity.StepExecutionEntity;
+import org.jberet.runtime.JobExecutionImpl;
 import org.jberet.runtime.JobInstanceImpl;
+import org.jberet.spi.BatchEnvironment;
 
 /**
  * Facade class to {@code JobOperator} interface.
@@ -45,8 +70,56 @@ import org.jberet.runtime.JobInstanceImpl;
  * @since 1.3.0
  */
 public final class JobService {
+    /**
+     * System property for the minimum number of job instances in a listing, for which
+     * the job execution summaries (number of job executions and latest job execution id)
+     * are computed from a single bulk query of all job executions, instead of querying
+     * job executions for each job instance. The job repository has no query for the job
+     * executions of a set of job instances, so the bulk query reads all job executions,
+     * and is only faster for job repositories where that is cheap. 0 or negative value,
+     * the default, disables the bulk query.
+     */
+    public static final String BULK_SUMMARY_THRESHOLD_PROPERTY = "org.jberet.rest.jobInstances.bulkSummaryThreshold";
+
+    /**
+     * System property for the maximum number of threads to query job executions
+     * for job instances in parallel, when the bulk query is not used. The queries run on
+     * the default managed executor service of the application server, looked up as
+     * {@value #MANAGED_EXECUTOR_SERVICE}, and sequentially if it is not available.
+     * 0 or 1, the default, disables parallel queries.
+     */
+    public static final String SUMMARY_PARALLELISM_PROPERTY = "org.jberet.rest.jobInstances.parallelism";
+
+    private static final int bulkSummaryThreshold = Integer.getInteger(BULK_SUMMARY_THRESHOLD_PROPERTY, 0);
+
+    private static final int summaryParallelism = Integer.getInteger(SUMMARY_PARALLELISM_PROPERTY, 0);
+
+    private static final String MANAGED_EXECUTOR_SERVICE = "java:comp/DefaultManagedExecutorService";
+
+    /**
+     * System property to enable coalescing of concurrent identical read operations,
+     * which is disabled by default. Callers joining a read in flight get its result
+     * without their own call to the job operator, and so without its permission checks,
+     * so it should only be enabled when all callers may read all job executions.
+     *
+     * @since 3.0.1.Final
+     */
+    public static final String COALESCE_READS_PROPERTY = "org.jberet.rest.coalesceReads";
+
     private static final JobService instance = new JobService();
 
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Concurrent identical calls to read operations, such as {@link #getStepExecutions(long)},
+     * share one call to the job repository and its result. The results returned to waiting
+     * callers are copies of the arrays, and of any job execution entity, whose href is set
+     * per request. Reads in flight are forgotten after each write operation, such as
+     * {@link #stop(long)}, so that a read following a write does not return a result
+     * retrieved before the write.
+     */
+    private final SingleFlight singleFlight = Boolean.getBoolean(COALESCE_READS_PROPERTY) ? new SingleFlight() : null;
+
     private final JobOperator jobOperator;
 
     private JobService() {
@@ -60,10 +133,32 @@ public final class JobService {
     public JobExecutionEntity start(final String jobXmlName, final Properties jobParameters)
             throws JobStartException, JobSecurityException, NoSuchJobExecutionException {
         long jobExecutionId = jobOperator.start(jobXmlName, jobParameters);
+        writeCompleted();
         return new JobExecutionEntity(jobOperator.getJobExecution(jobExecutionId),
                 jobOperator.getJobInstance(jobExecutionId).getInstanceId());
     }
 
+    /**
+     * Checks if the job XML of the specified name can be resolved, and so started with
+     * {@link #start(String, Properties)}, without loading the job XML.
+     *
+     * @param jobXmlName the job XML name
+     * @return true if the job XML can be resolved; false otherwise
+     *
+     * @since 3.0.1.Final
+     */
+    public boolean isJobXmlResolvable(final String jobXmlName) {
+        final BatchEnvironment batchEnvironment = unwrapJobOperator().getBatchEnvironment();
+        //resolved the same way as by the job operator when starting the job
+        final String resourceName = jobXmlName.endsWith(".xml") ? jobXmlName : jobXmlName + ".xml";
+        try (InputStream jobXml = batchEnvironment.getJobXmlResolver()
+                .resolveJobXml(resourceName, batchEnvironment.getClassLoader())) {
+            return jobXml != null;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
     /**
      * Starts the job with the JSON job definition content.
      *
@@ -78,43 +173,85 @@ public final class JobService {
      */
     public JobExecutionEntity submit(final String jobContent, final Properties jobParameters)
             throws JobStartException, JobSecurityException, NoSuchJobExecutionException {
-        final AbstractJobOperator abstractJobOperator = unwrapJobOperator();
-        final Job job = JsonJobMapper.toJob(jobContent);
-        long jobExecutionId = abstractJobOperator.start(job, jobParameters);
+        return start(JsonJobMapper.toJob(jobContent), jobParameters);
+    }
+
+    /**
+     * Validates the structure of the JSON job definition content, without starting it.
+     *
+     * @param jobContent the content of the job definition in JSON format
+     * @return the validation result, with all errors found
+     *
+     * @see JsonJobValidator
+     * @since 3.0.1.Final
+     */
+    public JobValidationEntity validate(final String jobContent) {
+        final JsonNode rootNode;
+        try {
+            rootNode = objectMapper.readTree(jobContent);
+        } catch (JsonProcessingException e) {
+            return new JobValidationEntity(null,
+                    new String[]{RestCommonsMessages.MESSAGES.invalidJson(e.getOriginalMessage())});
+        }
+        final String jobName = rootNode == null ? null
+                : rootNode.path(XmlElement.JOB.getLocalName()).path(XmlAttribute.ID.getLocalName()).textValue();
+        return new JobValidationEntity(jobName, JsonJobValidator.validate(rootNode).toArray(new String[0]));
+    }
+
+    /**
+     * Starts the job with the parsed job definition, such as one from {@link JobDefinitionRegistry}.
+     *
+     * @param job the job definition
+     * @param jobParameters job parameters
+     * @return the resultant job execution entity
+     * @throws JobStartException
+     * @throws JobSecurityException
+     * @throws NoSuchJobExecutionException
+     *
+     * @since 3.0.1.Final
+     */
+    public JobExecutionEntity start(final Job job, final Properties jobParameters)
+            throws JobStartException, JobSecurityException, NoSuchJobExecutionException {
+        final long jobExecutionId = unwrapJobOperator().start(job, jobParameters);
+        writeCompleted();
         return new JobExecutionEntity(jobOperator.getJobExecution(jobExecutionId),
                 jobOperator.getJobInstance(jobExecutionId).getInstanceId());
     }
 
     public JobEntity[] getJobs() throws JobSecurityException {
-        final Set<String> jobNames = jobOperator.getJobNames();
-        final JobEntity[] result = new JobEntity[jobNames.size()];
-        int i = 0;
-        for (final String jobName : jobNames) {
-            final int jobInstanceCount = jobOperator.getJobInstanceCount(jobName);
-            final List<Long> runningExecutions = jobOperator.getRunningExecutions(jobName);
-            final JobEntity je = new JobEntity(jobName, jobInstanceCount, runningExecutions.size());
-            result[i++] = je;
-        }
-
-        return result;
+        return coalesce("getJobs", new Object[]{},
+                this::loadJobs, JobService::copyArray);
     }
 
     public JobInstanceEntity[] getJobInstances(final String jobName, final int start, final int count)
             throws NoSuchJobException, JobSecurityException {
-        final List<JobInstance> jobInstances = jobOperator.getJobInstances(jobName, start, count);
-        final int len = jobInstances.size();
+        return coalesce("getJobInstances", new Object[]{jobName, start, count},
+                () -> loadJobInstances(jobName, start, count), JobService::copyArray);
+    }
 
-        final JobInstanceEntity[] jobInstanceData = new JobInstanceEntity[len];
-        for (int i = 0; i < len; i++) {
-            final JobInstance e = jobInstances.get(i);
-            jobInstanceData[i] = new JobInstanceEntity(e, jobOperator.getJobExecutions(e));
-        }
-        return jobInstanceData;
+    /**
+     * Gets job instances of a job name that are older than the specified job instance,
+     * in reverse chronological order. This method supports keyset (cursor-based) paging,
+     * where {@code afterInstanceId} is the id of the last job instance in the previous page.
+     *
+     * @param jobName the job name, or "*" for all job names
+     * @param afterInstanceId only job instances with an id smaller than this value are included
+     * @param count the maximum number of job instances to return
+     * @return job instances older than {@code afterInstanceId}
+     * @throws NoSuchJobException
+     * @throws JobSecurityException
+     *
+     * @since 3.0.1.Final
+     */
+    public JobInstanceEntity[] getJobInstancesAfter(final String jobName, final long afterInstanceId, final int count)
+            throws NoSuchJobException, JobSecurityException {
+        return coalesce("getJobInstancesAfter", new Object[]{jobName, afterInstanceId, count},
+                () -> loadJobInstancesAfter(jobName, afterInstanceId, count), JobService::copyArray);
     }
 
     public JobInstanceEntity getJobInstance(final long executionId) throws NoSuchJobExecutionException, JobSecurityException {
-        final JobInstance jobInstance = jobOperator.getJobInstance(executionId);
-        return new JobInstanceEntity(jobInstance, jobOperator.getJobExecutions(jobInstance));
+        return coalesce("getJobInstance", new Object[]{executionId},
+                () -> loadJobInstance(executionId), UnaryOperator.identity());
     }
 
     public int getJobInstanceCount(final String jobName) throws NoSuchJobException, JobSecurityException {
@@ -122,48 +259,78 @@ public final class JobService {
     }
 
     public JobExecutionEntity getJobExecution(final long jobExecutionId) throws NoSuchJobExecutionException, JobSecurityException {
-        final JobExecution jobExecution = jobOperator.getJobExecution(jobExecutionId);
-        return new JobExecutionEntity(jobExecution, jobOperator.getJobInstance(jobExecutionId).getInstanceId());
+        return coalesce("getJobExecution", new Object[]{jobExecutionId},
+                () -> loadJobExecution(jobExecutionId), JobService::copy);
+    }
+
+    /**
+     * Checks if the job execution has finished, that is, its batch status is
+     * {@code COMPLETED}, {@code FAILED}, {@code STOPPED} or {@code ABANDONED}.
+     * A job execution that no longer exists in the job repository is also
+     * considered finished.
+     *
+     * @param jobExecutionId the job execution id
+     * @return true if the job execution has finished; false otherwise
+     * @throws JobSecurityException
+     *
+     * @since 3.0.1.Final
+     */
+    public boolean isFinished(final long jobExecutionId) throws JobSecurityException {
+        final BatchStatus batchStatus;
+        try {
+            batchStatus = jobOperator.getJobExecution(jobExecutionId).getBatchStatus();
+        } catch (NoSuchJobExecutionException e) {
+            return true;
+        }
+        return batchStatus == BatchStatus.COMPLETED || batchStatus == BatchStatus.FAILED
+                || batchStatus == BatchStatus.STOPPED || batchStatus == BatchStatus.ABANDONED;
     }
 
     public JobExecutionEntity[] getJobExecutions(int count, final long jobInstanceId, final long jobExecutionId1)
             throws NoSuchJobInstanceException, JobSecurityException {
-        //pass null JobInstance to get ALL job executions
-        JobInstance jobInstance = null;
-        if (jobExecutionId1 > 0) {
-            jobInstance = jobOperator.getJobInstance(jobExecutionId1);
-        }
+        return coalesce("getJobExecutions", new Object[]{count, jobInstanceId, jobExecutionId1},
+                () -> loadJobExecutions(count, jobInstanceId, jobExecutionId1), JobService::copy);
+    }
 
-        final List<JobExecution> jobExecutions = jobOperator.getJobExecutions(jobInstance);
-        final int countAll = jobExecutions.size();
-        if (count <= 0) {
-            count = countAll;
-        } else if (count > countAll) {
-            count = countAll;
-        }
-        final JobExecutionEntity[] jobExecutionEntities = new JobExecutionEntity[count];
-        for (int i = countAll - 1, j = 0; j < count && i >= 0; i--, j++) {
-            final JobExecution e = jobExecutions.get(i);
-            jobExecutionEntities[j] = new JobExecutionEntity(e,
-                    jobOperator.getJobInstance(e.getExecutionId()).getInstanceId());
-        }
-        return jobExecutionEntities;
+    /**
+     * Gets job executions that are older than the specified job execution, in reverse
+     * chronological order. This method supports keyset (cursor-based) paging, where
+     * {@code afterExecutionId} is the id of the last job execution in the previous page.
+     *
+     * @param count the maximum number of job executions to return
+     * @param jobExecutionId1 id of any job execution belonging to the target job instance,
+     *                        or 0 to include job executions of all job instances
+     * @param afterExecutionId only job executions with an id smaller than this value are included
+     * @return job executions older than {@code afterExecutionId}
+     * @throws NoSuchJobInstanceException
+     * @throws JobSecurityException
+     *
+     * @since 3.0.1.Final
+     */
+    public JobExecutionEntity[] getJobExecutionsAfter(final int count, final long jobExecutionId1,
+                                                      final long afterExecutionId)
+            throws NoSuchJobInstanceException, JobSecurityException {
+        return coalesce("getJobExecutionsAfter", new Object[]{count, jobExecutionId1, afterExecutionId},
+                () -> loadJobExecutionsAfter(count, jobExecutionId1, afterExecutionId), JobService::copy);
     }
 
     public void abandon(final long jobExecutionId)
             throws NoSuchJobExecutionException, JobExecutionIsRunningException, JobSecurityException {
         jobOperator.abandon(jobExecutionId);
+        writeCompleted();
     }
 
     public void stop(final long jobExecutionId)
             throws NoSuchJobExecutionException, JobExecutionNotRunningException, JobSecurityException {
         jobOperator.stop(jobExecutionId);
+        writeCompleted();
     }
 
     public JobExecutionEntity restart(final long jobExecutionId, final Properties restartParameters)
             throws JobExecutionAlreadyCompleteException, NoSuchJobExecutionException, JobExecutionNotMostRecentException,
             JobRestartException, JobSecurityException {
         final long restartExecutionId = jobOperator.restart(jobExecutionId, restartParameters);
+        writeCompleted();
         return new JobExecutionEntity(jobOperator.getJobExecution(restartExecutionId),
                 jobOperator.getJobInstance(restartExecutionId).getInstanceId());
     }
@@ -195,11 +362,195 @@ public final class JobService {
         }
 
         final long restartExecutionId = jobOperator.restart(jobExecutionId, restartParameters);
+        writeCompleted();
+        return new JobExecutionEntity(jobOperator.getJobExecution(restartExecutionId),
+                jobOperator.getJobInstance(restartExecutionId).getInstanceId());
+    }
+
+    /**
+     * Gets the current job definition of the job instance of a job execution, which is
+     * used when the job execution is restarted.
+     *
+     * @param jobExecutionId job execution id
+     * @return JSON job definition content
+     * @throws NoSuchJobExecutionException
+     * @throws JobSecurityException
+     *
+     * @see JsonJobMapper#toJson(Job)
+     * @since 3.0.1.Final
+     */
+    public String getJobDefinition(final long jobExecutionId) throws NoSuchJobExecutionException, JobSecurityException {
+        final AbstractJobOperator abstractJobOperator = unwrapJobOperator();
+        return JsonJobMapper.toJson(getUnsubstitutedJob(abstractJobOperator, jobExecutionId)).toString();
+    }
+
+    /**
+     * Restart a job execution after applying a patch to the current job definition of its
+     * job instance. Only the steps, flows, splits and decisions changed by the patch are
+     * converted again. If the restart fails, the job definition is not changed.
+     *
+     * @param jobExecutionId job execution id to restart
+     * @param mediaType media type of the patch, {@value JsonJobPatcher#JSON_PATCH}
+     *                  or {@value JsonJobPatcher#MERGE_PATCH}
+     * @param patch the patch document
+     * @param restartParameters restart job parameters
+     * @return the restart job execution entity
+     * @throws IllegalArgumentException if the patch cannot be applied, or the patched job definition is invalid
+     * @throws JobExecutionAlreadyCompleteException
+     * @throws NoSuchJobExecutionException
+     * @throws JobExecutionNotMostRecentException
+     * @throws JobRestartException
+     * @throws JobSecurityException
+     *
+     * @see JsonJobPatcher
+     * @since 3.0.1.Final
+     */
+    public JobExecutionEntity patchJobDefinition(final long jobExecutionId, final String mediaType,
+                                                 final String patch, final Properties restartParameters)
+            throws IllegalArgumentException, JobExecutionAlreadyCompleteException, NoSuchJobExecutionException,
+            JobExecutionNotMostRecentException, JobRestartException, JobSecurityException {
+        final AbstractJobOperator abstractJobOperator = unwrapJobOperator();
+        final JobInstanceImpl jobInstance = (JobInstanceImpl) abstractJobOperator.getJobInstance(jobExecutionId);
+        final Job job = getUnsubstitutedJob(abstractJobOperator, jobExecutionId);
+        final Job patched = JsonJobPatcher.patch(job, mediaType, patch);
+        final Job previous = jobInstance.getUnsubstitutedJob();
+        jobInstance.setUnsubstitutedJob(patched);
+        final long restartExecutionId;
+        try {
+            restartExecutionId = jobOperator.restart(jobExecutionId, restartParameters);
+        } catch (RuntimeException e) {
+            jobInstance.setUnsubstitutedJob(previous);
+            throw e;
+        }
+        writeCompleted();
         return new JobExecutionEntity(jobOperator.getJobExecution(restartExecutionId),
                 jobOperator.getJobInstance(restartExecutionId).getInstanceId());
     }
 
+    /**
+     * Gets the job definition of the job instance of a job execution, loading it from
+     * its job XML if the job instance does not hold it, for instance, after it is
+     * retrieved from the job repository.
+     */
+    private static Job getUnsubstitutedJob(final AbstractJobOperator abstractJobOperator, final long jobExecutionId) {
+        final JobInstanceImpl jobInstance = (JobInstanceImpl) abstractJobOperator.getJobInstance(jobExecutionId);
+        final Job job = jobInstance.getUnsubstitutedJob();
+        if (job != null) {
+            return job;
+        }
+        final Properties jobParameters = abstractJobOperator.getJobExecution(jobExecutionId).getJobParameters();
+        String jobXmlName = jobParameters == null ? null : jobParameters.getProperty(Job.JOB_XML_NAME);
+        if (jobXmlName == null) {
+            jobXmlName = jobInstance.getJobName();
+        }
+        final BatchEnvironment batchEnvironment = abstractJobOperator.getBatchEnvironment();
+        return ArchiveXmlLoader.loadJobXml(jobXmlName, batchEnvironment.getClassLoader(), new ArrayList<>(),
+                batchEnvironment.getJobXmlResolver());
+    }
+
     public JobExecutionEntity[] getRunningExecutions(final String jobName) throws NoSuchJobException, JobSecurityException {
+        return coalesce("getRunningExecutions", new Object[]{jobName},
+                () -> loadRunningExecutions(jobName), JobService::copy);
+    }
+
+    public StepExecutionEntity[] getStepExecutions(final long jobExecutionId) throws NoSuchJobExecutionException, JobSecurityException {
+        return coalesce("getStepExecutions", new Object[]{jobExecutionId},
+                () -> loadStepExecutions(jobExecutionId), JobService::copyArray);
+    }
+
+    private JobEntity[] loadJobs() throws JobSecurityException {
+        final Set<String> jobNames = jobOperator.getJobNames();
+        final JobEntity[] result = new JobEntity[jobNames.size()];
+        int i = 0;
+        for (final String jobName : jobNames) {
+            final int jobInstanceCount = jobOperator.getJobInstanceCount(jobName);
+            final List<Long> runningExecutions = jobOperator.getRunningExecutions(jobName);
+            final JobEntity je = new JobEntity(jobName, jobInstanceCount, runningExecutions.size());
+            result[i++] = je;
+        }
+
+        return result;
+    }
+
+    private JobInstanceEntity[] loadJobInstances(final String jobName, final int start, final int count)
+            throws NoSuchJobException, JobSecurityException {
+        return toJobInstanceEntities(jobOperator.getJobInstances(jobName, start, count));
+    }
+
+    private JobInstanceEntity[] loadJobInstancesAfter(final String jobName, final long afterInstanceId, final int count)
+            throws NoSuchJobException, JobSecurityException {
+        //the job repository returns all job instances of the job name in reverse chronological order,
+        //so binary-search the first job instance after the cursor instead of skipping an offset
+        final List<JobInstance> allJobInstances = jobOperator.getJobInstances(jobName, 0, Integer.MAX_VALUE);
+        final int len = allJobInstances.size();
+        int from = 0;
+        int to = len;
+        while (from < to) {
+            final int mid = (from + to) >>> 1;
+            if (allJobInstances.get(mid).getInstanceId() >= afterInstanceId) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return toJobInstanceEntities(allJobInstances.subList(from, (int) Math.min(len, (long) from + count)));
+    }
+
+    private JobInstanceEntity loadJobInstance(final long executionId) throws NoSuchJobExecutionException, JobSecurityException {
+        final JobInstance jobInstance = jobOperator.getJobInstance(executionId);
+        return new JobInstanceEntity(jobInstance, jobOperator.getJobExecutions(jobInstance));
+    }
+
+    private JobExecutionEntity loadJobExecution(final long jobExecutionId) throws NoSuchJobExecutionException, JobSecurityException {
+        final JobExecution jobExecution = jobOperator.getJobExecution(jobExecutionId);
+        return new JobExecutionEntity(jobExecution, jobOperator.getJobInstance(jobExecutionId).getInstanceId());
+    }
+
+    private JobExecutionEntity[] loadJobExecutions(int count, final long jobInstanceId, final long jobExecutionId1)
+            throws NoSuchJobInstanceException, JobSecurityException {
+        //pass null JobInstance to get ALL job executions
+        JobInstance jobInstance = null;
+        if (jobExecutionId1 > 0) {
+            jobInstance = jobOperator.getJobInstance(jobExecutionId1);
+        }
+
+        final List<JobExecution> jobExecutions = jobOperator.getJobExecutions(jobInstance);
+        final int countAll = jobExecutions.size();
+        if (count <= 0) {
+            count = countAll;
+        } else if (count > countAll) {
+            count = countAll;
+        }
+        final JobExecutionEntity[] jobExecutionEntities = new JobExecutionEntity[count];
+        for (int i = countAll - 1, j = 0; j < count && i >= 0; i--, j++) {
+            final JobExecution e = jobExecutions.get(i);
+            jobExecutionEntities[j] = new JobExecutionEntity(e,
+                    jobOperator.getJobInstance(e.getExecutionId()).getInstanceId());
+        }
+        return jobExecutionEntities;
+    }
+
+    private JobExecutionEntity[] loadJobExecutionsAfter(final int count, final long jobExecutionId1,
+                                                      final long afterExecutionId)
+            throws NoSuchJobInstanceException, JobSecurityException {
+        //pass null JobInstance to get ALL job executions
+        JobInstance jobInstance = null;
+        if (jobExecutionId1 > 0) {
+            jobInstance = jobOperator.getJobInstance(jobExecutionId1);
+        }
+
+        final List<JobExecution> jobExecutions =
+                JobExecutionPaging.before(jobOperator.getJobExecutions(jobInstance), afterExecutionId, count);
+        final JobExecutionEntity[] jobExecutionEntities = new JobExecutionEntity[jobExecutions.size()];
+        for (int i = 0; i < jobExecutionEntities.length; i++) {
+            final JobExecution e = jobExecutions.get(i);
+            jobExecutionEntities[i] = new JobExecutionEntity(e,
+                    jobOperator.getJobInstance(e.getExecutionId()).getInstanceId());
+        }
+        return jobExecutionEntities;
+    }
+
+    private JobExecutionEntity[] loadRunningExecutions(final String jobName) throws NoSuchJobException, JobSecurityException {
         final List<Long> executionIds = jobOperator.getRunningExecutions(jobName);
         final int len = executionIds.size();
         JobExecutionEntity[] runningExecutions = new JobExecutionEntity[len];
@@ -212,7 +563,7 @@ public final class JobService {
         return runningExecutions;
     }
 
-    public StepExecutionEntity[] getStepExecutions(final long jobExecutionId) throws NoSuchJobExecutionException, JobSecurityException {
+    private StepExecutionEntity[] loadStepExecutions(final long jobExecutionId) throws NoSuchJobExecutionException, JobSecurityException {
         final List<StepExecution> stepExecutions = jobOperator.getStepExecutions(jobExecutionId);
         final int len = stepExecutions.size();
         final StepExecutionEntity[] stepExecutionData = new StepExecutionEntity[len];
@@ -223,6 +574,131 @@ public final class JobService {
         return stepExecutionData;
     }
 
+    private <T> T coalesce(final String operation, final Object[] args, final Supplier<T> supplier,
+                           final UnaryOperator<T> copier) {
+        return singleFlight == null ? supplier.get() : singleFlight.execute(operation, args, supplier, copier);
+    }
+
+    /**
+     * Forgets reads in flight, so that reads from now on are not answered with results
+     * retrieved before a write operation.
+     */
+    private void writeCompleted() {
+        if (singleFlight != null) {
+            singleFlight.clear();
+        }
+    }
+
+    private static <T> T[] copyArray(final T[] array) {
+        return array.clone();
+    }
+
+    private static JobExecutionEntity copy(final JobExecutionEntity jobExecution) {
+        return new JobExecutionEntity(jobExecution, jobExecution.getJobInstanceId());
+    }
+
+    private static JobExecutionEntity[] copy(final JobExecutionEntity[] jobExecutions) {
+        final JobExecutionEntity[] result = new JobExecutionEntity[jobExecutions.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = copy(jobExecutions[i]);
+        }
+        return result;
+    }
+
+    private JobInstanceEntity[] toJobInstanceEntities(final List<JobInstance> jobInstances) {
+        final int len = jobInstances.size();
+
+        final JobInstanceEntity[] jobInstanceData = new JobInstanceEntity[len];
+        if (bulkSummaryThreshold > 0 && len >= bulkSummaryThreshold && summarizeInBulk(jobInstances, jobInstanceData)) {
+            return jobInstanceData;
+        }
+        if (len > 1 && summaryParallelism > 1 && summarizeInParallel(jobInstances, jobInstanceData)) {
+            return jobInstanceData;
+        }
+        for (int i = 0; i < len; i++) {
+            final JobInstance e = jobInstances.get(i);
+            jobInstanceData[i] = new JobInstanceEntity(e, jobOperator.getJobExecutions(e));
+        }
+        return jobInstanceData;
+    }
+
+    /**
+     * Computes the number of job executions and latest job execution id of each job instance
+     * from a single query of all job executions, and populates {@code jobInstanceData}.
+     *
+     * @param jobInstances job instances to summarize
+     * @param jobInstanceData the array to populate, with the same length as {@code jobInstances}
+     * @return true if {@code jobInstanceData} has been populated; false if the job executions
+     * returned from the job repository do not carry their job instance
+     */
+    private boolean summarizeInBulk(final List<JobInstance> jobInstances, final JobInstanceEntity[] jobInstanceData) {
+        //instance id -> {number of job executions, latest job execution id}
+        final Map<Long, long[]> summaries = new HashMap<>(jobInstances.size() * 4 / 3 + 1);
+        for (final JobInstance e : jobInstances) {
+            summaries.put(e.getInstanceId(), new long[2]);
+        }
+
+        //pass null JobInstance to get ALL job executions
+        for (final JobExecution e : jobOperator.getJobExecutions(null)) {
+            if (!(e instanceof JobExecutionImpl) || ((JobExecutionImpl) e).getJobInstance() == null) {
+                return false;
+            }
+            final long[] summary = summaries.get(((JobExecutionImpl) e).getJobInstance().getInstanceId());
+            if (summary != null) {
+                summary[0]++;
+                summary[1] = Math.max(summary[1], e.getExecutionId());
+            }
+        }
+
+        for (int i = 0; i < jobInstanceData.length; i++) {
+            final JobInstance e = jobInstances.get(i);
+            final long[] summary = summaries.get(e.getInstanceId());
+            jobInstanceData[i] = new JobInstanceEntity(e, (int) summary[0], summary[1]);
+        }
+        return true;
+    }
+
+    /**
+     * Queries job executions of job instances in parallel on the default managed executor
+     * service, with at most {@code summaryParallelism} tasks, and populates {@code jobInstanceData}.
+     * The managed executor service propagates the application context, such as the thread
+     * context class loader and security context, to the tasks.
+     *
+     * @param jobInstances job instances to summarize
+     * @param jobInstanceData the array to populate, with the same length as {@code jobInstances}
+     * @return true if {@code jobInstanceData} has been populated; false if the managed executor
+     * service is not available
+     */
+    private boolean summarizeInParallel(final List<JobInstance> jobInstances, final JobInstanceEntity[] jobInstanceData) {
+        final ExecutorService executor;
+        try {
+            executor = (ExecutorService) new InitialContext().lookup(MANAGED_EXECUTOR_SERVICE);
+        } catch (NamingException | ClassCastException e) {
+            return false;
+        }
+        final int tasks = Math.min(summaryParallelism, jobInstanceData.length);
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[tasks];
+        for (int t = 0; t < tasks; t++) {
+            final int first = t;
+            futures[t] = CompletableFuture.runAsync(() -> {
+                for (int i = first; i < jobInstanceData.length; i += tasks) {
+                    final JobInstance e = jobInstances.get(i);
+                    jobInstanceData[i] = new JobInstanceEntity(e, jobOperator.getJobExecutions(e));
+                }
+            }, executor);
+        }
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException ex) {
+            final Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw ex;
+        }
+        return true;
+    }
+
     private AbstractJobOperator unwrapJobOperator() {
         AbstractJobOperator abstractJobOperator;
         if (jobOperator instanceof DelegatingJobOperator) {
@@ -0,0 +1,465 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.service;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongPredicate;
+import java.util.function.Supplier;
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
+
+import org.jberet.rest.commons._private.RestCommonsLogger;
+import org.jberet.rest.commons._private.RestCommonsMessages;
+import org.jberet.rest.entity.JobExecutionEntity;
+import org.jberet.rest.entity.QueuedJobEntity;
+
+/**
+ * In-process queue of job start requests, which are dispatched to
+ * {@link JobService#start(String, Properties)} one at a time,
+ * in the order of priority and then arrival, while keeping the number of running
+ * job executions started from the queue under the limit set by system property
+ * {@value #MAX_RUNNING_PROPERTY}. The queue is disabled unless this limit is set
+ * to a positive value.
+ * <p>
+ * At most {@value #CAPACITY_PROPERTY} (default {@value #DEFAULT_CAPACITY}) requests
+ * are queued. The dispatcher checks whether running job executions have finished every
+ * {@value #POLL_INTERVAL_PROPERTY} milliseconds (default {@value #DEFAULT_POLL_INTERVAL_MILLIS}).
+ * The most recent {@value #HISTORY_SIZE} dispatched or cancelled requests are kept, so that
+ * clients can find out the job execution started for their request.
+ * <p>
+ * The dispatcher runs on the default managed scheduled executor service of the application
+ * server, looked up as {@value #MANAGED_SCHEDULED_EXECUTOR_SERVICE}, which is shut down
+ * with the application, or on a daemon thread if it is not available. Each request is
+ * started with the context of the thread that queued it, such as the thread context
+ * class loader and security context, captured with the default context service,
+ * looked up as {@value #CONTEXT_SERVICE}, or only the thread context class loader
+ * if it is not available.
+ *
+ * @since 3.0.1.Final
+ */
+public final class JobStartQueue {
+    public static final String MAX_RUNNING_PROPERTY = "org.jberet.rest.queue.maxRunningJobs";
+
+    public static final String CAPACITY_PROPERTY = "org.jberet.rest.queue.capacity";
+
+    public static final String POLL_INTERVAL_PROPERTY = "org.jberet.rest.queue.pollIntervalMillis";
+
+    public static final int DEFAULT_CAPACITY = 10000;
+
+    public static final long DEFAULT_POLL_INTERVAL_MILLIS = 500;
+
+    static final int HISTORY_SIZE = 1000;
+
+    private static final String MANAGED_SCHEDULED_EXECUTOR_SERVICE = "java:comp/DefaultManagedScheduledExecutorService";
+
+    private static final String CONTEXT_SERVICE = "java:comp/DefaultContextService";
+
+    private static final long FAILURE_LOG_INTERVAL_SECONDS = 60;
+
+    /**
+     * Priority of a job start request. Requests of higher priority are dispatched first.
+     */
+    public enum Priority {
+        HIGH, NORMAL, LOW
+    }
+
+    /**
+     * Status of a job start request.
+     */
+    public enum Status {
+        QUEUED, STARTED, FAILED, CANCELLED
+    }
+
+    private static final JobStartQueue instance = create();
+
+    private final int maxRunning;
+
+    private final int capacity;
+
+    private final PriorityQueue<Item> queue = new PriorityQueue<>(
+            Comparator.<Item>comparingInt(item -> item.priority.ordinal()).thenComparingLong(item -> item.id));
+
+    private final Map<Long, Item> queuedById = new HashMap<>();
+
+    private final Map<Long, Item> history = new LinkedHashMap<Long, Item>() {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Long, Item> eldest) {
+            return size() > HISTORY_SIZE;
+        }
+    };
+
+    /**
+     * Ids of running job executions started from this queue. Only accessed while holding {@link #dispatchLock}.
+     */
+    private final List<Long> running = new ArrayList<>();
+
+    private final Object dispatchLock = new Object();
+
+    /**
+     * Whether a dispatch has been requested after a request was queued, and has not
+     * started yet, so that a flood of requests queues at most one dispatch task.
+     */
+    private final AtomicBoolean dispatchPending = new AtomicBoolean();
+
+    private final AtomicLong nextFailureLogTime = new AtomicLong(System.nanoTime());
+
+    private final AtomicInteger suppressedFailures = new AtomicInteger();
+
+    private final Executor dispatcher;
+
+    private final LongPredicate isFinished;
+
+    /**
+     * The default context service, and its {@code createContextualProxy(Object, Class)} method,
+     * or null if not available.
+     */
+    private final Object contextService;
+
+    private final Method createContextualProxy;
+
+    private long nextId = 1;
+
+    /**
+     * Creates the job start queue.
+     *
+     * @param maxRunning maximum number of running job executions started from the queue
+     * @param capacity maximum number of queued job start requests
+     * @param dispatcher executes dispatching of queued requests, or null if the queue is not enabled
+     * @param isFinished checks whether a job execution has finished
+     */
+    JobStartQueue(final int maxRunning, final int capacity, final Executor dispatcher, final LongPredicate isFinished) {
+        this.maxRunning = maxRunning;
+        this.capacity = capacity;
+        this.dispatcher = dispatcher;
+        this.isFinished = isFinished;
+
+        Object service = null;
+        Method method = null;
+        if (dispatcher != null) {
+            try {
+                service = new InitialContext().lookup(CONTEXT_SERVICE);
+                method = Class.forName("jakarta.enterprise.concurrent.ContextService", true,
+                        service.getClass().getClassLoader()).getMethod("createContextualProxy", Object.class, Class.class);
+            } catch (NamingException | ReflectiveOperationException | RuntimeException e) {
+                service = null;
+                method = null;
+            }
+        }
+        contextService = service;
+        createContextualProxy = method;
+    }
+
+    private static JobStartQueue create() {
+        final int maxRunning = Integer.getInteger(MAX_RUNNING_PROPERTY, 0);
+        final int capacity = Integer.getInteger(CAPACITY_PROPERTY, DEFAULT_CAPACITY);
+        if (maxRunning <= 0) {
+            return new JobStartQueue(maxRunning, capacity, null, null);
+        }
+
+        ScheduledExecutorService executor;
+        try {
+            executor = (ScheduledExecutorService) new InitialContext().lookup(MANAGED_SCHEDULED_EXECUTOR_SERVICE);
+        } catch (NamingException | ClassCastException e) {
+            executor = Executors.newSingleThreadScheduledExecutor(r -> {
+                final Thread thread = new Thread(r, "jberet-rest-job-start-queue");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        final JobStartQueue queue = new JobStartQueue(maxRunning, capacity, executor,
+                id -> JobService.getInstance().isFinished(id));
+        final long pollInterval = Long.getLong(POLL_INTERVAL_PROPERTY, DEFAULT_POLL_INTERVAL_MILLIS);
+        executor.scheduleWithFixedDelay(queue::dispatch, pollInterval, pollInterval, TimeUnit.MILLISECONDS);
+        return queue;
+    }
+
+    public static JobStartQueue getInstance() {
+        return instance;
+    }
+
+    /**
+     * Checks if the job start queue is enabled.
+     *
+     * @return true if the queue is enabled; false otherwise
+     */
+    public boolean isEnabled() {
+        return dispatcher != null;
+    }
+
+    /**
+     * Gets the maximum number of queued job start requests.
+     *
+     * @return the capacity of the queue
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Adds a job start request to the queue, if the queue is not full.
+     *
+     * @param jobXmlName job xml name, which usually is the same as job id
+     * @param jobParameters job parameters
+     * @param priority priority of the request
+     * @return the queued request, or null if the queue is full
+     * @throws IllegalStateException if the queue is not enabled
+     */
+    public QueuedJobEntity offer(final String jobXmlName, final Properties jobParameters, final Priority priority) {
+        if (dispatcher == null) {
+            throw RestCommonsMessages.MESSAGES.jobStartQueueNotEnabled(MAX_RUNNING_PROPERTY);
+        }
+        return offer(jobXmlName, jobParameters, priority,
+                contextual(() -> JobService.getInstance().start(jobXmlName, jobParameters)));
+    }
+
+    /**
+     * Adds a job start request to the queue, if the queue is not full.
+     *
+     * @param jobXmlName job xml name, which usually is the same as job id
+     * @param jobParameters job parameters
+     * @param priority priority of the request
+     * @param starter starts the job execution when the request is dispatched
+     * @return the queued request, or null if the queue is full
+     */
+    QueuedJobEntity offer(final String jobXmlName, final Properties jobParameters, final Priority priority,
+                          final Supplier<JobExecutionEntity> starter) {
+        final QueuedJobEntity result;
+        synchronized (this) {
+            if (queue.size() >= capacity) {
+                return null;
+            }
+            final Item item = new Item(nextId++, jobXmlName, jobParameters, priority, starter);
+            queue.add(item);
+            queuedById.put(item.id, item);
+            result = item.toEntity();
+        }
+        if (dispatchPending.compareAndSet(false, true)) {
+            try {
+                dispatcher.execute(this::dispatch);
+            } catch (RuntimeException e) {
+                //dispatched at the next poll
+                dispatchPending.set(false);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the queued job start requests, in the order they will be dispatched.
+     *
+     * @return queued job start requests
+     */
+    public synchronized QueuedJobEntity[] getQueuedJobs() {
+        final Item[] items = queue.toArray(new Item[0]);
+        Arrays.sort(items, queue.comparator());
+        final QueuedJobEntity[] result = new QueuedJobEntity[items.length];
+        for (int i = 0; i < items.length; i++) {
+            result[i] = items[i].toEntity();
+        }
+        return result;
+    }
+
+    /**
+     * Gets a queued, or recently dispatched or cancelled job start request.
+     *
+     * @param id id of the job start request
+     * @return the job start request, or null if not found
+     */
+    public synchronized QueuedJobEntity getQueuedJob(final long id) {
+        final Item item = find(id);
+        return item == null ? null : item.toEntity();
+    }
+
+    /**
+     * Cancels a queued job start request. A request that has already been dispatched
+     * is not affected.
+     *
+     * @param id id of the job start request
+     * @return the job start request with its current status, or null if not found
+     */
+    public synchronized QueuedJobEntity cancel(final long id) {
+        final Item item = find(id);
+        if (item == null) {
+            return null;
+        }
+        if (queue.remove(item)) {
+            queuedById.remove(id);
+            item.status = Status.CANCELLED;
+            history.put(id, item);
+        }
+        return item.toEntity();
+    }
+
+    /**
+     * Cancels all queued job start requests.
+     *
+     * @return the cancelled job start requests, in the order they would have been dispatched
+     */
+    public synchronized QueuedJobEntity[] cancelAll() {
+        final QueuedJobEntity[] result = new QueuedJobEntity[queue.size()];
+        for (int i = 0; i < result.length; i++) {
+            final Item item = queue.poll();
+            queuedById.remove(item.id);
+            item.status = Status.CANCELLED;
+            history.put(item.id, item);
+            result[i] = item.toEntity();
+        }
+        return result;
+    }
+
+    private Item find(final long id) {
+        final Item item = queuedById.get(id);
+        return item != null ? item : history.get(id);
+    }
+
+    /**
+     * Captures the context of the calling thread, to start a queued request with it.
+     *
+     * @param starter starts the job execution
+     * @return {@code starter} running with the captured context
+     */
+    @SuppressWarnings("unchecked")
+    private Supplier<JobExecutionEntity> contextual(final Supplier<JobExecutionEntity> starter) {
+        if (contextService != null) {
+            try {
+                return (Supplier<JobExecutionEntity>) createContextualProxy.invoke(contextService, starter, Supplier.class);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                //fall back to capturing the thread context class loader only
+            }
+        }
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return () -> {
+            final Thread thread = Thread.currentThread();
+            final ClassLoader original = thread.getContextClassLoader();
+            thread.setContextClassLoader(classLoader);
+            try {
+                return starter.get();
+            } finally {
+                thread.setContextClassLoader(original);
+            }
+        };
+    }
+
+    /**
+     * Releases finished job executions, and dispatches queued requests while the number
+     * of running job executions is under the limit. Runs on the dispatcher, one at a time,
+     * and never throws, so that the periodic dispatching is not cancelled. Failures are
+     * logged at most once every {@value #FAILURE_LOG_INTERVAL_SECONDS} seconds, and
+     * dispatching is retried at the next poll.
+     */
+    void dispatch() {
+        synchronized (dispatchLock) {
+            //requests queued from now on need another dispatch
+            dispatchPending.set(false);
+            try {
+                dispatchQueued();
+            } catch (Throwable e) {
+                logFailure(e);
+            }
+        }
+    }
+
+    private void logFailure(final Throwable e) {
+        final long now = System.nanoTime();
+        final long next = nextFailureLogTime.get();
+        if (now - next >= 0 && nextFailureLogTime.compareAndSet(next,
+                now + TimeUnit.SECONDS.toNanos(FAILURE_LOG_INTERVAL_SECONDS))) {
+            RestCommonsLogger.LOGGER.failToDispatchQueuedJobs(suppressedFailures.getAndSet(0), e);
+        } else {
+            suppressedFailures.incrementAndGet();
+        }
+    }
+
+    /**
+     * A request being dispatched is no longer in {@link #queue}, but remains in
+     * {@link #queuedById} until it is moved to {@link #history}.
+     */
+    private void dispatchQueued() {
+        //if the job repository cannot be accessed, the running job executions are kept,
+        //and checked again at the next poll
+        running.removeIf(isFinished::test);
+        while (running.size() < maxRunning) {
+            final Item item;
+            synchronized (this) {
+                item = queue.poll();
+                if (item == null) {
+                    return;
+                }
+            }
+
+            long jobExecutionId = 0;
+            String error = null;
+            try {
+                final JobExecutionEntity jobExecution = item.starter.get();
+                jobExecutionId = jobExecution.getExecutionId();
+                running.add(jobExecutionId);
+            } catch (Throwable e) {
+                error = e.toString();
+            }
+
+            synchronized (this) {
+                item.startTime = new Date();
+                item.jobExecutionId = jobExecutionId;
+                item.error = error;
+                item.status = error == null ? Status.STARTED : Status.FAILED;
+                queuedById.remove(item.id);
+                history.put(item.id, item);
+            }
+        }
+    }
+
+    private static final class Item {
+        private final long id;
+        private final String jobName;
+        private final Properties jobParameters;
+        private final Priority priority;
+        private final Supplier<JobExecutionEntity> starter;
+        private final Date createTime = new Date();
+
+        private Status status = Status.QUEUED;
+        private Date startTime;
+        private long jobExecutionId;
+        private String error;
+
+        private Item(final long id, final String jobName, final Properties jobParameters, final Priority priority,
+                     final Supplier<JobExecutionEntity> starter) {
+            this.id = id;
+            this.jobName = jobName;
+            this.jobParameters = jobParameters;
+            this.priority = priority;
+            this.starter = starter;
+        }
+
+        private QueuedJobEntity toEntity() {
+            return new QueuedJobEntity(id, jobName, jobParameters, priority.name(), status.name(),
+                    createTime, startTime, jobExecutionId, error);
+        }
+    }
+}
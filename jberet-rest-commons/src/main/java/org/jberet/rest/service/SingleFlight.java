@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Coalesces concurrent identical read operations, so that only the first caller
+ * for a key performs the operation, and callers arriving while it is in flight
+ * wait for and share its result, or its exception.
+ * <p>
+ * In-flight operations are kept in a {@code java.util.concurrent.ConcurrentHashMap},
+ * which registers a new key with a compare-and-set on an empty bin, and otherwise
+ * only locks the bin of the key, so operations for different keys do not wait for
+ * each other. Nothing is cached: a caller arriving after the operation has completed,
+ * or after {@link #clear()}, performs it again.
+ *
+ * @since 3.0.1.Final
+ */
+final class SingleFlight {
+    private final ConcurrentMap<List<Object>, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Performs the operation, or waits for the identical operation in flight.
+     *
+     * @param operation the name of the operation
+     * @param args the arguments of the operation, which together with {@code operation}
+     *             identify identical operations
+     * @param supplier performs the operation
+     * @param copier copies the result for each waiting caller, so that callers
+     *               modifying the result do not affect each other
+     * @param <T> the type of the result
+     * @return the result of the operation
+     */
+    <T> T execute(final String operation, final Object[] args, final Supplier<T> supplier,
+                  final UnaryOperator<T> copier) {
+        final Object[] keyElements = Arrays.copyOf(args, args.length + 1);
+        keyElements[args.length] = operation;
+        final List<Object> key = Arrays.asList(keyElements);
+
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+        final CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            try {
+                @SuppressWarnings("unchecked")
+                final T result = (T) existing.join();
+                return copier.apply(result);
+            } catch (CompletionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            final T result = supplier.get();
+            future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Forgets the operations in flight, so that callers from now on perform the operation
+     * again instead of waiting for one started earlier. Callers already waiting still get
+     * the result of the operation they joined.
+     */
+    void clear() {
+        inFlight.clear();
+    }
+}
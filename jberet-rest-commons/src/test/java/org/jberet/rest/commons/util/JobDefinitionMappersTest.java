@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.commons.util;
+
+import jakarta.batch.operations.BatchRuntimeException;
+
+import org.jberet.job.model.Job;
+import org.jberet.job.model.Step;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests to verify job definition content is mapped by the {@link JobDefinitionMapper}
+ * for its media type.
+ *
+ * @see JobDefinitionMappers
+ * @since 3.0.1.Final
+ */
+public final class JobDefinitionMappersTest {
+    @Test
+    public void getMapper() throws Exception {
+        final JobDefinitionMapper json = JobDefinitionMappers.getMapper(JobDefinitionMappers.APPLICATION_JSON);
+        assertNotNull(json);
+        assertSame(json, JobDefinitionMappers.getMapper(null));
+        assertSame(json, JobDefinitionMappers.getMapper("Application/JSON; charset=UTF-8"));
+        assertSame(json, JobDefinitionMappers.getMapper("application/vnd.example+json"));
+
+        final JobDefinitionMapper yaml = JobDefinitionMappers.getMapper(JobDefinitionMappers.APPLICATION_YAML);
+        assertNotNull(yaml);
+        assertSame(yaml, JobDefinitionMappers.getMapper(JobDefinitionMappers.TEXT_YAML));
+
+        final JobDefinitionMapper xml = JobDefinitionMappers.getMapper(JobDefinitionMappers.TEXT_XML);
+        assertNotNull(xml);
+        assertSame(xml, JobDefinitionMappers.getMapper(JobDefinitionMappers.APPLICATION_XML));
+
+        assertNull(JobDefinitionMappers.getMapper("text/plain"));
+    }
+
+    @Test
+    public void xml() throws Exception {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                "<job id=\"job1\" xmlns=\"https://jakarta.ee/xml/ns/jakartaee\" version=\"2.0\">\n" +
+                "    <step id=\"step1\" next=\"step2\">\n" +
+                "        <chunk item-count=\"5\">\n" +
+                "            <reader ref=\"reader1\">\n" +
+                "                <properties><property name=\"rp1\" value=\"v1\"/></properties>\n" +
+                "            </reader>\n" +
+                "            <writer ref=\"writer1\"/>\n" +
+                "        </chunk>\n" +
+                "    </step>\n" +
+                "    <step id=\"step2\">\n" +
+                "        <batchlet ref=\"batchlet1\"/>\n" +
+                "    </step>\n" +
+                "</job>";
+        final Job job = JobDefinitionMappers.getMapper(JobDefinitionMappers.APPLICATION_XML).toJob(xml);
+        assertEquals("job1", job.getId());
+        assertEquals(2, job.getJobElements().size());
+        final Step step1 = (Step) job.getJobElements().get(0);
+        assertEquals("step2", step1.getAttributeNext());
+        assertEquals("5", step1.getChunk().getItemCount());
+        assertEquals("v1", step1.getChunk().getReader().getProperties().get("rp1"));
+        assertEquals("batchlet1", ((Step) job.getJobElements().get(1)).getBatchlet().getRef());
+    }
+
+    @Test
+    public void malformedXml() throws Exception {
+        assertThrows(BatchRuntimeException.class,
+                () -> JobDefinitionMappers.getMapper(JobDefinitionMappers.APPLICATION_XML).toJob("<job id=\"job1\">"));
+    }
+
+    @Test
+    public void doctypeRejected() throws Exception {
+        final String xml = "<?xml version=\"1.0\"?>\n" +
+                "<!DOCTYPE job [<!ENTITY ref SYSTEM \"file:///etc/passwd\">]>\n" +
+                "<job id=\"job1\" xmlns=\"https://jakarta.ee/xml/ns/jakartaee\" version=\"2.0\">\n" +
+                "    <step id=\"step1\"><batchlet ref=\"&ref;\"/></step>\n" +
+                "</job>";
+        final BatchRuntimeException e = assertThrows(BatchRuntimeException.class,
+                () -> JobDefinitionMappers.getMapper(JobDefinitionMappers.APPLICATION_XML).toJob(xml));
+        assertTrue(e.getMessage().contains("JBERET071017"), e.getMessage());
+    }
+}
@@ -42,7 +42,18 @@ import static org.wildfly.common.Assert.assertFalse;
  * @see JsonJobMapper
  * @since 1.3.0.Final
  */
-public final class JsonJobMapperTest {
+public class JsonJobMapperTest {
+    /**
+     * Converts the JSON job definition used by each test to {@code Job}. Tests for other
+     * job definition formats override this method to convert the JSON to their format first.
+     *
+     * @param json the JSON job definition
+     * @return the converted job
+     */
+    protected Job toJob(final String json) throws Exception {
+        return JsonJobMapper.toJob(json);
+    }
+
     @Test
     public void missingJobId() throws Exception {
         assertThrows(IllegalStateException.class, () -> {
@@ -57,7 +68,7 @@ public final class JsonJobMapperTest {
                     "    }\n" +
                     "  }\n" +
                     "}";
-            final Job job = JsonJobMapper.toJob(json);
+            final Job job = toJob(json);
         });
 
     }
@@ -76,7 +87,7 @@ public final class JsonJobMapperTest {
                     "    }\n" +
                     "  }\n" +
                     "}";
-            final Job job = JsonJobMapper.toJob(json);
+            final Job job = toJob(json);
         });
 
     }
@@ -96,7 +107,7 @@ public final class JsonJobMapperTest {
                     "    }\n" +
                     "  }\n" +
                     "}";
-            final Job job = JsonJobMapper.toJob(json);
+            final Job job = toJob(json);
         });
 
     }
@@ -150,7 +161,7 @@ public final class JsonJobMapperTest {
                         "    }\n" +
                         "  }\n" +
                         "}";
-        Job job = JsonJobMapper.toJob(json);
+        Job job = toJob(json);
         assertEquals("simple", job.getId());
         assertEquals(true, job.getRestartableBoolean());
         assertEquals(null, job.getListeners());
@@ -219,7 +230,7 @@ public final class JsonJobMapperTest {
                 "    }\n" +
                 "  }\n" +
                 "}";
-        final Job job = JsonJobMapper.toJob(json);
+        final Job job = toJob(json);
         final Step step = (Step) job.getJobElements().get(0);
         final Chunk chunk = step.getChunk();
         assertEquals("item", chunk.getCheckpointPolicy());
@@ -266,7 +277,7 @@ public final class JsonJobMapperTest {
                 "    }\n" +
                 "  }\n" +
                 "}";
-        final Job job = JsonJobMapper.toJob(json);
+        final Job job = toJob(json);
         final Step step = (Step) job.getJobElements().get(0);
         final Chunk chunk = step.getChunk();
         assertEquals("custom", chunk.getCheckpointPolicy());
@@ -360,7 +371,7 @@ public final class JsonJobMapperTest {
                 "    }\n" +
                 "  }" +
                 "}";
-        final Job job = JsonJobMapper.toJob(json);
+        final Job job = toJob(json);
         final Step step = (Step) job.getJobElements().get(0);
         final Partition partition = step.getPartition();
         final PartitionPlan plan = partition.getPlan();
@@ -394,6 +405,91 @@ public final class JsonJobMapperTest {
         assertEquals("RV", refArtifact.getProperties().get("RN"));
     }
 
+    /**
+     * Verifies partition plan properties in the compact {@code properties-table} form,
+     * where each partition has an array of values for the shared property names.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void partitionPropertiesTable() throws Exception {
+        final String json = "{\n" +
+                "  \"job\": {\n" +
+                "    \"id\": \"simple\",\n" +
+                "    \"step\": {\n" +
+                "      \"id\": \"step1\",\n" +
+                "      \"batchlet\": { \"ref\": \"batchlet1\" },\n" +
+                "      \"partition\": {\n" +
+                "        \"plan\": {\n" +
+                "          \"partitions\": 3,\n" +
+                "          \"properties-table\": {\n" +
+                "            \"names\": [\"start\", \"end\"],\n" +
+                "            \"values\": [[0, 999], [1000, 1999], [\"2000\", \"2999\"]]\n" +
+                "          }\n" +
+                "        }\n" +
+                "      }\n" +
+                "    }\n" +
+                "  }\n" +
+                "}";
+        final Job job = toJob(json);
+        final PartitionPlan plan = ((Step) job.getJobElements().get(0)).getPartition().getPlan();
+        assertEquals(3, plan.getPartitionsInt());
+
+        final List<Properties> propertiesList = plan.getPropertiesList();
+        assertEquals(3, propertiesList.size());
+        for (int i = 0; i < 3; i++) {
+            final Properties properties = propertiesList.get(i);
+            assertEquals(String.valueOf(i), properties.getPartition());
+            assertEquals(2, properties.size());
+            assertEquals(String.valueOf(i * 1000), properties.get("start"));
+            assertEquals(String.valueOf(i * 1000 + 999), properties.get("end"));
+        }
+    }
+
+    /**
+     * Verifies partition plan properties in the {@code properties-template} form,
+     * which are expanded for each partition, and written back as the template.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void partitionPropertiesTemplate() throws Exception {
+        final String json = "{\n" +
+                "  \"job\": {\n" +
+                "    \"id\": \"simple\",\n" +
+                "    \"step\": {\n" +
+                "      \"id\": \"step1\",\n" +
+                "      \"batchlet\": { \"ref\": \"batchlet1\" },\n" +
+                "      \"partition\": {\n" +
+                "        \"plan\": {\n" +
+                "          \"partitions\": 10000,\n" +
+                "          \"properties-template\": {\n" +
+                "            \"property\": [\n" +
+                "              { \"name\": \"shard\", \"value\": \"shard-{partition}\" },\n" +
+                "              { \"name\": \"table\", \"value\": \"orders\" }\n" +
+                "            ]\n" +
+                "          }\n" +
+                "        }\n" +
+                "      }\n" +
+                "    }\n" +
+                "  }\n" +
+                "}";
+        final Job job = toJob(json);
+        final PartitionPlan plan = ((Step) job.getJobElements().get(0)).getPartition().getPlan();
+        final List<Properties> propertiesList = plan.getPropertiesList();
+        assertEquals(10000, propertiesList.size());
+        final Properties properties = propertiesList.get(9999);
+        assertEquals("9999", properties.getPartition());
+        assertEquals("shard-9999", properties.get("shard"));
+        assertEquals("orders", properties.get("table"));
+        assertEquals("shard-0", propertiesList.get(0).get("shard"));
+        assertThrows(IndexOutOfBoundsException.class, () -> propertiesList.get(10000));
+
+        final String written = JsonJobMapper.toJson(job).toString();
+        assertTrue(written.contains("\"properties-template\""), written);
+        assertEquals(written, JsonJobMapper.toJson(JsonJobMapper.toJob(written)).toString());
+    }
+
     /**
      * Verifies partition mapper
      *
@@ -435,7 +531,7 @@ public final class JsonJobMapperTest {
                 "    }\n" +
                 "  }" +
                 "}";
-        final Job job = JsonJobMapper.toJob(json);
+        final Job job = toJob(json);
         final Step step = (Step) job.getJobElements().get(0);
         final Partition partition = step.getPartition();
 
@@ -476,7 +572,7 @@ public final class JsonJobMapperTest {
                 "    ]\n" +
                 "  }\n" +
                 "}";
-        final Job job = JsonJobMapper.toJob(json);
+        final Job job = toJob(json);
         assertEquals("job1", job.getId());
         assertFalse(job.getRestartableBoolean());
         final List<JobElement> jobElements = job.getJobElements();
@@ -535,7 +631,7 @@ public final class JsonJobMapperTest {
                 "    ]\n" +
                 "  }\n" +
                 "}";
-        final Job job = JsonJobMapper.toJob(json);
+        final Job job = toJob(json);
         assertEquals(2, job.getJobElements().size());
         final Step step1 = (Step) job.getJobElements().get(0);
         assertEquals("step1", step1.getId());
@@ -585,7 +681,7 @@ public final class JsonJobMapperTest {
                 "    }\n" +
                 "  }\n" +
                 "}";
-        final Job job = JsonJobMapper.toJob(json);
+        final Job job = toJob(json);
         assertEquals(1, job.getJobElements().size());
         final Flow flow = (Flow) job.getJobElements().get(0);
         assertEquals("flow1", flow.getId());
@@ -660,7 +756,7 @@ public final class JsonJobMapperTest {
                 "    }\n" +
                 "  }\n" +
                 "}";
-        final Job job = JsonJobMapper.toJob(json);
+        final Job job = toJob(json);
         final Flow flow = (Flow) job.getJobElements().get(0);
         verifyTransitionElements2(flow.getTransitionElements());
     }
@@ -726,7 +822,7 @@ public final class JsonJobMapperTest {
                 "    ]\n" +
                 "  }\n" +
                 "}";
-        final Job job = JsonJobMapper.toJob(json);
+        final Job job = toJob(json);
         assertEquals(2, job.getJobElements().size());
         final Step step1 = (Step) job.getJobElements().get(0);
         assertEquals("step1", step1.getId());
@@ -794,7 +890,7 @@ public final class JsonJobMapperTest {
                 "    }\n" +
                 "  }\n" +
                 "}";
-        final Job job = JsonJobMapper.toJob(json);
+        final Job job = toJob(json);
         assertEquals(1, job.getProperties().size());
         assertEquals("JV", job.getProperties().get("JN"));
         assertEquals(1, job.getListeners().getListeners().size());
@@ -917,7 +1013,7 @@ public final class JsonJobMapperTest {
                 "    }\n" +
                 "  }\n" +
                 "}";
-        final Job job = JsonJobMapper.toJob(json);
+        final Job job = toJob(json);
         assertEquals(2, job.getProperties().size());
         assertEquals("JV", job.getProperties().get("JN"));
         assertEquals("JV2", job.getProperties().get("JN2"));
@@ -1007,7 +1103,7 @@ public final class JsonJobMapperTest {
                 "    }\n" +
                 "  }\n" +
                 "}";
-        final Job job = JsonJobMapper.toJob(json);
+        final Job job = toJob(json);
         final List<JobElement> jobElements = job.getJobElements();
         assertEquals(3, jobElements.size());
         for (JobElement element : jobElements) {
@@ -1114,7 +1210,7 @@ public final class JsonJobMapperTest {
                 "  }\n" +
                 "}";
 
-        final Job job = JsonJobMapper.toJob(json);
+        final Job job = toJob(json);
         final List<JobElement> jobElements = job.getJobElements();
         assertEquals(4, jobElements.size());
         for (JobElement element : jobElements) {
@@ -1215,7 +1311,7 @@ public final class JsonJobMapperTest {
                 "    }\n" +
                 "  }\n" +
                 "}";
-        final Job job = JsonJobMapper.toJob(json);
+        final Job job = toJob(json);
         assertEquals(1, job.getJobElements().size());
         final Flow flow1 = (Flow) job.getJobElements().get(0);
         assertEquals("flow1", flow1.getId());
@@ -1317,7 +1413,7 @@ public final class JsonJobMapperTest {
                 "    }\n" +
                 "  }\n" +
                 "}";
-        final Job job = JsonJobMapper.toJob(json);
+        final Job job = toJob(json);
         final Step step = (Step) job.getJobElements().get(0);
         final Chunk chunk = step.getChunk();
         assertEquals("reader1", chunk.getReader().getRef());
@@ -1392,7 +1488,7 @@ public final class JsonJobMapperTest {
                 "    }\n" +
                 "  }\n" +
                 "}";
-        final Job job = JsonJobMapper.toJob(json);
+        final Job job = toJob(json);
         final Step step = (Step) job.getJobElements().get(0);
         final Chunk chunk = step.getChunk();
         ExceptionClassFilter filter = chunk.getSkippableExceptionClasses();
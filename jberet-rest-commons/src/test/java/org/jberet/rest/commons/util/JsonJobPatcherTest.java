@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.commons.util;
+
+import org.jberet.job.model.Decision;
+import org.jberet.job.model.Flow;
+import org.jberet.job.model.Job;
+import org.jberet.job.model.JobElement;
+import org.jberet.job.model.Step;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests to verify JSON Patch and JSON Merge Patch documents are applied to
+ * a job, remapping only the changed job elements.
+ *
+ * @see JsonJobPatcher
+ * @since 3.0.1.Final
+ */
+public final class JsonJobPatcherTest {
+    private static final String JOB = "{\n" +
+            "  \"job\": {\n" +
+            "    \"id\": \"job1\",\n" +
+            "    \"restartable\": true,\n" +
+            "    \"properties\": { \"property\": { \"name\": \"jp1\", \"value\": \"v1\" } },\n" +
+            "    \"step\": [\n" +
+            "      {\n" +
+            "        \"id\": \"step1\",\n" +
+            "        \"next\": \"flow1\",\n" +
+            "        \"chunk\": {\n" +
+            "          \"item-count\": 10,\n" +
+            "          \"reader\": { \"ref\": \"reader1\" },\n" +
+            "          \"writer\": { \"ref\": \"writer1\" }\n" +
+            "        }\n" +
+            "      },\n" +
+            "      {\n" +
+            "        \"id\": \"step2\",\n" +
+            "        \"batchlet\": { \"ref\": \"batchlet1\" },\n" +
+            "        \"end\": { \"on\": \"COMPLETED\", \"exit-status\": \"DONE\" }\n" +
+            "      }\n" +
+            "    ],\n" +
+            "    \"flow\": {\n" +
+            "      \"id\": \"flow1\",\n" +
+            "      \"next\": \"decision1\",\n" +
+            "      \"step\": { \"id\": \"flow1.step1\", \"batchlet\": { \"ref\": \"batchlet1\" } }\n" +
+            "    },\n" +
+            "    \"decision\": {\n" +
+            "      \"id\": \"decision1\",\n" +
+            "      \"ref\": \"decider1\",\n" +
+            "      \"next\": { \"on\": \"*\", \"to\": \"step2\" }\n" +
+            "    }\n" +
+            "  }\n" +
+            "}";
+
+    private static final String XMLNS = " xmlns=\"https://jakarta.ee/xml/ns/jakartaee\" version=\"2.0\"";
+
+    @Test
+    public void toJsonRoundTrip() throws Exception {
+        final Job job = JsonJobMapper.toJob(JOB);
+        final String json = JsonJobMapper.toJson(job).toString();
+        assertEquals(json, JsonJobMapper.toJson(JsonJobMapper.toJob(json)).toString());
+    }
+
+    @Test
+    public void mergePatch() throws Exception {
+        final Job job = JsonJobMapper.toJob(JOB);
+        final Job patched = JsonJobPatcher.patch(job, JsonJobPatcher.MERGE_PATCH,
+                "{\"job\": {\"step\": {\"step1\": {\"chunk\": {\"item-count\": 50}}}}}");
+
+        assertNotSame(job, patched);
+        assertEquals("job1", patched.getId());
+        assertEquals("v1", patched.getProperties().get("jp1"));
+        assertEquals(4, patched.getJobElements().size());
+        assertEquals("50", ((Step) element(patched, "step1")).getChunk().getItemCount());
+        for (final String id : new String[]{"flow1", "step2", "decision1"}) {
+            assertSame(element(job, id), element(patched, id));
+        }
+        for (int i = 0; i < 4; i++) {
+            assertEquals(job.getJobElements().get(i).getId(), patched.getJobElements().get(i).getId());
+        }
+        assertEquals("10", ((Step) element(job, "step1")).getChunk().getItemCount());
+    }
+
+    @Test
+    public void unchanged() throws Exception {
+        final Job job = JsonJobMapper.toJob(JOB);
+        assertSame(job, JsonJobPatcher.patch(job, JsonJobPatcher.MERGE_PATCH, "{\"job\": {\"id\": \"job1\"}}"));
+        assertSame(job, JsonJobPatcher.patch(job, JsonJobPatcher.JSON_PATCH, "[]"));
+    }
+
+    @Test
+    public void jsonPatch() throws Exception {
+        final Job job = JsonJobMapper.toJob(JOB);
+        final String patch = "[\n" +
+                "  { \"op\": \"test\", \"path\": \"/job/step/step2/batchlet/ref\", \"value\": \"batchlet1\" },\n" +
+                "  { \"op\": \"replace\", \"path\": \"/job/step/step2/batchlet/ref\", \"value\": \"batchlet2\" },\n" +
+                "  { \"op\": \"add\", \"path\": \"/job/step/step3\", \"value\": { \"batchlet\": { \"ref\": \"batchlet3\" } } },\n" +
+                "  { \"op\": \"replace\", \"path\": \"/job/decision/decision1/next/0/to\", \"value\": \"step3\" }\n" +
+                "]";
+        final Job patched = JsonJobPatcher.patch(job, JsonJobPatcher.JSON_PATCH, patch);
+
+        assertEquals(5, patched.getJobElements().size());
+        assertSame(element(job, "flow1"), element(patched, "flow1"));
+        assertSame(element(job, "step1"), element(patched, "step1"));
+        assertEquals("batchlet2", ((Step) element(patched, "step2")).getBatchlet().getRef());
+        assertNotSame(element(job, "decision1"), element(patched, "decision1"));
+        assertTrue(element(patched, "decision1") instanceof Decision);
+        final Step step3 = (Step) patched.getJobElements().get(4);
+        assertEquals("step3", step3.getId());
+        assertEquals("batchlet3", step3.getBatchlet().getRef());
+    }
+
+    @Test
+    public void removeElement() throws Exception {
+        final Job job = JsonJobMapper.toJob(JOB);
+        final Job patched = JsonJobPatcher.patch(job, JsonJobPatcher.JSON_PATCH,
+                "[{ \"op\": \"remove\", \"path\": \"/job/flow/flow1/step/flow1.step1\" }," +
+                " { \"op\": \"add\", \"path\": \"/job/flow/flow1/step/flow1.step2\"," +
+                " \"value\": { \"batchlet\": { \"ref\": \"batchlet2\" } } }]");
+
+        final Flow flow = (Flow) element(patched, "flow1");
+        assertNotSame(element(job, "flow1"), flow);
+        assertEquals(1, flow.getJobElements().size());
+        assertEquals("flow1.step2", flow.getJobElements().get(0).getId());
+    }
+
+    @Test
+    public void failedPatches() throws Exception {
+        final Job job = JsonJobMapper.toJob(JOB);
+        assertThrows(IllegalArgumentException.class, () -> JsonJobPatcher.patch(job, JsonJobPatcher.JSON_PATCH,
+                "[{ \"op\": \"test\", \"path\": \"/job/step/step1/chunk/item-count\", \"value\": 20 }]"));
+        assertThrows(IllegalArgumentException.class, () -> JsonJobPatcher.patch(job, JsonJobPatcher.JSON_PATCH,
+                "[{ \"op\": \"remove\", \"path\": \"/job/step/step9\" }]"));
+        assertThrows(IllegalArgumentException.class, () -> JsonJobPatcher.patch(job, JsonJobPatcher.JSON_PATCH,
+                "[{ \"op\": \"copy\", \"path\": \"/job/step/step3\" }]"));
+        assertThrows(IllegalArgumentException.class, () -> JsonJobPatcher.patch(job, JsonJobPatcher.JSON_PATCH,
+                "{\"job\": {}}"));
+        assertThrows(IllegalArgumentException.class, () -> JsonJobPatcher.patch(job, "application/json", "{}"));
+
+        final IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> JsonJobPatcher.patch(job, JsonJobPatcher.MERGE_PATCH,
+                        "{\"job\": {\"step\": {\"step1\": {\"chunk\": {\"writer\": null}}}}}"));
+        assertTrue(e.getMessage().contains("writer"), e.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> JsonJobPatcher.patch(job, JsonJobPatcher.MERGE_PATCH,
+                "{\"job\": {\"step\": {\"step2\": null}}}"));
+        assertEquals(4, job.getJobElements().size());
+    }
+
+    @Test
+    public void keepUnchangedXmlContent() throws Exception {
+        final Job job = fromXml("<job id=\"job1\" restartable=\"#{jobParameters['restartable']}\"" + XMLNS + ">\n" +
+                "    <properties><property name=\"jp1\" value=\"v1\"/></properties>\n" +
+                "    <listeners><listener ref=\"jobListener1\"/></listeners>\n" +
+                "    <step id=\"step1\" start-limit=\"#{jobParameters['startLimit']}\"" +
+                " allow-start-if-complete=\"#{jobParameters['allowStart']}\">\n" +
+                "        <chunk item-count=\"#{jobParameters['itemCount']}\">\n" +
+                "            <reader ref=\"reader1\"/>\n" +
+                "            <writer ref=\"writer1\"/>\n" +
+                "        </chunk>\n" +
+                "        <partition><plan partitions=\"#{jobParameters['partitions']}\" threads=\"2\"/></partition>\n" +
+                "    </step>\n" +
+                "</job>");
+        final Job patched = JsonJobPatcher.patch(job, JsonJobPatcher.MERGE_PATCH,
+                "{\"job\": {\"step\": {\"step1\": {\"chunk\": {\"writer\": {\"ref\": \"writer2\"}}}}}}");
+
+        assertEquals("#{jobParameters['restartable']}", patched.getRestartable());
+        assertSame(job.getProperties(), patched.getProperties());
+        assertSame(job.getListeners(), patched.getListeners());
+        final Step step1 = (Step) element(patched, "step1");
+        assertEquals("writer2", step1.getChunk().getWriter().getRef());
+        assertEquals("#{jobParameters['startLimit']}", step1.getStartLimit());
+        assertEquals("#{jobParameters['allowStart']}", step1.getAllowStartIfComplete());
+        assertEquals("#{jobParameters['itemCount']}", step1.getChunk().getItemCount());
+        assertEquals("#{jobParameters['partitions']}", step1.getPartition().getPlan().getPartitions());
+        assertEquals("2", step1.getPartition().getPlan().getThreads());
+
+        final Job patchedAgain = JsonJobPatcher.patch(patched, JsonJobPatcher.MERGE_PATCH,
+                "{\"job\": {\"restartable\": false}}");
+        assertEquals("false", patchedAgain.getRestartable());
+        assertSame(job.getProperties(), patchedAgain.getProperties());
+        assertSame(step1, element(patchedAgain, "step1"));
+    }
+
+    @Test
+    public void rejectScripts() throws Exception {
+        final Job job = fromXml("<job id=\"job1\"" + XMLNS + ">\n" +
+                "    <listeners><listener><script type=\"javascript\">print('jobListener1')</script></listener></listeners>\n" +
+                "    <step id=\"step1\" next=\"flow1\">\n" +
+                "        <batchlet><script type=\"javascript\">print('step1')</script></batchlet>\n" +
+                "    </step>\n" +
+                "    <flow id=\"flow1\" next=\"step2\">\n" +
+                "        <step id=\"flow1.step1\" next=\"flow1.step2\">\n" +
+                "            <batchlet><script type=\"javascript\">print('flow1.step1')</script></batchlet>\n" +
+                "        </step>\n" +
+                "        <step id=\"flow1.step2\"><batchlet ref=\"batchlet1\"/></step>\n" +
+                "    </flow>\n" +
+                "    <step id=\"step2\">\n" +
+                "        <batchlet ref=\"batchlet1\"/>\n" +
+                "        <listeners><listener><script type=\"javascript\">print('step2')</script></listener></listeners>\n" +
+                "    </step>\n" +
+                "</job>");
+        final String[][] patches = {
+                {"job1", "{\"job\": {\"listeners\": {\"listener\": [{\"ref\": \"jobListener2\"}]}}}"},
+                {"step1", "{\"job\": {\"step\": {\"step1\": {\"start-limit\": 2}}}}"},
+                {"flow1.step1", "{\"job\": {\"flow\": {\"flow1\": {\"step\": {\"flow1.step2\": {\"start-limit\": 2}}}}}}"},
+                {"step2", "{\"job\": {\"step\": {\"step2\": {\"batchlet\": {\"ref\": \"batchlet2\"}}}}}"}
+        };
+        for (final String[] patch : patches) {
+            final IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> JsonJobPatcher.patch(job, JsonJobPatcher.MERGE_PATCH, patch[1]));
+            assertTrue(e.getMessage().contains(patch[0] + " cannot be patched"), e.getMessage());
+        }
+    }
+
+    private static Job fromXml(final String xml) {
+        return JobDefinitionMappers.getMapper(JobDefinitionMappers.APPLICATION_XML).toJob(xml);
+    }
+
+    private static JobElement element(final Job job, final String id) {
+        for (final JobElement e : job.getJobElements()) {
+            if (e.getId().equals(id)) {
+                return e;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.commons.util;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests to verify structural errors in JSON job definition content are all
+ * reported at once.
+ *
+ * @see JsonJobValidator
+ * @since 3.0.1.Final
+ */
+public final class JsonJobValidatorTest {
+    @Test
+    public void validJob() throws Exception {
+        String json = "{\n" +
+                "  \"job\": {\n" +
+                "    \"id\": \"job1\",\n" +
+                "    \"properties\": { \"property\": { \"name\": \"a\", \"value\": \"1\" } },\n" +
+                "    \"step\": [\n" +
+                "      {\n" +
+                "        \"id\": \"step1\",\n" +
+                "        \"next\": \"flow1\",\n" +
+                "        \"chunk\": {\n" +
+                "          \"reader\": { \"ref\": \"arrayItemReader\" },\n" +
+                "          \"writer\": { \"ref\": \"mockItemWriter\" }\n" +
+                "        }\n" +
+                "      },\n" +
+                "      {\n" +
+                "        \"id\": \"step2\",\n" +
+                "        \"batchlet\": { \"ref\": \"batchlet1\" },\n" +
+                "        \"partition\": {\n" +
+                "          \"plan\": {\n" +
+                "            \"partitions\": 2,\n" +
+                "            \"properties\": [\n" +
+                "              { \"property\": { \"name\": \"p\", \"value\": \"0\" } },\n" +
+                "              { \"property\": { \"name\": \"p\", \"value\": \"1\" } }\n" +
+                "            ]\n" +
+                "          }\n" +
+                "        }\n" +
+                "      }\n" +
+                "    ],\n" +
+                "    \"flow\": {\n" +
+                "      \"id\": \"flow1\",\n" +
+                "      \"next\": \"decision1\",\n" +
+                "      \"step\": { \"id\": \"flow1.step1\", \"batchlet\": { \"ref\": \"batchlet1\" } }\n" +
+                "    },\n" +
+                "    \"decision\": {\n" +
+                "      \"id\": \"decision1\",\n" +
+                "      \"ref\": \"decider1\",\n" +
+                "      \"next\": { \"on\": \"next\", \"to\": \"step2\" },\n" +
+                "      \"stop\": { \"on\": \"stop\", \"restart\": \"step1\" }\n" +
+                "    }\n" +
+                "  }\n" +
+                "}";
+        assertTrue(JsonJobValidator.validate(json).isEmpty());
+    }
+
+    @Test
+    public void invalidJson() throws Exception {
+        final List<String> errors = JsonJobValidator.validate("{\"job\": ");
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).contains("Invalid JSON"), errors.get(0));
+    }
+
+    @Test
+    public void missingJob() throws Exception {
+        final List<String> errors = JsonJobValidator.validate("{\"step\": {\"id\": \"step1\"}}");
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).endsWith(": missing 'job'"), errors.get(0));
+    }
+
+    @Test
+    public void allErrorsReported() throws Exception {
+        String json = "{\n" +
+                "  \"job\": {\n" +
+                "    \"step\": [\n" +
+                "      {\n" +
+                "        \"next\": \"step2\",\n" +
+                "        \"chunk\": {\n" +
+                "          \"reader\": { \"ref\": \"arrayItemReader\" }\n" +
+                "        }\n" +
+                "      },\n" +
+                "      {\n" +
+                "        \"id\": \"step1\",\n" +
+                "        \"batchlet\": { },\n" +
+                "        \"next\": { \"on\": \"*\", \"to\": \"flow1.step1\" },\n" +
+                "        \"stop\": { \"on\": \"STOPPED\", \"restart\": \"flow1.step1\" }\n" +
+                "      }\n" +
+                "    ],\n" +
+                "    \"flow\": {\n" +
+                "      \"id\": \"flow1\",\n" +
+                "      \"step\": { \"id\": \"flow1.step1\", \"next\": \"step1\", \"batchlet\": { \"ref\": \"b\" } }\n" +
+                "    },\n" +
+                "    \"decision\": { \"id\": \"step1\" }\n" +
+                "  }\n" +
+                "}";
+        final List<String> errors = JsonJobValidator.validate(json);
+        assertEquals(List.of(
+                "/job: missing 'id'",
+                "/job/step/0: missing 'id'",
+                "/job/step/0/chunk: missing 'writer'",
+                "/job/step/1/batchlet: missing 'ref'",
+                "/job/flow/step: transition to 'step1', which is not a step, flow, split or decision in the same scope",
+                "/job/decision: duplicate id 'step1'",
+                "/job/decision: missing 'ref'",
+                "/job/step/0: transition to 'step2', which is not a step, flow, split or decision in the same scope",
+                "/job/step/1/next: transition to 'flow1.step1', which is not a step, flow, split or decision in the same scope",
+                "/job/step/1/stop: restart from 'flow1.step1', which is not a job-level step, flow, split or decision"),
+                errors.stream().map(e -> e.substring(e.indexOf(':') + 1).trim()).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void partitionProperties() throws Exception {
+        String json = "{\n" +
+                "  \"job\": {\n" +
+                "    \"id\": \"job1\",\n" +
+                "    \"step\": {\n" +
+                "      \"id\": \"step1\",\n" +
+                "      \"batchlet\": { \"ref\": \"batchlet1\" },\n" +
+                "      \"partition\": {\n" +
+                "        \"plan\": {\n" +
+                "          \"properties-table\": { \"names\": [\"start\", \"end\"], \"values\": [[0, 999], [1000]] },\n" +
+                "          \"properties-template\": { \"property\": { \"name\": \"shard\" } }\n" +
+                "        }\n" +
+                "      }\n" +
+                "    }\n" +
+                "  }\n" +
+                "}";
+        final List<String> errors = JsonJobValidator.validate(json);
+        assertEquals(4, errors.size(), errors.toString());
+        final String plan = "/job/step/partition/plan";
+        assertTrue(errors.get(0).contains(plan + "/properties-table/values/1:"), errors.get(0));
+        assertTrue(errors.get(1).contains(plan + "/properties-template/property:"), errors.get(1));
+        assertTrue(errors.get(2).contains(plan + ":") && errors.get(2).contains("partitions"), errors.get(2));
+        assertTrue(errors.get(3).contains(plan + ":") && errors.get(3).contains("only one"), errors.get(3));
+    }
+}
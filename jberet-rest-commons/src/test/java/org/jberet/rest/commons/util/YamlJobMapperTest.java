@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.commons.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import org.jberet.job.model.Job;
+import org.jberet.job.model.Step;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the tests of {@link JsonJobMapperTest} with the JSON job definitions
+ * converted to YAML, and mapped by the YAML {@link JobDefinitionMapper}.
+ *
+ * @since 3.0.1.Final
+ */
+public final class YamlJobMapperTest extends JsonJobMapperTest {
+    private static final ObjectMapper jsonMapper = new ObjectMapper();
+
+    private static final YAMLMapper yamlMapper = new YAMLMapper();
+
+    @Override
+    protected Job toJob(final String json) throws Exception {
+        final String yaml = yamlMapper.writeValueAsString(jsonMapper.readTree(json));
+        return JobDefinitionMappers.getMapper(JobDefinitionMappers.APPLICATION_YAML).toJob(yaml);
+    }
+
+    @Test
+    public void unquotedScalars() throws Exception {
+        String yaml = "job:\n" +
+                "  id: job1\n" +
+                "  restartable: false\n" +
+                "  step:\n" +
+                "    id: step1\n" +
+                "    properties:\n" +
+                "      property:\n" +
+                "        - name: count\n" +
+                "          value: 10\n" +
+                "        - name: enabled\n" +
+                "          value: true\n" +
+                "    chunk:\n" +
+                "      item-count: 5\n" +
+                "      reader: {ref: reader1}\n" +
+                "      writer: {ref: writer1}\n";
+        final Job job = JobDefinitionMappers.getMapper("application/x-yaml").toJob(yaml);
+        assertEquals("job1", job.getId());
+        assertEquals("false", job.getRestartable());
+        final Step step = (Step) job.getJobElements().get(0);
+        assertEquals("10", step.getProperties().get("count"));
+        assertEquals("true", step.getProperties().get("enabled"));
+        assertEquals("5", step.getChunk().getItemCount());
+        assertEquals("reader1", step.getChunk().getReader().getRef());
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.entity;
+
+import jakarta.batch.operations.JobStartException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests to verify the bounded stack trace text of {@link BatchExceptionEntity}.
+ *
+ * @since 3.0.1.Final
+ */
+public final class BatchExceptionEntityTest {
+    @Test
+    public void suppressedExceptions() {
+        final JobStartException ex = new JobStartException("start", new IllegalStateException("cause"));
+        ex.addSuppressed(new IllegalArgumentException("suppressed"));
+        final String stackTrace = new BatchExceptionEntity(ex, true, 1, 0).getStackTrace();
+
+        assertTrue(stackTrace.startsWith(ex.toString()), stackTrace);
+        assertTrue(stackTrace.contains("\tSuppressed: java.lang.IllegalArgumentException: suppressed"), stackTrace);
+        assertTrue(stackTrace.contains("Caused by: java.lang.IllegalStateException: cause"), stackTrace);
+        assertEquals(3, stackTrace.split("\tat ").length - 1, stackTrace);
+    }
+
+    @Test
+    public void causeLoop() {
+        final IllegalStateException cause = new IllegalStateException("cause");
+        final JobStartException ex = new JobStartException("start", cause);
+        cause.initCause(ex);
+        final String stackTrace = new BatchExceptionEntity(ex, true, 2, 0).getStackTrace();
+
+        assertTrue(stackTrace.startsWith(ex.toString()), stackTrace);
+        assertTrue(stackTrace.contains("Caused by: java.lang.IllegalStateException: cause"), stackTrace);
+        assertTrue(stackTrace.contains("Caused by: [CIRCULAR REFERENCE: " + ex + "]"), stackTrace);
+        assertEquals(4, stackTrace.split("\tat ").length - 1, stackTrace);
+    }
+
+    @Test
+    public void maxLength() {
+        final JobStartException ex = new JobStartException("start", new IllegalStateException("cause"));
+        assertEquals(20, new BatchExceptionEntity(ex, true, 0, 20).getStackTrace().length());
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import jakarta.batch.runtime.JobExecution;
+
+import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.runtime.JobInstanceImpl;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests to verify cursor-based paging of job executions returned from the job
+ * repository in no particular order.
+ *
+ * @see JobExecutionPaging
+ * @since 3.0.1.Final
+ */
+public final class JobExecutionPagingTest {
+    @Test
+    public void unorderedJobExecutions() {
+        final List<JobExecution> jobExecutions = jobExecutions(7, 2, 9, 1, 5, 8, 3);
+
+        assertEquals(List.of(5L, 3L), ids(JobExecutionPaging.before(jobExecutions, 7, 2)));
+        assertEquals(List.of(8L, 7L, 5L, 3L, 2L, 1L), ids(JobExecutionPaging.before(jobExecutions, 9, 0)));
+        assertEquals(List.of(9L, 8L, 7L), ids(JobExecutionPaging.before(jobExecutions, Long.MAX_VALUE, 3)));
+        assertEquals(List.of(2L, 1L), ids(JobExecutionPaging.before(jobExecutions, 3, 10)));
+        assertTrue(JobExecutionPaging.before(jobExecutions, 1, 10).isEmpty());
+    }
+
+    private static List<JobExecution> jobExecutions(final long... ids) {
+        final JobInstanceImpl jobInstance = new JobInstanceImpl(null, null, "job1");
+        final List<JobExecution> jobExecutions = new ArrayList<>();
+        for (final long id : ids) {
+            jobExecutions.add(new JobExecutionImpl(jobInstance, id, null, null, null, null, null,
+                    "COMPLETED", "COMPLETED", null));
+        }
+        return jobExecutions;
+    }
+
+    private static List<Long> ids(final List<JobExecution> jobExecutions) {
+        final List<Long> ids = new ArrayList<>();
+        for (final JobExecution e : jobExecutions) {
+            ids.add(e.getExecutionId());
+        }
+        return ids;
+    }
+}
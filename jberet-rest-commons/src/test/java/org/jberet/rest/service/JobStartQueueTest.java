@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.jberet.rest.entity.JobExecutionEntity;
+import org.jberet.rest.entity.QueuedJobEntity;
+import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.runtime.JobInstanceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests to verify queued job start requests are dispatched in the order of priority
+ * and then arrival, under the limit of running job executions.
+ *
+ * @see JobStartQueue
+ * @since 3.0.1.Final
+ */
+public final class JobStartQueueTest {
+    private final List<String> started = new ArrayList<>();
+
+    private final Set<Long> finished = new HashSet<>();
+
+    private JobStartQueue queue;
+
+    @BeforeEach
+    public void setUp() {
+        queue = new JobStartQueue(2, 4, task -> { }, finished::contains);
+    }
+
+    @Test
+    public void priorityAndArrivalOrder() {
+        final QueuedJobEntity low1 = offer("low1", JobStartQueue.Priority.LOW);
+        offer("normal1", JobStartQueue.Priority.NORMAL);
+        offer("high1", JobStartQueue.Priority.HIGH);
+        offer("normal2", JobStartQueue.Priority.NORMAL);
+        assertNull(offer("high2", JobStartQueue.Priority.HIGH));
+        assertEquals(List.of("high1", "normal1", "normal2", "low1"), jobNames(queue.getQueuedJobs()));
+
+        queue.dispatch();
+        assertEquals(List.of("high1", "normal1"), started);
+        assertEquals(List.of("normal2", "low1"), jobNames(queue.getQueuedJobs()));
+
+        offer("high3", JobStartQueue.Priority.HIGH);
+        queue.dispatch();
+        assertEquals(2, started.size());
+
+        finished.add(1L);
+        queue.dispatch();
+        assertEquals(List.of("high1", "normal1", "high3"), started);
+        assertEquals(List.of("normal2", "low1"), jobNames(queue.getQueuedJobs()));
+        assertEquals(JobStartQueue.Status.QUEUED.name(), queue.getQueuedJob(low1.getId()).getStatus());
+
+        finished.add(2L);
+        finished.add(3L);
+        queue.dispatch();
+        assertEquals(List.of("high1", "normal1", "high3", "normal2", "low1"), started);
+        final QueuedJobEntity low1Started = queue.getQueuedJob(low1.getId());
+        assertEquals(JobStartQueue.Status.STARTED.name(), low1Started.getStatus());
+        assertEquals(5, low1Started.getJobExecutionId());
+    }
+
+    @Test
+    public void failedStart() {
+        final QueuedJobEntity failed = queue.offer("failed", null, JobStartQueue.Priority.HIGH,
+                () -> {
+                    throw new NoClassDefFoundError("batchlet1");
+                });
+        offer("normal1", JobStartQueue.Priority.NORMAL);
+
+        queue.dispatch();
+        final QueuedJobEntity result = queue.getQueuedJob(failed.getId());
+        assertEquals(JobStartQueue.Status.FAILED.name(), result.getStatus());
+        assertTrue(result.getError().contains("batchlet1"), result.getError());
+        assertEquals(List.of("normal1"), started);
+        assertEquals(0, queue.getQueuedJobs().length);
+    }
+
+    @Test
+    public void cancel() {
+        final QueuedJobEntity normal1 = offer("normal1", JobStartQueue.Priority.NORMAL);
+        offer("normal2", JobStartQueue.Priority.NORMAL);
+        assertEquals(JobStartQueue.Status.CANCELLED.name(), queue.cancel(normal1.getId()).getStatus());
+
+        queue.dispatch();
+        assertEquals(List.of("normal2"), started);
+        assertEquals(JobStartQueue.Status.CANCELLED.name(), queue.getQueuedJob(normal1.getId()).getStatus());
+    }
+
+    @Test
+    public void coalescedDispatch() {
+        final List<Runnable> tasks = new ArrayList<>();
+        queue = new JobStartQueue(2, 4, tasks::add, finished::contains);
+        offer("normal1", JobStartQueue.Priority.NORMAL);
+        offer("normal2", JobStartQueue.Priority.NORMAL);
+        offer("normal3", JobStartQueue.Priority.NORMAL);
+        assertEquals(1, tasks.size());
+
+        tasks.get(0).run();
+        assertEquals(List.of("normal1", "normal2"), started);
+        offer("normal4", JobStartQueue.Priority.NORMAL);
+        assertEquals(2, tasks.size());
+    }
+
+    @Test
+    public void repositoryFailure() {
+        final boolean[] unavailable = {true};
+        queue = new JobStartQueue(1, 4, task -> { }, jobExecutionId -> {
+            if (unavailable[0]) {
+                throw new IllegalStateException("job repository unavailable");
+            }
+            return finished.contains(jobExecutionId);
+        });
+        offer("normal1", JobStartQueue.Priority.NORMAL);
+        offer("normal2", JobStartQueue.Priority.NORMAL);
+        queue.dispatch();
+        assertEquals(List.of("normal1"), started);
+
+        finished.add(1L);
+        queue.dispatch();
+        assertEquals(List.of("normal1"), started);
+
+        unavailable[0] = false;
+        queue.dispatch();
+        assertEquals(List.of("normal1", "normal2"), started);
+    }
+
+    private QueuedJobEntity offer(final String jobName, final JobStartQueue.Priority priority) {
+        return queue.offer(jobName, new Properties(), priority, starter(jobName));
+    }
+
+    private Supplier<JobExecutionEntity> starter(final String jobName) {
+        return () -> {
+            started.add(jobName);
+            final JobInstanceImpl jobInstance = new JobInstanceImpl(null, null, jobName);
+            return new JobExecutionEntity(new JobExecutionImpl(jobInstance, started.size(), null,
+                    null, null, null, null, "STARTED", null, null), started.size());
+        };
+    }
+
+    private static List<String> jobNames(final QueuedJobEntity[] queuedJobs) {
+        final List<String> jobNames = new ArrayList<>();
+        for (final QueuedJobEntity e : queuedJobs) {
+            jobNames.add(e.getJobName());
+        }
+        return jobNames;
+    }
+}
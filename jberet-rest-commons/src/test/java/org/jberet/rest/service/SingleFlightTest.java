@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests to verify concurrent identical operations are coalesced, and operations
+ * are performed again once completed or cleared.
+ *
+ * @see SingleFlight
+ * @since 3.0.1.Final
+ */
+public final class SingleFlightTest {
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    public void concurrentCallersShareResult() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final String[] result = {"a"};
+        final CompletableFuture<String[]> first = execute("op", 1, blocking(release, result));
+        awaitInFlight();
+        final Thread[] joiner = new Thread[1];
+        final CompletableFuture<String[]> second = CompletableFuture.supplyAsync(() -> {
+            joiner[0] = Thread.currentThread();
+            return singleFlight.execute("op", new Object[]{1}, this::notExpected, String[]::clone);
+        });
+        awaitWaiting(second, joiner);
+
+        release.countDown();
+        assertSame(result, first.get(5, TimeUnit.SECONDS));
+        final String[] joined = second.get(5, TimeUnit.SECONDS);
+        assertNotSame(result, joined);
+        assertArrayEquals(result, joined);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void differentKeysAndCompletedOperations() {
+        assertEquals("1", singleFlight.execute("op", new Object[]{1}, counting("1"), s -> s));
+        assertEquals("2", singleFlight.execute("op", new Object[]{2}, counting("2"), s -> s));
+        assertEquals("3", singleFlight.execute("other", new Object[]{1}, counting("3"), s -> s));
+        assertEquals("4", singleFlight.execute("op", new Object[]{1}, counting("4"), s -> s));
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    public void clearedOperationIsPerformedAgain() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final String[] stale = {"stale"};
+        final CompletableFuture<String[]> first = execute("op", 1, blocking(release, stale));
+        awaitInFlight();
+
+        singleFlight.clear();
+        final String[] fresh = singleFlight.execute("op", new Object[]{1}, () -> new String[]{"fresh"}, String[]::clone);
+        assertArrayEquals(new String[]{"fresh"}, fresh);
+
+        release.countDown();
+        assertSame(stale, first.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void exceptionIsPropagated() {
+        final IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> singleFlight.execute("op", new Object[]{1}, () -> {
+                    throw new IllegalStateException("op failed");
+                }, s -> s));
+        assertEquals("op failed", e.getMessage());
+        assertEquals("1", singleFlight.execute("op", new Object[]{1}, counting("1"), s -> s));
+    }
+
+    private CompletableFuture<String[]> execute(final String operation, final Object arg,
+                                                final Supplier<String[]> supplier) {
+        return CompletableFuture.supplyAsync(() ->
+                singleFlight.execute(operation, new Object[]{arg}, supplier, String[]::clone));
+    }
+
+    private Supplier<String[]> blocking(final CountDownLatch release, final String[] result) {
+        return () -> {
+            calls.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return result;
+        };
+    }
+
+    private Supplier<String> counting(final String result) {
+        return () -> {
+            calls.incrementAndGet();
+            return result;
+        };
+    }
+
+    private String[] notExpected() {
+        throw new AssertionError("operation in flight should be joined");
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        for (int i = 0; i < 500 && calls.get() == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, calls.get());
+    }
+
+    private static void awaitWaiting(final CompletableFuture<?> future, final Thread[] thread) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            final Thread t = thread[0];
+            if (t != null && (t.getState() == Thread.State.WAITING || t.getState() == Thread.State.TIMED_WAITING)) {
+                return;
+            }
+            assertFalse(future.isDone());
+            Thread.sleep(10);
+        }
+        fail("caller did not join the operation in flight");
+    }
+}
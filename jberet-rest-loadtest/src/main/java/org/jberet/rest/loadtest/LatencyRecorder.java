@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Records request latencies and errors of one endpoint. Each instance is used by a
+ * single worker thread, and the recorders of all workers are merged after the test.
+ *
+ * @since 3.0.1.Final
+ */
+final class LatencyRecorder {
+    private long[] latencies = new long[1024];
+    private int size;
+    private long errors;
+
+    /**
+     * Records the latency of a successful request.
+     *
+     * @param nanos latency in nanoseconds
+     */
+    void record(final long nanos) {
+        if (size == latencies.length) {
+            latencies = Arrays.copyOf(latencies, size * 2);
+        }
+        latencies[size++] = nanos;
+    }
+
+    /**
+     * Records a failed request.
+     */
+    void recordError() {
+        errors++;
+    }
+
+    /**
+     * Merges the recorded latencies and errors of another recorder into this one.
+     *
+     * @param other the recorder to merge
+     */
+    void merge(final LatencyRecorder other) {
+        if (size + other.size > latencies.length) {
+            latencies = Arrays.copyOf(latencies, size + other.size);
+        }
+        System.arraycopy(other.latencies, 0, latencies, size, other.size);
+        size += other.size;
+        errors += other.errors;
+    }
+
+    int count() {
+        return size;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    /**
+     * Gets the latencies at the specified percentiles. Sorts the recorded latencies,
+     * and so must be called after all latencies are recorded.
+     *
+     * @param percentiles percentiles between 0 and 100
+     * @return latencies in nanoseconds, or 0 if nothing is recorded
+     */
+    long[] percentiles(final double... percentiles) {
+        Arrays.sort(latencies, 0, size);
+        final long[] result = new long[percentiles.length];
+        if (size == 0) {
+            return result;
+        }
+        for (int i = 0; i < percentiles.length; i++) {
+            final int rank = (int) Math.ceil(percentiles[i] / 100 * size);
+            result[i] = latencies[Math.min(Math.max(rank, 1), size) - 1];
+        }
+        return result;
+    }
+}
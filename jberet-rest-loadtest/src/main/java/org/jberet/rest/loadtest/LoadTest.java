@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.loadtest;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import jakarta.ws.rs.client.WebTarget;
+
+import org.jberet.rest.client.BatchClient;
+import org.jberet.rest.entity.JobExecutionEntity;
+import org.jboss.resteasy.plugins.server.undertow.UndertowJaxrsServer;
+
+/**
+ * Load test of jberet-rest-api. Unless an external REST URL is specified, boots the
+ * REST API in an embedded RESTEasy and Undertow server over the jberet SE runtime
+ * with in-memory job repository, drives it with {@link BatchClient} from a number of
+ * concurrent workers, and reports throughput and latency percentiles per endpoint.
+ * <p>
+ * The load test is configured with the following system properties:
+ * <ul>
+ *     <li>{@code loadtest.url}: REST URL of an already running server; if not set,
+ *     the embedded server is started
+ *     <li>{@code loadtest.port}: port of the embedded server (default 8080)
+ *     <li>{@code loadtest.concurrency}: number of concurrent workers, each with its own
+ *     {@code BatchClient} and connection (default 16)
+ *     <li>{@code loadtest.warmup}: warmup duration in seconds, whose requests are not
+ *     included in the results (default 10)
+ *     <li>{@code loadtest.duration}: measurement duration in seconds (default 30)
+ *     <li>{@code loadtest.mix}: relative weight of each endpoint, for example
+ *     {@code start=1,list=4} (default {@code start=1,list=1})
+ *     <li>{@code loadtest.jobName}: job to start (default {@value #DEFAULT_JOB_NAME})
+ *     <li>{@code loadtest.listCount}: value of {@code count} query parameter when
+ *     listing job executions (default 100)
+ * </ul>
+ * System properties of jberet-rest-api, for example, {@code org.jberet.rest.virtualThreads},
+ * apply to the embedded server.
+ *
+ * @since 3.0.1.Final
+ */
+public final class LoadTest {
+    static final String DEFAULT_JOB_NAME = "loadtest-job";
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 100};
+
+    /**
+     * Endpoints driven by the load test.
+     */
+    enum Endpoint {
+        START("POST /jobs/{jobXmlName}/start"),
+        LIST("GET /jobexecutions");
+
+        private final String description;
+
+        Endpoint(final String description) {
+            this.description = description;
+        }
+    }
+
+    private LoadTest() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final String url = System.getProperty("loadtest.url");
+        final int port = Integer.getInteger("loadtest.port", 8080);
+        final int concurrency = Integer.getInteger("loadtest.concurrency", 16);
+        final int warmup = Integer.getInteger("loadtest.warmup", 10);
+        final int duration = Integer.getInteger("loadtest.duration", 30);
+        final Endpoint[] mix = parseMix(System.getProperty("loadtest.mix", "start=1,list=1"));
+        final String jobName = System.getProperty("loadtest.jobName", DEFAULT_JOB_NAME);
+        final int listCount = Integer.getInteger("loadtest.listCount", 100);
+
+        UndertowJaxrsServer server = null;
+        final String restUrl;
+        if (url == null) {
+            server = new UndertowJaxrsServer().setHostname("localhost").setPort(port).start();
+            server.deploy(LoadTestApplication.class, "/");
+            restUrl = "http://localhost:" + port + "/api";
+        } else {
+            restUrl = url;
+        }
+        System.out.printf("REST URL: %s%nConcurrency: %d, warmup: %ds, duration: %ds, virtual threads: %s%n",
+                restUrl, concurrency, warmup, duration, Boolean.getBoolean("org.jberet.rest.virtualThreads"));
+
+        final long measureStart = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmup);
+        final long measureEnd = measureStart + TimeUnit.SECONDS.toNanos(duration);
+        final List<Worker> workers = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            final Worker worker = new Worker(new BatchClient(restUrl), mix, i, jobName, listCount,
+                    measureStart, measureEnd);
+            worker.setName("loadtest-worker-" + i);
+            workers.add(worker);
+            worker.start();
+        }
+
+        final Map<Endpoint, LatencyRecorder> results = new EnumMap<>(Endpoint.class);
+        for (final Endpoint endpoint : Endpoint.values()) {
+            results.put(endpoint, new LatencyRecorder());
+        }
+        for (final Worker worker : workers) {
+            worker.join();
+            worker.batchClient.getClient().close();
+            for (final Endpoint endpoint : Endpoint.values()) {
+                results.get(endpoint).merge(worker.recorders.get(endpoint));
+            }
+        }
+        report(results, duration);
+
+        if (server != null) {
+            server.stop();
+        }
+        System.exit(0);
+    }
+
+    private static void report(final Map<Endpoint, LatencyRecorder> results, final int duration) {
+        System.out.printf("%n%-32s %10s %8s %12s %10s %10s %10s %10s %10s%n", "Endpoint", "Requests", "Errors",
+                "Req/s", "p50 (ms)", "p90 (ms)", "p99 (ms)", "p99.9 (ms)", "max (ms)");
+        for (final Map.Entry<Endpoint, LatencyRecorder> e : results.entrySet()) {
+            final LatencyRecorder recorder = e.getValue();
+            if (recorder.count() == 0 && recorder.errors() == 0) {
+                continue;
+            }
+            final long[] p = recorder.percentiles(PERCENTILES);
+            System.out.printf("%-32s %10d %8d %12.1f %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+                    e.getKey().description, recorder.count(), recorder.errors(),
+                    (double) recorder.count() / duration,
+                    p[0] / 1e6, p[1] / 1e6, p[2] / 1e6, p[3] / 1e6, p[4] / 1e6);
+        }
+    }
+
+    /**
+     * Parses the endpoint mix, such as {@code start=1,list=4}, into a sequence of
+     * endpoints that workers cycle through.
+     *
+     * @param mix the endpoint mix
+     * @return endpoint sequence, in which each endpoint occurs as many times as its weight
+     */
+    static Endpoint[] parseMix(final String mix) {
+        final List<Endpoint> result = new ArrayList<>();
+        for (final String entry : mix.split(",")) {
+            final String[] nameAndWeight = entry.trim().split("=");
+            final Endpoint endpoint = Endpoint.valueOf(nameAndWeight[0].trim().toUpperCase());
+            final int weight = nameAndWeight.length > 1 ? Integer.parseInt(nameAndWeight[1].trim()) : 1;
+            for (int i = 0; i < weight; i++) {
+                result.add(endpoint);
+            }
+        }
+        if (result.isEmpty()) {
+            throw new IllegalArgumentException("No endpoint in loadtest.mix: " + mix);
+        }
+        return result.toArray(new Endpoint[0]);
+    }
+
+    /**
+     * Worker thread that sends requests in a closed loop until the end of the test.
+     */
+    private static final class Worker extends Thread {
+        private final BatchClient batchClient;
+        private final Endpoint[] mix;
+        private final int offset;
+        private final String jobName;
+        private final WebTarget listTarget;
+        private final long measureStart;
+        private final long measureEnd;
+        private final Map<Endpoint, LatencyRecorder> recorders = new EnumMap<>(Endpoint.class);
+
+        private Worker(final BatchClient batchClient, final Endpoint[] mix, final int offset,
+                       final String jobName, final int listCount, final long measureStart, final long measureEnd) {
+            this.batchClient = batchClient;
+            this.mix = mix;
+            this.offset = offset;
+            this.jobName = jobName;
+            final URI listUri = batchClient.getJobExecutionUriBuilder(null).queryParam("count", listCount).build();
+            this.listTarget = batchClient.target(listUri);
+            this.measureStart = measureStart;
+            this.measureEnd = measureEnd;
+            for (final Endpoint endpoint : Endpoint.values()) {
+                recorders.put(endpoint, new LatencyRecorder());
+            }
+        }
+
+        @Override
+        public void run() {
+            final Properties jobParameters = new Properties();
+            boolean errorReported = false;
+            //start workers at different positions of the mix to spread endpoints over time
+            for (int i = offset; ; i++) {
+                final Endpoint endpoint = mix[i % mix.length];
+                final long start = System.nanoTime();
+                if (start - measureEnd >= 0) {
+                    return;
+                }
+                boolean success = true;
+                try {
+                    switch (endpoint) {
+                        case START:
+                            batchClient.startJob(jobName, jobParameters);
+                            break;
+                        case LIST:
+                            listTarget.request().get(JobExecutionEntity[].class);
+                            break;
+                        default:
+                            throw new IllegalStateException(endpoint.name());
+                    }
+                } catch (Exception e) {
+                    success = false;
+                    if (!errorReported) {
+                        errorReported = true;
+                        System.err.printf("%s: first error of %s: %s%n", getName(), endpoint.description, e);
+                    }
+                }
+                final long end = System.nanoTime();
+                if (start - measureStart >= 0 && end - measureEnd < 0) {
+                    if (success) {
+                        recorders.get(endpoint).record(end - start);
+                    } else {
+                        recorders.get(endpoint).recordError();
+                    }
+                }
+            }
+        }
+    }
+}
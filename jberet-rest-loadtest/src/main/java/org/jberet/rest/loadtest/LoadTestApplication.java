@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.loadtest;
+
+import java.util.Set;
+import jakarta.ws.rs.ApplicationPath;
+import jakarta.ws.rs.core.Application;
+
+import org.jberet.rest.exception.BatchExceptionMapper;
+import org.jberet.rest.resource.JobDefinitionResource;
+import org.jberet.rest.resource.JobExecutionResource;
+import org.jberet.rest.resource.JobInstanceResource;
+import org.jberet.rest.resource.JobResource;
+import org.jberet.rest.resource.JobScheduleResource;
+
+/**
+ * JAX-RS application with the resources and providers of jberet-rest-api,
+ * deployed to the embedded server of the load test.
+ *
+ * @since 3.0.1.Final
+ */
+@ApplicationPath("/api")
+public class LoadTestApplication extends Application {
+    @Override
+    public Set<Class<?>> getClasses() {
+        return Set.of(JobResource.class,
+                JobInstanceResource.class,
+                JobExecutionResource.class,
+                JobScheduleResource.class,
+                JobDefinitionResource.class,
+                BatchExceptionMapper.class);
+    }
+}
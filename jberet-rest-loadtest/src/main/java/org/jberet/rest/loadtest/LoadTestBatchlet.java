@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.rest.loadtest;
+
+import jakarta.batch.api.AbstractBatchlet;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Named;
+
+/**
+ * Batchlet that completes immediately, so that the load test measures the REST
+ * layer and job repository rather than job processing.
+ *
+ * @since 3.0.1.Final
+ */
+@Named
+@Dependent
+public class LoadTestBatchlet extends AbstractBatchlet {
+    @Override
+    public String process() {
+        return BatchStatus.COMPLETED.name();
+    }
+}